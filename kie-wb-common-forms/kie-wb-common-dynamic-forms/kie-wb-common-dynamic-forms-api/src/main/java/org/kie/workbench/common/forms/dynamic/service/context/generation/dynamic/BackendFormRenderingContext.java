@@ -27,7 +27,8 @@ import org.kie.workbench.common.forms.dynamic.service.shared.impl.MapModelRender
 public interface BackendFormRenderingContext extends Serializable {
 
     /**
-     * Retrieves the timestamp when the context was created.
+     * Retrieves the id of the context. Ids are based on the timestamp when the context was created, and are unique
+     * even for contexts created within the same millisecond.
      */
     Long getTimestamp();
 
@@ -34,6 +34,10 @@ public class BackendFormRenderingContextImpl implements BackendFormRenderingCont
 
     protected Map<String, Object> attributes = new HashMap<>();
 
+    protected long lastAccess;
+
+    protected long estimatedSize;
+
     public BackendFormRenderingContextImpl(Long timestamp,
                                            MapModelRenderingContext renderingContext,
                                            Map<String, Object> formData,
@@ -72,4 +76,23 @@ public class BackendFormRenderingContextImpl implements BackendFormRenderingCont
     public Map<String, Object> getAttributes() {
         return attributes;
     }
+
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+    public void setLastAccess(long lastAccess) {
+        this.lastAccess = lastAccess;
+    }
+
+    /**
+     * Approximate size in bytes of the form data held by the context.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    public void setEstimatedSize(long estimatedSize) {
+        this.estimatedSize = estimatedSize;
+    }
 }
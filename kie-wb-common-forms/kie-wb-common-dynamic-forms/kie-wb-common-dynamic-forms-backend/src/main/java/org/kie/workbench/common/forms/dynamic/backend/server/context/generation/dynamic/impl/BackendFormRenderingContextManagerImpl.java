@@ -17,8 +17,11 @@
 package org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.impl;
 
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.enterprise.context.SessionScoped;
 import javax.inject.Inject;
 
@@ -31,17 +34,52 @@ import org.kie.workbench.common.forms.model.FormDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Keeps the rendering contexts of a session. The number of contexts is bounded, the least recently used context
+ * being evicted when a new one exceeds the limit, and contexts that haven't been used for a while are expired.
+ * Both limits can be set through the {@link #MAX_CONTEXTS_PROPERTY} and {@link #CONTEXT_IDLE_TIMEOUT_PROPERTY}
+ * system properties.
+ */
 @SessionScoped
 public class BackendFormRenderingContextManagerImpl implements BackendFormRenderingContextManager {
 
+    public static final String MAX_CONTEXTS_PROPERTY = "org.kie.workbench.forms.rendering.maxContexts";
+
+    public static final String CONTEXT_IDLE_TIMEOUT_PROPERTY = "org.kie.workbench.forms.rendering.contextIdleTimeout";
+
+    static final int DEFAULT_MAX_CONTEXTS = 50;
+
+    static final long DEFAULT_CONTEXT_IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(30);
+
     private static final Logger logger = LoggerFactory.getLogger(BackendFormRenderingContextManagerImpl.class);
 
-    protected Map<Long, BackendFormRenderingContextImpl> contexts = new HashMap<>();
+    /*
+     * Context ids are based on the creation time, as they used to be, but are never repeated even if several contexts
+     * are created within the same millisecond.
+     */
+    private static final AtomicLong lastContextId = new AtomicLong();
+
+    // Contexts in access order: the first one is the least recently used
+    protected Map<Long, BackendFormRenderingContextImpl> contexts = new LinkedHashMap<>(16,
+                                                                                        0.75f,
+                                                                                        true);
 
     protected FormValuesProcessor valuesProcessor;
 
     protected ContextModelConstraintsExtractor constraintsExtractor;
 
+    protected int maxContexts = Integer.getInteger(MAX_CONTEXTS_PROPERTY,
+                                                   DEFAULT_MAX_CONTEXTS);
+
+    protected long contextIdleTimeout = Long.getLong(CONTEXT_IDLE_TIMEOUT_PROPERTY,
+                                                     DEFAULT_CONTEXT_IDLE_TIMEOUT);
+
+    private long retainedSize;
+
+    private long evictedContexts;
+
+    private long expiredContexts;
+
     @Inject
     public BackendFormRenderingContextManagerImpl(FormValuesProcessor valuesProcessor,
                                                   ContextModelConstraintsExtractor constraintsExtractor) {
@@ -62,7 +100,7 @@ public class BackendFormRenderingContextManagerImpl implements BackendFormRender
         Arrays.stream(nestedForms).forEach(form -> clientRenderingContext.getAvailableForms().put(form.getId(),
                                                                                                   form));
 
-        BackendFormRenderingContextImpl context = new BackendFormRenderingContextImpl(System.currentTimeMillis(),
+        BackendFormRenderingContextImpl context = new BackendFormRenderingContextImpl(nextContextId(),
                                                                                       clientRenderingContext,
                                                                                       formData,
                                                                                       classLoader);
@@ -76,8 +114,27 @@ public class BackendFormRenderingContextManagerImpl implements BackendFormRender
 
         clientRenderingContext.setModel(clienFormData);
 
-        contexts.put(context.getTimestamp(),
-                     context);
+        context.setEstimatedSize(FormDataSizeEstimator.estimate(formData));
+
+        synchronized (this) {
+            expireContexts();
+
+            context.setLastAccess(currentTimeMillis());
+            contexts.put(context.getTimestamp(),
+                         context);
+            retainedSize += context.getEstimatedSize();
+
+            Iterator<BackendFormRenderingContextImpl> it = contexts.values().iterator();
+            while (contexts.size() > maxContexts && it.hasNext()) {
+                BackendFormRenderingContextImpl eldest = it.next();
+                it.remove();
+                retainedSize -= eldest.getEstimatedSize();
+                evictedContexts++;
+                logger.debug("Evicting rendering context '{}', the session reached the limit of {} contexts",
+                             eldest.getTimestamp(),
+                             maxContexts);
+            }
+        }
 
         return context;
     }
@@ -86,7 +143,7 @@ public class BackendFormRenderingContextManagerImpl implements BackendFormRender
     public BackendFormRenderingContext updateContextData(long timestamp,
                                                          Map<String, Object> formValues) {
 
-        BackendFormRenderingContextImpl context = contexts.get(timestamp);
+        BackendFormRenderingContextImpl context = (BackendFormRenderingContextImpl) getContext(timestamp);
 
         if (context == null) {
             throw new IllegalArgumentException("Unable to find context with id '" + timestamp + "'");
@@ -99,16 +156,97 @@ public class BackendFormRenderingContextManagerImpl implements BackendFormRender
 
         context.setFormData(contextData);
 
+        long estimatedSize = FormDataSizeEstimator.estimate(contextData);
+
+        synchronized (this) {
+            if (contexts.get(context.getTimestamp()) == context) {
+                retainedSize += estimatedSize - context.getEstimatedSize();
+            }
+            context.setEstimatedSize(estimatedSize);
+        }
+
         return context;
     }
 
     @Override
-    public BackendFormRenderingContext getContext(Long timestamp) {
-        return contexts.get(timestamp);
+    public synchronized BackendFormRenderingContext getContext(Long timestamp) {
+        expireContexts();
+
+        BackendFormRenderingContextImpl context = contexts.get(timestamp);
+
+        if (context != null) {
+            context.setLastAccess(currentTimeMillis());
+        }
+
+        return context;
     }
 
     @Override
-    public boolean removeContext(Long timestamp) {
-        return contexts.remove(timestamp) != null;
+    public synchronized boolean removeContext(Long timestamp) {
+        BackendFormRenderingContextImpl context = contexts.remove(timestamp);
+
+        if (context != null) {
+            retainedSize -= context.getEstimatedSize();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return The number of contexts currently kept for the session.
+     */
+    public synchronized int getLiveContexts() {
+        return contexts.size();
+    }
+
+    /**
+     * @return The approximate size in bytes of the form data held by the contexts of the session.
+     */
+    public synchronized long getRetainedSize() {
+        return retainedSize;
+    }
+
+    /**
+     * @return The number of contexts evicted so far to keep the number of contexts of the session bounded.
+     */
+    public synchronized long getEvictedContexts() {
+        return evictedContexts;
+    }
+
+    /**
+     * @return The number of contexts dropped so far after being idle for longer than the timeout.
+     */
+    public synchronized long getExpiredContexts() {
+        return expiredContexts;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private void expireContexts() {
+        long expiryTime = currentTimeMillis() - contextIdleTimeout;
+
+        // The contexts are in access order, so the expired ones are at the head
+        Iterator<BackendFormRenderingContextImpl> it = contexts.values().iterator();
+        while (it.hasNext()) {
+            BackendFormRenderingContextImpl context = it.next();
+            if (context.getLastAccess() > expiryTime) {
+                break;
+            }
+            it.remove();
+            retainedSize -= context.getEstimatedSize();
+            expiredContexts++;
+            logger.debug("Expiring rendering context '{}' after {} ms of inactivity",
+                         context.getTimestamp(),
+                         contextIdleTimeout);
+        }
+    }
+
+    static long nextContextId() {
+        long now = System.currentTimeMillis();
+        return lastContextId.updateAndGet(last -> Math.max(last + 1,
+                                                           now));
     }
 }
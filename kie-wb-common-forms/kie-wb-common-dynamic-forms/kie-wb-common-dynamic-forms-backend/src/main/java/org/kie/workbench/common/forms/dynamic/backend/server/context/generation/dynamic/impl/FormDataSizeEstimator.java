@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.impl;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Gives a rough estimate, in bytes, of the heap retained by the data of a form. Maps, collections, arrays and
+ * Strings are walked; any other object is accounted with its own fields only, without following them.
+ */
+class FormDataSizeEstimator {
+
+    private static final int OBJECT_SIZE = 16;
+
+    private static final int REFERENCE_SIZE = 8;
+
+    private static final int MAP_ENTRY_SIZE = 32;
+
+    private FormDataSizeEstimator() {
+    }
+
+    static long estimate(Object value) {
+        return estimate(value,
+                        Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static long estimate(Object value,
+                                 Set<Object> visited) {
+        if (value == null || !visited.add(value)) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return OBJECT_SIZE + 24 + 2L * ((String) value).length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum) {
+            return OBJECT_SIZE + REFERENCE_SIZE;
+        }
+        if (value instanceof Map) {
+            long size = OBJECT_SIZE + 32;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += MAP_ENTRY_SIZE + estimate(entry.getKey(),
+                                                  visited) + estimate(entry.getValue(),
+                                                                      visited);
+            }
+            return size;
+        }
+        if (value instanceof Collection) {
+            long size = OBJECT_SIZE + 24;
+            for (Object element : (Collection<?>) value) {
+                size += REFERENCE_SIZE + estimate(element,
+                                                  visited);
+            }
+            return size;
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            if (value.getClass().getComponentType().isPrimitive()) {
+                return OBJECT_SIZE + (long) length * REFERENCE_SIZE;
+            }
+            long size = OBJECT_SIZE + (long) length * REFERENCE_SIZE;
+            for (int i = 0; i < length; i++) {
+                size += estimate(Array.get(value,
+                                           i),
+                                 visited);
+            }
+            return size;
+        }
+        return OBJECT_SIZE + (long) countFields(value.getClass()) * REFERENCE_SIZE;
+    }
+
+    private static int countFields(Class<?> clazz) {
+        int fields = 0;
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    fields++;
+                }
+            }
+        }
+        return fields;
+    }
+}
@@ -6,7 +6,7 @@ import java.util.Map;
 import java.util.Set;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.inject.Default;
-import javax.validation.Validation;
+import javax.inject.Inject;
 import javax.validation.metadata.BeanDescriptor;
 import javax.validation.metadata.PropertyDescriptor;
 
@@ -26,6 +26,13 @@ public class ContextModelConstraintsExtractorImpl implements ContextModelConstra
 
     private static final Logger logger = LoggerFactory.getLogger(ContextModelConstraintsExtractorImpl.class);
 
+    private ModelConstraintsCache constraintsCache;
+
+    @Inject
+    public ContextModelConstraintsExtractorImpl(ModelConstraintsCache constraintsCache) {
+        this.constraintsCache = constraintsCache;
+    }
+
     @Override
     public void readModelConstraints(MapModelRenderingContext clientRenderingContext,
                                      ClassLoader classLoader) {
@@ -40,69 +47,96 @@ public class ContextModelConstraintsExtractorImpl implements ContextModelConstra
             if (formDefinition.getModel() instanceof JavaModel) {
                 JavaModel javaModel = (JavaModel) formDefinition.getModel();
 
-                if (clientRenderingContext.getModelConstraints().containsKey(javaModel)) {
+                if (clientRenderingContext.getModelConstraints().containsKey(javaModel.getType())) {
                     return;
                 }
 
-                Class clazz = null;
-                try {
-                    clazz = classLoader.loadClass(javaModel.getType());
-                    if (clazz == null) {
-                        clazz = getClass().forName(javaModel.getType());
-                    }
-                } catch (ClassNotFoundException e) {
-                    // maybe Class is not on the project ClassLoader, let's try on the main ClassLoader
-                    try {
-                        clazz = getClass().forName(javaModel.getType());
-                    } catch (ClassNotFoundException e1) {
-                        // ops! class not available on the main classLoader
-                    }
-                }
+                DynamicModelConstraints constraints = getModelConstraints(javaModel.getType(),
+                                                                          classLoader);
 
-                if (clazz == null) {
-                    logger.warn("Unable to find class for type {} on any classLoader. Skipping annotation processing",
-                                javaModel.getType());
-                } else {
+                if (constraints != null) {
+                    clientRenderingContext.getModelConstraints().put(javaModel.getType(),
+                                                                     constraints);
+                }
+            }
+        });
+    }
 
-                    BeanDescriptor descriptor = Validation.buildDefaultValidatorFactory().getValidator().getConstraintsForClass(clazz);
+    protected DynamicModelConstraints getModelConstraints(String type,
+                                                          ClassLoader classLoader) {
+        return constraintsCache.getConstraints(type,
+                                               classLoader,
+                                               modelType -> {
+                                                   Class clazz = loadModelClass(modelType,
+                                                                                classLoader);
+
+                                                   if (clazz == null) {
+                                                       logger.warn("Unable to find class for type {} on any classLoader. Skipping annotation processing",
+                                                                   modelType);
+                                                       return null;
+                                                   }
+
+                                                   return readModelConstraints(modelType,
+                                                                               clazz);
+                                               });
+    }
 
-                    Set<PropertyDescriptor> properties = descriptor.getConstrainedProperties();
+    protected Class loadModelClass(String type,
+                                   ClassLoader classLoader) {
+        Class clazz = null;
+        try {
+            clazz = classLoader.loadClass(type);
+            if (clazz == null) {
+                clazz = getClass().forName(type);
+            }
+        } catch (ClassNotFoundException e) {
+            // maybe Class is not on the project ClassLoader, let's try on the main ClassLoader
+            try {
+                clazz = getClass().forName(type);
+            } catch (ClassNotFoundException e1) {
+                // ops! class not available on the main classLoader
+            }
+        }
+        return clazz;
+    }
 
-                    DynamicModelConstraints constraints = new DynamicModelConstraints(javaModel.getType());
+    protected DynamicModelConstraints readModelConstraints(String type,
+                                                           Class clazz) {
+        BeanDescriptor descriptor = constraintsCache.getValidator().getConstraintsForClass(clazz);
 
-                    clientRenderingContext.getModelConstraints().put(javaModel.getType(),
-                                                                     constraints);
+        Set<PropertyDescriptor> properties = descriptor.getConstrainedProperties();
 
-                    properties.forEach(property -> {
+        DynamicModelConstraints constraints = new DynamicModelConstraints(type);
 
-                        property.getConstraintDescriptors().forEach(constraintDescriptor -> {
+        properties.forEach(property -> {
 
-                            Map<String, Object> attributes = new HashMap<>();
+            property.getConstraintDescriptors().forEach(constraintDescriptor -> {
 
-                            constraintDescriptor.getAttributes().forEach((key, value) -> {
+                Map<String, Object> attributes = new HashMap<>();
 
-                                if (key.equals("payload") || key.equals("groups")) {
-                                    return;
-                                }
+                constraintDescriptor.getAttributes().forEach((key, value) -> {
 
-                                Object portableValue;
+                    if (key.equals("payload") || key.equals("groups")) {
+                        return;
+                    }
 
-                                if (EnvUtil.isPortableType(value.getClass())) {
-                                    portableValue = value;
-                                } else {
-                                    portableValue = value.toString();
-                                }
-                                attributes.put(key,
-                                               portableValue);
-                            });
+                    Object portableValue;
 
-                            constraints.addConstraintForField(property.getPropertyName(),
-                                                              new FieldConstraint(constraintDescriptor.getAnnotation().annotationType().getName(),
-                                                                                  attributes));
-                        });
-                    });
-                }
-            }
+                    if (EnvUtil.isPortableType(value.getClass())) {
+                        portableValue = value;
+                    } else {
+                        portableValue = value.toString();
+                    }
+                    attributes.put(key,
+                                   portableValue);
+                });
+
+                constraints.addConstraintForField(property.getPropertyName(),
+                                                  new FieldConstraint(constraintDescriptor.getAnnotation().annotationType().getName(),
+                                                                      attributes));
+            });
         });
+
+        return constraints;
     }
 }
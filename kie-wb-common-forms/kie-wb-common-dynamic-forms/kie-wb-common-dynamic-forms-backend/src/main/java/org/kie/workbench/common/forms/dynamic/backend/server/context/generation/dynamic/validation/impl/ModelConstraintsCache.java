@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.validation.impl;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
+import org.kie.workbench.common.forms.dynamic.service.shared.impl.validation.DynamicModelConstraints;
+
+/**
+ * Keeps the {@link Validator} and the model constraints read by {@link ContextModelConstraintsExtractorImpl}, so they
+ * are shared by all the extractor instances.
+ * <p>
+ * Constraints are kept for each model type, by the ClassLoader used to load the model class. ClassLoaders are weakly
+ * referenced, so the constraints read with the ClassLoader of a Project are released once that ClassLoader is
+ * discarded. They are also dropped whenever a Project's DataModelOracle is invalidated (e.g. its pom.xml or its model
+ * classes changed), as the model classes of the Project may have changed.
+ */
+@ApplicationScoped
+public class ModelConstraintsCache {
+
+    private final Map<ClassLoader, ConcurrentMap<String, DynamicModelConstraints>> constraints = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ValidatorFactory validatorFactory;
+
+    private Validator validator;
+
+    /**
+     * Returns the constraints of the model type read with the given ClassLoader, reading them if needed.
+     * @param type The model type.
+     * @param classLoader The ClassLoader used to load the model class.
+     * @param reader Reads the constraints of the type; may return null if the type cannot be loaded, in which case
+     * nothing is cached.
+     */
+    public DynamicModelConstraints getConstraints(String type,
+                                                  ClassLoader classLoader,
+                                                  Function<String, DynamicModelConstraints> reader) {
+        ConcurrentMap<String, DynamicModelConstraints> classLoaderConstraints = constraints.computeIfAbsent(classLoader,
+                                                                                                           loader -> new ConcurrentHashMap<>());
+
+        DynamicModelConstraints modelConstraints = classLoaderConstraints.get(type);
+
+        if (modelConstraints == null) {
+            modelConstraints = reader.apply(type);
+
+            if (modelConstraints != null) {
+                DynamicModelConstraints previous = classLoaderConstraints.putIfAbsent(type,
+                                                                                      modelConstraints);
+                if (previous != null) {
+                    modelConstraints = previous;
+                }
+            }
+        }
+
+        return modelConstraints;
+    }
+
+    /**
+     * Clears the constraints read with the given ClassLoader.
+     */
+    public void evict(ClassLoader classLoader) {
+        constraints.remove(classLoader);
+    }
+
+    public void evictAll() {
+        constraints.clear();
+    }
+
+    public int size() {
+        return constraints.size();
+    }
+
+    /*
+     * The event doesn't tell which ClassLoader the Project's models were loaded with, so the constraints read with all
+     * the ClassLoaders are dropped. They are cheap to read again.
+     */
+    public void onInvalidateDMOProjectCache(@Observes InvalidateDMOProjectCacheEvent event) {
+        evictAll();
+    }
+
+    /*
+     * Builds the ValidatorFactory the first time constraints are read; Validators are thread safe and can be shared.
+     */
+    public synchronized Validator getValidator() {
+        if (validator == null) {
+            validatorFactory = Validation.buildDefaultValidatorFactory();
+            validator = validatorFactory.getValidator();
+        }
+        return validator;
+    }
+
+    @PreDestroy
+    public synchronized void destroy() {
+        if (validatorFactory != null) {
+            validatorFactory.close();
+            validatorFactory = null;
+            validator = null;
+        }
+        evictAll();
+    }
+}
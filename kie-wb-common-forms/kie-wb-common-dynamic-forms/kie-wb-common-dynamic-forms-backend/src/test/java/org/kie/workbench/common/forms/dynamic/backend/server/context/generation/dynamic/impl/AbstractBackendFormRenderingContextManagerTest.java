@@ -27,6 +27,7 @@ import org.kie.workbench.common.forms.dynamic.backend.server.context.generation.
 import org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.impl.fieldProcessors.SubFormFieldValueProcessor;
 import org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.impl.model.Person;
 import org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.validation.impl.ContextModelConstraintsExtractorImpl;
+import org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.validation.impl.ModelConstraintsCache;
 import org.kie.workbench.common.forms.dynamic.service.context.generation.dynamic.BackendFormRenderingContext;
 import org.kie.workbench.common.forms.dynamic.service.context.generation.dynamic.FieldValueProcessor;
 import org.kie.workbench.common.forms.fields.test.TestFieldManager;
@@ -64,7 +65,7 @@ public abstract class AbstractBackendFormRenderingContextManagerTest {
         formValuesProcessor = new FormValuesProcessorImpl(fieldValueProcessors);
 
         contextManager = new BackendFormRenderingContextManagerImpl(formValuesProcessor,
-                                                                    new ContextModelConstraintsExtractorImpl());
+                                                                    new ContextModelConstraintsExtractorImpl(new ModelConstraintsCache()));
 
         formData = generateFormData();
 
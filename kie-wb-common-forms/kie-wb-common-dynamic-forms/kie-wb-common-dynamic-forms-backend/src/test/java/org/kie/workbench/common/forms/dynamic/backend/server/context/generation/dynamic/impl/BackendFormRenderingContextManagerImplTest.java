@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.validation.ContextModelConstraintsExtractor;
+import org.kie.workbench.common.forms.dynamic.service.context.generation.dynamic.BackendFormRenderingContext;
+import org.kie.workbench.common.forms.dynamic.service.context.generation.dynamic.FormValuesProcessor;
+import org.kie.workbench.common.forms.model.FormDefinition;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BackendFormRenderingContextManagerImplTest {
+
+    private static final int MAX_CONTEXTS = 3;
+
+    private static final long IDLE_TIMEOUT = 1000;
+
+    @Mock
+    private FormValuesProcessor valuesProcessor;
+
+    @Mock
+    private ContextModelConstraintsExtractor constraintsExtractor;
+
+    private long time = 0;
+
+    private BackendFormRenderingContextManagerImpl contextManager;
+
+    @Before
+    public void initTest() {
+        when(valuesProcessor.readFormValues(any(),
+                                            any(),
+                                            any())).thenReturn(new HashMap<>());
+
+        contextManager = new BackendFormRenderingContextManagerImpl(valuesProcessor,
+                                                                    constraintsExtractor) {
+            @Override
+            protected long currentTimeMillis() {
+                return time;
+            }
+        };
+        contextManager.maxContexts = MAX_CONTEXTS;
+        contextManager.contextIdleTimeout = IDLE_TIMEOUT;
+    }
+
+    @Test
+    public void testContextIdsAreUnique() {
+        long first = register().getTimestamp();
+        long second = register().getTimestamp();
+
+        assertNotEquals(first,
+                        second);
+        assertNotNull(contextManager.getContext(first));
+        assertNotNull(contextManager.getContext(second));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedContextIsEvicted() {
+        long first = register().getTimestamp();
+        long second = register().getTimestamp();
+        long third = register().getTimestamp();
+
+        // Using the first context makes the second one the least recently used
+        contextManager.getContext(first);
+
+        long fourth = register().getTimestamp();
+
+        assertNotNull(contextManager.getContext(first));
+        assertNull(contextManager.getContext(second));
+        assertNotNull(contextManager.getContext(third));
+        assertNotNull(contextManager.getContext(fourth));
+        assertEquals(MAX_CONTEXTS,
+                     contextManager.getLiveContexts());
+        assertEquals(1,
+                     contextManager.getEvictedContexts());
+    }
+
+    @Test
+    public void testIdleContextsExpire() {
+        long first = register().getTimestamp();
+
+        time += IDLE_TIMEOUT / 2;
+        long second = register().getTimestamp();
+
+        time += IDLE_TIMEOUT / 2 + 1;
+
+        assertNull(contextManager.getContext(first));
+        assertNotNull(contextManager.getContext(second));
+        assertEquals(1,
+                     contextManager.getExpiredContexts());
+    }
+
+    @Test
+    public void testRetainedSize() {
+        Map<String, Object> formData = new HashMap<>();
+        formData.put("name",
+                     "John");
+        long timestamp = register(formData).getTimestamp();
+
+        long retainedSize = contextManager.getRetainedSize();
+        assertTrue(retainedSize > 0);
+
+        long otherTimestamp = register(new HashMap<>()).getTimestamp();
+        assertTrue(contextManager.getRetainedSize() > retainedSize);
+
+        contextManager.removeContext(otherTimestamp);
+        assertEquals(retainedSize,
+                     contextManager.getRetainedSize());
+
+        contextManager.removeContext(timestamp);
+        assertEquals(0,
+                     contextManager.getRetainedSize());
+        assertEquals(0,
+                     contextManager.getLiveContexts());
+    }
+
+    private BackendFormRenderingContext register() {
+        return register(new HashMap<>());
+    }
+
+    private BackendFormRenderingContext register(Map<String, Object> formData) {
+        FormDefinition form = new FormDefinition(() -> "root");
+        form.setId("root");
+        return contextManager.registerContext(form,
+                                              formData,
+                                              getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.validation.impl;
+
+import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.forms.dynamic.backend.server.context.generation.dynamic.impl.model.Person;
+import org.kie.workbench.common.forms.dynamic.service.shared.impl.MapModelRenderingContext;
+import org.kie.workbench.common.forms.dynamic.service.shared.impl.validation.DynamicModelConstraints;
+import org.kie.workbench.common.forms.model.FormDefinition;
+import org.kie.workbench.common.forms.model.JavaModel;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ContextModelConstraintsExtractorImplTest {
+
+    private ModelConstraintsCache constraintsCache;
+
+    private ContextModelConstraintsExtractorImpl extractor;
+
+    private ClassLoader classLoader;
+
+    @Before
+    public void initTest() throws Exception {
+        constraintsCache = new ModelConstraintsCache();
+        extractor = spy(new ContextModelConstraintsExtractorImpl(constraintsCache));
+        classLoader = mockClassLoader();
+    }
+
+    @Test
+    public void testConstraintsAreReadOncePerClassLoader() {
+        MapModelRenderingContext context = newContext();
+        extractor.readModelConstraints(context,
+                                       classLoader);
+
+        DynamicModelConstraints constraints = context.getModelConstraints().get(Person.class.getName());
+        assertNotNull(constraints);
+        assertFalse(constraints.getFieldConstraints().isEmpty());
+
+        MapModelRenderingContext otherContext = newContext();
+        extractor.readModelConstraints(otherContext,
+                                       classLoader);
+
+        assertSame(constraints,
+                   otherContext.getModelConstraints().get(Person.class.getName()));
+        verify(extractor,
+               times(1)).readModelConstraints(eq(Person.class.getName()),
+                                              any(Class.class));
+    }
+
+    @Test
+    public void testConstraintsAreReadAgainForANewClassLoader() throws Exception {
+        extractor.readModelConstraints(newContext(),
+                                       classLoader);
+        extractor.readModelConstraints(newContext(),
+                                       mockClassLoader());
+
+        verify(extractor,
+               times(2)).readModelConstraints(eq(Person.class.getName()),
+                                              any(Class.class));
+    }
+
+    @Test
+    public void testEvict() {
+        extractor.readModelConstraints(newContext(),
+                                       classLoader);
+
+        constraintsCache.evict(classLoader);
+
+        extractor.readModelConstraints(newContext(),
+                                       classLoader);
+
+        verify(extractor,
+               times(2)).readModelConstraints(eq(Person.class.getName()),
+                                              any(Class.class));
+    }
+
+    @Test
+    public void testConstraintsAreReadAgainAfterTheProjectCacheIsInvalidated() {
+        extractor.readModelConstraints(newContext(),
+                                       classLoader);
+
+        constraintsCache.onInvalidateDMOProjectCache(mock(InvalidateDMOProjectCacheEvent.class));
+
+        assertEquals(0,
+                     constraintsCache.size());
+
+        extractor.readModelConstraints(newContext(),
+                                       classLoader);
+
+        verify(extractor,
+               times(2)).readModelConstraints(eq(Person.class.getName()),
+                                              any(Class.class));
+    }
+
+    @Test
+    public void testUnknownTypesAreNotCached() {
+        ClassLoader emptyClassLoader = mock(ClassLoader.class);
+        doReturn(null).when(extractor).loadModelClass(anyString(),
+                                                      eq(emptyClassLoader));
+
+        MapModelRenderingContext context = newContext();
+        extractor.readModelConstraints(context,
+                                       emptyClassLoader);
+
+        assertTrue(context.getModelConstraints().isEmpty());
+        verify(extractor,
+               never()).readModelConstraints(anyString(),
+                                             any(Class.class));
+    }
+
+    private ClassLoader mockClassLoader() throws Exception {
+        ClassLoader mock = mock(ClassLoader.class);
+        when(mock.loadClass(Person.class.getName())).thenReturn((Class) Person.class);
+        return mock;
+    }
+
+    private MapModelRenderingContext newContext() {
+        FormDefinition form = new FormDefinition(new JavaModel() {
+            @Override
+            public String getType() {
+                return Person.class.getName();
+            }
+
+            @Override
+            public String getName() {
+                return "person";
+            }
+        });
+        form.setId(Person.class.getName());
+
+        MapModelRenderingContext context = new MapModelRenderingContext();
+        context.setRootForm(form);
+        return context;
+    }
+}
@@ -16,11 +16,26 @@
 
 package org.kie.workbench.common.forms.serialization;
 
+import java.io.Reader;
+import java.io.Writer;
+
 import org.kie.workbench.common.forms.model.FormDefinition;
 
 public interface FormDefinitionSerializer {
 
     String serialize(FormDefinition form);
 
+    /**
+     * Serializes the form into the given writer. The writer is neither flushed nor closed.
+     */
+    void serialize(FormDefinition form,
+                   Writer writer);
+
     FormDefinition deserialize(String serializedForm);
+
+    /**
+     * Deserializes a form from the given reader, without reading its whole content into memory first. The reader is not
+     * closed.
+     */
+    FormDefinition deserialize(Reader reader);
 }
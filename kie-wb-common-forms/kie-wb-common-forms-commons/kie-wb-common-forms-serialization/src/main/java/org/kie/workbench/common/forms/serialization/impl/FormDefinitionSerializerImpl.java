@@ -16,6 +16,8 @@
 
 package org.kie.workbench.common.forms.serialization.impl;
 
+import java.io.Reader;
+import java.io.Writer;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 
@@ -33,37 +35,46 @@ public class FormDefinitionSerializerImpl implements FormDefinitionSerializer {
 
     private FormModelSerializer formModelSerializer;
 
+    // Gson instances are thread safe, build it once instead of on every (de)serialization.
+    private Gson gson;
+
     @Inject
     public FormDefinitionSerializerImpl(FieldSerializer fieldSerializer,
                                         FormModelSerializer formModelSerializer) {
         this.fieldSerializer = fieldSerializer;
         this.formModelSerializer = formModelSerializer;
-    }
 
-    @Override
-    public String serialize(FormDefinition form) {
         GsonBuilder builder = new GsonBuilder();
         builder.registerTypeAdapter(FormModel.class,
                                     formModelSerializer);
         builder.registerTypeAdapter(FieldDefinition.class,
                                     fieldSerializer);
 
-        Gson gson = builder.create();
+        this.gson = builder.create();
+    }
 
+    @Override
+    public String serialize(FormDefinition form) {
         return gson.toJson(form);
     }
 
     @Override
-    public FormDefinition deserialize(String serializedForm) {
-        GsonBuilder builder = new GsonBuilder();
-        builder.registerTypeAdapter(FormModel.class,
-                                    formModelSerializer);
-        builder.registerTypeAdapter(FieldDefinition.class,
-                                    fieldSerializer);
-
-        Gson gson = builder.create();
+    public void serialize(FormDefinition form,
+                          Writer writer) {
+        gson.toJson(form,
+                    FormDefinition.class,
+                    writer);
+    }
 
+    @Override
+    public FormDefinition deserialize(String serializedForm) {
         return gson.fromJson(serializedForm,
                              FormDefinition.class);
     }
+
+    @Override
+    public FormDefinition deserialize(Reader reader) {
+        return gson.fromJson(reader,
+                             FormDefinition.class);
+    }
 }
@@ -60,7 +60,7 @@ public class FormModelSerializer implements JsonSerializer<FormModel>,
         if (jsonClassName != null && !StringUtils.isEmpty(jsonClassName.getAsString())) {
             try {
                 return context.deserialize(json,
-                                           Class.forName(jsonClassName.getAsString()));
+                                           SerializedClasses.forName(jsonClassName.getAsString()));
             } catch (Exception ex) {
                 log.error("Error deserializing formModel",
                           ex);
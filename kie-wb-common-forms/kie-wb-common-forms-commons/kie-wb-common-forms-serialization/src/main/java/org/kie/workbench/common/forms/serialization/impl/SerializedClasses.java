@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.forms.serialization.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves the classes named in serialized forms for {@link FieldSerializer} and {@link FormModelSerializer}.
+ * Resolving classes by name is costly, and the same few types appear on every form, so resolved classes are kept.
+ */
+class SerializedClasses {
+
+    private static final ConcurrentMap<String, Class<?>> classes = new ConcurrentHashMap<>();
+
+    private SerializedClasses() {
+    }
+
+    static Class<?> forName(String className) throws ClassNotFoundException {
+        Class<?> clazz = classes.get(className);
+        if (clazz == null) {
+            clazz = Class.forName(className);
+            classes.putIfAbsent(className,
+                                clazz);
+        }
+        return clazz;
+    }
+}
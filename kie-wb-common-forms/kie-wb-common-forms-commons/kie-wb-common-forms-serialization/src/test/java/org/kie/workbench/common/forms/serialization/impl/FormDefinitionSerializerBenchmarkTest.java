@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.forms.serialization.impl;
+
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.basic.BasicTypeFieldProvider;
+import org.kie.workbench.common.forms.fields.shared.fieldTypes.relations.subForm.definition.SubFormFieldDefinition;
+import org.kie.workbench.common.forms.fields.test.TestFieldManager;
+import org.kie.workbench.common.forms.model.FieldDataType;
+import org.kie.workbench.common.forms.model.FieldDefinition;
+import org.kie.workbench.common.forms.model.FormDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.ext.layout.editor.api.editor.LayoutTemplate;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+/**
+ * Measures the time and the memory allocated to deserialize forms of increasing size, both from a String and from a
+ * Reader.
+ * <p>
+ * Run with <code>mvn test -Dtest=FormDefinitionSerializerBenchmarkTest -Dkie.wb.benchmark=true</code>
+ */
+public class FormDefinitionSerializerBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FormDefinitionSerializerBenchmarkTest.class);
+
+    private static final int[] FORM_COPIES = {1, 10, 50};
+    private static final int WARM_UP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    private TestFieldManager fieldManager;
+
+    private FormDefinitionSerializerImpl definitionSerializer;
+
+    @Before
+    public void initTest() {
+        assumeTrue(Boolean.getBoolean("kie.wb.benchmark"));
+
+        fieldManager = new TestFieldManager();
+
+        definitionSerializer = new FormDefinitionSerializerImpl(new FieldSerializer(),
+                                                                new FormModelSerializer());
+    }
+
+    @Test
+    public void testDeserialization() {
+        for (int copies : FORM_COPIES) {
+            final String serializedForm = definitionSerializer.serialize(buildForm(copies));
+
+            for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+                definitionSerializer.deserialize(serializedForm);
+                definitionSerializer.deserialize(new StringReader(serializedForm));
+            }
+
+            measure("String",
+                    serializedForm,
+                    () -> definitionSerializer.deserialize(serializedForm));
+            measure("Reader",
+                    serializedForm,
+                    () -> definitionSerializer.deserialize(new StringReader(serializedForm)));
+        }
+    }
+
+    private void measure(final String mode,
+                         final String serializedForm,
+                         final FormLoader loader) {
+        final long allocatedBefore = getAllocatedBytes();
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            assertNotNull(loader.load());
+        }
+        final long averageMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / MEASURED_ITERATIONS;
+        final long averageAllocated = (getAllocatedBytes() - allocatedBefore) / MEASURED_ITERATIONS;
+
+        logger.info("{} form of {} chars: {} us and {} bytes allocated per form",
+                    mode,
+                    serializedForm.length(),
+                    averageMicros,
+                    averageAllocated);
+    }
+
+    private long getAllocatedBytes() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private FormDefinition buildForm(final int copies) {
+        final FormDefinition form = new FormDefinition();
+        form.setId("benchmarkForm");
+        form.setName("benchmarkForm");
+        form.setLayoutTemplate(new LayoutTemplate());
+
+        for (int i = 0; i < copies; i++) {
+            for (BasicTypeFieldProvider provider : fieldManager.getAllBasicTypeProviders()) {
+                for (String type : provider.getSupportedTypes()) {
+                    final FieldDefinition field = provider.getFieldByType(new FieldDataType(type));
+                    final String fieldDescription = provider.getFieldTypeName() + "_" + type + "_" + i;
+
+                    field.setName(fieldDescription);
+                    field.setLabel(fieldDescription);
+                    field.setStandaloneClassName(type);
+                    field.setBinding(fieldDescription);
+
+                    form.getFields().add(field);
+                }
+            }
+
+            final SubFormFieldDefinition subForm = new SubFormFieldDefinition();
+            subForm.setLabel("SubForm_" + i);
+            subForm.setNestedForm("nestedForm_" + i);
+            subForm.setStandaloneClassName("org.test.MyTestModel");
+            subForm.setBinding("SubForm_" + i);
+
+            form.getFields().add(subForm);
+        }
+        return form;
+    }
+
+    private interface FormLoader {
+
+        FormDefinition load();
+    }
+}
@@ -16,6 +16,9 @@
 
 package org.kie.workbench.common.forms.serialization.impl;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+
 import junit.framework.TestCase;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
@@ -147,4 +150,21 @@ public class FormDefinitionSerializerImplTest extends TestCase {
                          resultField.getStandaloneClassName());
         }
     }
+
+    @Test
+    public void testFormStreamingSerialization() {
+        StringWriter writer = new StringWriter();
+
+        definitionSerializer.serialize(formDefinition,
+                                       writer);
+
+        assertEquals(definitionSerializer.serialize(formDefinition),
+                     writer.toString());
+
+        FormDefinition deSerializedForm = definitionSerializer.deserialize(new StringReader(writer.toString()));
+
+        assertNotNull(deSerializedForm);
+        assertEquals(formDefinition.getFields().size(),
+                     deSerializedForm.getFields().size());
+    }
 }
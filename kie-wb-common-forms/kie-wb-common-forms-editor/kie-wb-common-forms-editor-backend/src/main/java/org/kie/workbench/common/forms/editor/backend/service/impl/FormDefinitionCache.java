@@ -0,0 +1,259 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.forms.editor.backend.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.kie.workbench.common.forms.editor.type.FormResourceTypeDefinition;
+import org.kie.workbench.common.forms.model.FormDefinition;
+import org.kie.workbench.common.forms.model.JavaModel;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceCopiedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdated;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Caches the FormDefinitions of each Project, keyed by the path of their form file. Resource change events drop the
+ * FormDefinition of the changed form, so only changed forms are read and deserialized again. Additions, deletions and
+ * renames also make the Project's forms to be scanned again. The FormDefinitions of a Project are indexed by id and by
+ * model type, so finding a form doesn't depend on the number of forms in the Project. The forms of the
+ * {@link #MAX_PROJECTS} most recently used Projects are kept.
+ * <p>
+ * Cached FormDefinitions are shared, callers must not modify them.
+ */
+@ApplicationScoped
+public class FormDefinitionCache {
+
+    static final int MAX_PROJECTS = 10;
+
+    private final Map<String, ProjectForms> projects = new LinkedHashMap<String, ProjectForms>(16,
+                                                                                               0.75f,
+                                                                                               true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ProjectForms> eldest) {
+            return size() > MAX_PROJECTS;
+        }
+    };
+
+    /**
+     * Gets the forms of the Project.
+     * @param projectRoot The root path of the Project.
+     * @param scanner Finds the paths of all the forms in the Project.
+     * @param loader Loads the FormDefinition for a form path, returns null if the form cannot be loaded.
+     */
+    public FormDefinitionIndex getForms(final Path projectRoot,
+                                        final Function<Path, Collection<org.uberfire.java.nio.file.Path>> scanner,
+                                        final Function<org.uberfire.java.nio.file.Path, FormDefinition> loader) {
+        final ProjectForms projectForms;
+        synchronized (projects) {
+            projectForms = projects.computeIfAbsent(projectRoot.toURI(),
+                                                    uri -> new ProjectForms());
+        }
+        return projectForms.getIndex(projectRoot,
+                                     scanner,
+                                     loader);
+    }
+
+    public void invalidateAll() {
+        synchronized (projects) {
+            projects.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (projects) {
+            return projects.size();
+        }
+    }
+
+    public void onResourceAdded(@Observes final ResourceAddedEvent event) {
+        onChange(event.getPath(),
+                 true);
+    }
+
+    public void onResourceUpdated(@Observes final ResourceUpdatedEvent event) {
+        onChange(event.getPath(),
+                 false);
+    }
+
+    public void onResourceDeleted(@Observes final ResourceDeletedEvent event) {
+        onChange(event.getPath(),
+                 true);
+    }
+
+    public void onResourceRenamed(@Observes final ResourceRenamedEvent event) {
+        onChange(event.getPath(),
+                 true);
+        onChange(event.getDestinationPath(),
+                 true);
+    }
+
+    public void onResourceCopied(@Observes final ResourceCopiedEvent event) {
+        onChange(event.getDestinationPath(),
+                 true);
+    }
+
+    public void onBatchResourceChanges(@Observes final ResourceBatchChangesEvent event) {
+        for (final Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            for (final ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    onChange(entry.getKey(),
+                             true);
+                    onChange(((ResourceRenamed) change).getDestinationPath(),
+                             true);
+                } else {
+                    onChange(entry.getKey(),
+                             !(change instanceof ResourceUpdated));
+                }
+            }
+        }
+    }
+
+    private void onChange(final Path path,
+                          final boolean structural) {
+        if (path == null) {
+            return;
+        }
+        final String uri = path.toURI();
+        final boolean isForm = isForm(uri);
+        //A deleted or renamed folder may have contained forms
+        if (!isForm && !structural) {
+            return;
+        }
+        final List<ProjectForms> affected = new ArrayList<>();
+        synchronized (projects) {
+            for (Map.Entry<String, ProjectForms> entry : projects.entrySet()) {
+                final String projectUri = entry.getKey();
+                if (uri.startsWith(projectUri + "/") || projectUri.startsWith(uri + "/") || projectUri.equals(uri)) {
+                    affected.add(entry.getValue());
+                }
+            }
+        }
+        for (ProjectForms projectForms : affected) {
+            projectForms.invalidate(uri,
+                                    structural);
+        }
+    }
+
+    static boolean isForm(final String uri) {
+        return uri.endsWith("." + FormResourceTypeDefinition.EXTENSION);
+    }
+
+    private static class ProjectForms {
+
+        private final Map<String, org.uberfire.java.nio.file.Path> paths = new LinkedHashMap<>();
+        private final Map<String, FormDefinition> forms = new HashMap<>();
+        private boolean scanRequired = true;
+        private volatile FormDefinitionIndex index;
+
+        private FormDefinitionIndex getIndex(final Path projectRoot,
+                                             final Function<Path, Collection<org.uberfire.java.nio.file.Path>> scanner,
+                                             final Function<org.uberfire.java.nio.file.Path, FormDefinition> loader) {
+            FormDefinitionIndex current = index;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (index == null) {
+                    if (scanRequired) {
+                        paths.clear();
+                        for (org.uberfire.java.nio.file.Path path : scanner.apply(projectRoot)) {
+                            paths.put(path.toUri().toString(),
+                                      path);
+                        }
+                        forms.keySet().retainAll(paths.keySet());
+                        scanRequired = false;
+                    }
+                    final List<FormDefinition> all = new ArrayList<>(paths.size());
+                    for (Map.Entry<String, org.uberfire.java.nio.file.Path> entry : paths.entrySet()) {
+                        FormDefinition form = forms.get(entry.getKey());
+                        if (form == null) {
+                            form = loader.apply(entry.getValue());
+                            if (form != null) {
+                                forms.put(entry.getKey(),
+                                          form);
+                            }
+                        }
+                        if (form != null) {
+                            all.add(form);
+                        }
+                    }
+                    index = new FormDefinitionIndex(all);
+                }
+                return index;
+            }
+        }
+
+        private synchronized void invalidate(final String uri,
+                                             final boolean structural) {
+            forms.remove(uri);
+            if (structural) {
+                scanRequired = true;
+            }
+            index = null;
+        }
+    }
+
+    /**
+     * An immutable snapshot of the forms of a Project.
+     */
+    public static class FormDefinitionIndex {
+
+        private final List<FormDefinition> forms;
+        private final Map<String, FormDefinition> formsById = new HashMap<>();
+        private final Map<String, List<FormDefinition>> formsByType = new HashMap<>();
+
+        FormDefinitionIndex(final List<FormDefinition> forms) {
+            this.forms = Collections.unmodifiableList(forms);
+            for (FormDefinition form : forms) {
+                formsById.putIfAbsent(form.getId(),
+                                      form);
+                if (form.getModel() instanceof JavaModel) {
+                    formsByType.computeIfAbsent(((JavaModel) form.getModel()).getType(),
+                                                type -> new ArrayList<>()).add(form);
+                }
+            }
+        }
+
+        public List<FormDefinition> getAll() {
+            return forms;
+        }
+
+        public FormDefinition getById(final String id) {
+            return formsById.get(id);
+        }
+
+        public List<FormDefinition> getForType(final String typeName) {
+            return Collections.unmodifiableList(formsByType.getOrDefault(typeName,
+                                                                         Collections.emptyList()));
+        }
+    }
+}
@@ -16,6 +16,9 @@
 
 package org.kie.workbench.common.forms.editor.backend.service.impl;
 
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -28,7 +31,6 @@ import org.jboss.errai.bus.server.annotations.Service;
 import org.kie.workbench.common.forms.editor.service.shared.VFSFormFinderService;
 import org.kie.workbench.common.forms.editor.type.FormResourceTypeDefinition;
 import org.kie.workbench.common.forms.model.FormDefinition;
-import org.kie.workbench.common.forms.model.JavaModel;
 import org.kie.workbench.common.forms.serialization.FormDefinitionSerializer;
 import org.kie.workbench.common.services.datamodeller.util.FileUtils;
 import org.kie.workbench.common.services.shared.project.KieProjectService;
@@ -50,94 +52,74 @@ public class VFSFormFinderServiceImpl implements VFSFormFinderService {
 
     private FormDefinitionSerializer serializer;
 
+    private FormDefinitionCache formDefinitionCache;
+
     @Inject
     public VFSFormFinderServiceImpl(@Named("ioStrategy") IOService ioService,
                                     KieProjectService projectService,
-                                    FormDefinitionSerializer serializer) {
+                                    FormDefinitionSerializer serializer,
+                                    FormDefinitionCache formDefinitionCache) {
         this.ioService = ioService;
         this.projectService = projectService;
         this.serializer = serializer;
+        this.formDefinitionCache = formDefinitionCache;
     }
 
     @Override
     public List<FormDefinition> findAllForms(Path path) {
-        return findForms(path,
-                         null);
+        return new ArrayList<>(getForms(path).getAll());
     }
 
     @Override
     public List<FormDefinition> findFormsForType(final String typeName,
                                                  Path path) {
-        return findForms(path,
-                         new FormSearchConstraint() {
-                             @Override
-                             public boolean accepts(FormDefinition form) {
-
-                                 if (form.getModel() instanceof JavaModel) {
-                                     return ((JavaModel) form.getModel()).getType().equals(typeName);
-                                 }
-
-                                 return false;
-                             }
-                         });
+        return new ArrayList<>(getForms(path).getForType(typeName));
     }
 
     @Override
     public FormDefinition findFormById(final String id,
                                        Path path) {
-        List<FormDefinition> forms = findForms(path,
-                                               new FormSearchConstraint() {
-                                                   @Override
-                                                   public boolean accepts(FormDefinition form) {
-                                                       return form.getId().equals(id);
-                                                   }
-                                               });
-
-        if (forms != null && !forms.isEmpty()) {
-            return forms.get(0);
-        }
-        return null;
+        return getForms(path).getById(id);
     }
 
-    private List<FormDefinition> findForms(Path path,
-                                           FormSearchConstraint constraint) {
-
-        List<FormDefinition> result = new ArrayList<>();
-
+    private FormDefinitionCache.FormDefinitionIndex getForms(Path path) {
         Project project = projectService.resolveProject(path);
 
+        return formDefinitionCache.getForms(project.getRootPath(),
+                                            this::scanForms,
+                                            this::loadForm);
+    }
+
+    private Collection<org.uberfire.java.nio.file.Path> scanForms(Path projectRoot) {
         FileUtils utils = FileUtils.getInstance();
 
         List<org.uberfire.java.nio.file.Path> nioPaths = new ArrayList<>();
 
-        nioPaths.add(Paths.convert(project.getRootPath()));
+        nioPaths.add(Paths.convert(projectRoot));
 
         Collection<FileUtils.ScanResult> forms = utils.scan(ioService,
                                                             nioPaths,
                                                             FormResourceTypeDefinition.EXTENSION,
                                                             true);
 
+        List<org.uberfire.java.nio.file.Path> result = new ArrayList<>(forms.size());
+
         for (FileUtils.ScanResult form : forms) {
-            org.uberfire.java.nio.file.Path formPath = form.getFile();
-
-            try {
-                FormDefinition formDefinition = serializer.deserialize(ioService.readAllString(formPath).trim());
-
-                if (constraint == null || constraint.accepts(formDefinition)) {
-                    result.add(formDefinition);
-                }
-            } catch (Exception ex) {
-                logger.warn("Unable to generate FormDefinition for {}",
-                            path,
-                            ex);
-            }
+            result.add(form.getFile());
         }
 
         return result;
     }
 
-    private interface FormSearchConstraint {
-
-        boolean accepts(FormDefinition form);
+    private FormDefinition loadForm(org.uberfire.java.nio.file.Path formPath) {
+        try (Reader reader = new InputStreamReader(ioService.newInputStream(formPath),
+                                                   StandardCharsets.UTF_8)) {
+            return serializer.deserialize(reader);
+        } catch (Exception ex) {
+            logger.warn("Unable to generate FormDefinition for {}",
+                        formPath,
+                        ex);
+        }
+        return null;
     }
 }
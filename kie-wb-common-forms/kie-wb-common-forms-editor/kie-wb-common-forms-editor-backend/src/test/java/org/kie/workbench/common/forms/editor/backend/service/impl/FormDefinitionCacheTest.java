@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.forms.editor.backend.service.impl;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.forms.model.FormDefinition;
+import org.kie.workbench.common.forms.model.JavaModel;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class FormDefinitionCacheTest {
+
+    private static final String ROOT_URI = "default://master@repo/project";
+
+    private FormDefinitionCache cache;
+
+    private Path projectRoot;
+
+    private List<org.uberfire.java.nio.file.Path> formPaths;
+
+    private int scans;
+
+    private int loads;
+
+    @Before
+    public void setUp() {
+        cache = new FormDefinitionCache();
+        projectRoot = vfsPath(ROOT_URI);
+        formPaths = new ArrayList<>();
+        formPaths.add(nioPath(ROOT_URI + "/src/main/resources/Person.frm"));
+        formPaths.add(nioPath(ROOT_URI + "/src/main/resources/Address.frm"));
+    }
+
+    @Test
+    public void testFormsAreLoadedOnce() {
+        final FormDefinitionCache.FormDefinitionIndex index = getForms();
+
+        assertEquals(2,
+                     index.getAll().size());
+        assertSame(index,
+                   getForms());
+        assertEquals(1,
+                     scans);
+        assertEquals(2,
+                     loads);
+    }
+
+    @Test
+    public void testFormsAreIndexedByIdAndType() {
+        final FormDefinitionCache.FormDefinitionIndex index = getForms();
+
+        assertEquals("Person.frm",
+                     index.getById("Person.frm").getId());
+        assertNull(index.getById("Unknown.frm"));
+        assertEquals(1,
+                     index.getForType("org.test.Address.frm").size());
+        assertTrue(index.getForType("org.test.Unknown").isEmpty());
+    }
+
+    @Test
+    public void testUpdateReloadsOnlyTheUpdatedForm() {
+        getForms();
+
+        final ResourceUpdatedEvent event = mock(ResourceUpdatedEvent.class);
+        final Path path = vfsPath(ROOT_URI + "/src/main/resources/Person.frm");
+        when(event.getPath()).thenReturn(path);
+        cache.onResourceUpdated(event);
+
+        assertEquals(2,
+                     getForms().getAll().size());
+        assertEquals(1,
+                     scans);
+        assertEquals(3,
+                     loads);
+    }
+
+    @Test
+    public void testAdditionRescansTheProject() {
+        getForms();
+
+        formPaths.add(nioPath(ROOT_URI + "/src/main/resources/Company.frm"));
+        final ResourceAddedEvent event = mock(ResourceAddedEvent.class);
+        final Path path = vfsPath(ROOT_URI + "/src/main/resources/Company.frm");
+        when(event.getPath()).thenReturn(path);
+        cache.onResourceAdded(event);
+
+        assertEquals(3,
+                     getForms().getAll().size());
+        assertEquals(2,
+                     scans);
+        assertEquals(3,
+                     loads);
+    }
+
+    @Test
+    public void testChangesInOtherProjectsAreIgnored() {
+        final FormDefinitionCache.FormDefinitionIndex index = getForms();
+
+        final ResourceUpdatedEvent event = mock(ResourceUpdatedEvent.class);
+        final Path path = vfsPath("default://master@repo/project2/src/main/resources/Person.frm");
+        when(event.getPath()).thenReturn(path);
+        cache.onResourceUpdated(event);
+
+        assertSame(index,
+                   getForms());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedProjectsAreEvicted() {
+        final FormDefinitionCache.FormDefinitionIndex index = getForms();
+        for (int i = 0; i < FormDefinitionCache.MAX_PROJECTS; i++) {
+            cache.getForms(vfsPath(ROOT_URI + i),
+                           root -> new ArrayList<>(),
+                           path -> null);
+        }
+
+        assertEquals(FormDefinitionCache.MAX_PROJECTS,
+                     cache.size());
+        assertNotSame(index,
+                      getForms());
+        assertEquals(2,
+                     scans);
+    }
+
+    private FormDefinitionCache.FormDefinitionIndex getForms() {
+        final Function<Path, Collection<org.uberfire.java.nio.file.Path>> scanner = root -> {
+            scans++;
+            return new ArrayList<>(formPaths);
+        };
+        final Function<org.uberfire.java.nio.file.Path, FormDefinition> loader = path -> {
+            loads++;
+            final String fileName = path.toUri().toString().substring(path.toUri().toString().lastIndexOf('/') + 1);
+            final JavaModel model = mock(JavaModel.class);
+            when(model.getType()).thenReturn("org.test." + fileName);
+            final FormDefinition form = new FormDefinition(model);
+            form.setId(fileName);
+            return form;
+        };
+        return cache.getForms(projectRoot,
+                              scanner,
+                              loader);
+    }
+
+    private Path vfsPath(final String uri) {
+        final Path path = mock(Path.class);
+        when(path.toURI()).thenReturn(uri);
+        return path;
+    }
+
+    private org.uberfire.java.nio.file.Path nioPath(final String uri) {
+        final org.uberfire.java.nio.file.Path path = mock(org.uberfire.java.nio.file.Path.class);
+        when(path.toUri()).thenReturn(URI.create(uri));
+        return path;
+    }
+}
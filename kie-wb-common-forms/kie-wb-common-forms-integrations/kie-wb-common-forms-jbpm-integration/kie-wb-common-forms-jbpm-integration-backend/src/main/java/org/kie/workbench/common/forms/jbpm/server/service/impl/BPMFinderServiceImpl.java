@@ -17,7 +17,9 @@
 package org.kie.workbench.common.forms.jbpm.server.service.impl;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -36,9 +38,9 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
 import org.guvnor.common.services.project.model.Project;
 import org.jboss.drools.DroolsPackage;
-import org.jboss.drools.util.DroolsResourceFactoryImpl;
 import org.jboss.errai.bus.server.annotations.Service;
 import org.kie.workbench.common.forms.jbpm.model.authoring.JBPMProcessModel;
 import org.kie.workbench.common.forms.jbpm.model.authoring.process.BusinessProcessFormModel;
@@ -47,6 +49,8 @@ import org.kie.workbench.common.forms.jbpm.server.service.BPMNFormModelGenerator
 import org.kie.workbench.common.forms.jbpm.service.shared.BPMFinderService;
 import org.kie.workbench.common.services.datamodeller.util.FileUtils;
 import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.io.IOService;
@@ -55,20 +59,32 @@ import org.uberfire.io.IOService;
 @Dependent
 public class BPMFinderServiceImpl implements BPMFinderService {
 
+    private static final Logger logger = LoggerFactory.getLogger(BPMFinderServiceImpl.class);
+
     private IOService ioService;
 
     private KieProjectService projectService;
 
     private BPMNFormModelGenerator bpmnFormModelGenerator;
+
+    private JBPMProcessModelCache processModelCache;
+
     private FileUtils fileUtils;
 
+    // Configured once and re-used for every process parsed by this service
+    private final ResourceSet resourceSet = newResourceSet();
+
+    private final Map<String, Object> loadOptions = newLoadOptions();
+
     @Inject
     public BPMFinderServiceImpl(@Named("ioStrategy") IOService ioService,
                                 KieProjectService projectService,
-                                BPMNFormModelGenerator bpmnFormModelGenerator) {
+                                BPMNFormModelGenerator bpmnFormModelGenerator,
+                                JBPMProcessModelCache processModelCache) {
         this.ioService = ioService;
         this.projectService = projectService;
         this.bpmnFormModelGenerator = bpmnFormModelGenerator;
+        this.processModelCache = processModelCache;
     }
 
     @PostConstruct
@@ -81,72 +97,95 @@ public class BPMFinderServiceImpl implements BPMFinderService {
 
         Project project = projectService.resolveProject(path);
 
-        List<JBPMProcessModel> result = new ArrayList<>();
-
-        scannProcessesForType(project.getRootPath(),
-                              "bpmn2",
-                              result);
-        scannProcessesForType(project.getRootPath(),
-                              "bpmn",
-                              result);
-
-        return result;
+        return new ArrayList<>(processModelCache.getProcessModels(project.getRootPath(),
+                                                                  this::scanProcesses,
+                                                                  this::loadProcessModel));
     }
 
-    protected void scannProcessesForType(Path path,
-                                         String extension,
-                                         List<JBPMProcessModel> models) {
+    protected Collection<org.uberfire.java.nio.file.Path> scanProcesses(Path path) {
         List<org.uberfire.java.nio.file.Path> nioPaths = new ArrayList<>();
 
         nioPaths.add(Paths.convert(path));
 
         Collection<FileUtils.ScanResult> processes = fileUtils.scan(ioService,
                                                                     nioPaths,
-                                                                    extension,
+                                                                    Arrays.asList(JBPMProcessModelCache.PROCESS_EXTENSIONS),
                                                                     true);
 
-        for (FileUtils.ScanResult process : processes) {
-            org.uberfire.java.nio.file.Path formPath = process.getFile();
+        // Keep the processes grouped by extension, in the order of the extensions
+        List<org.uberfire.java.nio.file.Path> result = new ArrayList<>();
+        for (String extension : JBPMProcessModelCache.PROCESS_EXTENSIONS) {
+            for (FileUtils.ScanResult process : processes) {
+                if (process.getFile().getFileName().toString().endsWith(extension)) {
+                    result.add(process.getFile());
+                }
+            }
+        }
+        return result;
+    }
 
-            try {
-                ResourceSet resourceSet = new ResourceSetImpl();
-
-                resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put
-                        (Resource.Factory.Registry.DEFAULT_EXTENSION,
-                         new DroolsResourceFactoryImpl());
-                resourceSet.getPackageRegistry().put
-                        (DroolsPackage.eNS_URI,
-                         DroolsPackage.eINSTANCE);
-                resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap()
-                        .put(Resource.Factory.Registry.DEFAULT_EXTENSION,
-                             new Bpmn2ResourceFactoryImpl());
-                resourceSet.getPackageRegistry().put("http://www.omg.org/spec/BPMN/20100524/MODEL",
-                                                     Bpmn2Package.eINSTANCE);
-
-                XMLResource outResource = (XMLResource) resourceSet.createResource(URI.createURI(
-                        "inputStream://dummyUriWithValidSuffix.xml"));
-                outResource.getDefaultLoadOptions().put(XMLResource.OPTION_ENCODING,
-                                                        "UTF-8");
-                outResource.setEncoding("UTF-8");
+    protected JBPMProcessModel loadProcessModel(org.uberfire.java.nio.file.Path processPath) {
+        try {
+            Definitions definitions;
+            try (InputStream inputStream = ioService.newInputStream(processPath)) {
+                definitions = parseDefinitions(inputStream);
+            }
 
-                Map<String, Object> options = new HashMap<String, Object>();
-                options.put(XMLResource.OPTION_ENCODING,
-                            "UTF-8");
-                outResource.load(ioService.newInputStream(formPath),
-                                 options);
+            BusinessProcessFormModel processFormModel = bpmnFormModelGenerator.generateProcessFormModel(definitions);
+            List<TaskFormModel> taskModels = bpmnFormModelGenerator.generateTaskFormModels(definitions);
 
-                DocumentRoot root = (DocumentRoot) outResource.getContents().get(0);
+            return new JBPMProcessModel(processFormModel,
+                                        taskModels);
+        } catch (IOException e) {
+            logger.warn("Unable to load process from path '{}'",
+                        processPath,
+                        e);
+            return null;
+        }
+    }
 
-                Definitions definitions = root.getDefinitions();
+    protected Definitions parseDefinitions(InputStream inputStream) throws IOException {
+        synchronized (resourceSet) {
+            XMLResource outResource = (XMLResource) resourceSet.createResource(URI.createURI(
+                    "inputStream://dummyUriWithValidSuffix.xml"));
+            try {
+                outResource.setEncoding("UTF-8");
+                outResource.load(inputStream,
+                                 loadOptions);
 
-                BusinessProcessFormModel processFormModel = bpmnFormModelGenerator.generateProcessFormModel(definitions);
-                List<TaskFormModel> taskModels = bpmnFormModelGenerator.generateTaskFormModels(definitions);
+                DocumentRoot root = (DocumentRoot) outResource.getContents().get(0);
 
-                models.add(new JBPMProcessModel(processFormModel,
-                                                taskModels));
-            } catch (IOException e) {
-                e.printStackTrace();
+                return root.getDefinitions();
+            } finally {
+                // Detach the loaded model so the ResourceSet doesn't keep every parsed process alive
+                resourceSet.getResources().remove(outResource);
             }
         }
     }
+
+    private static ResourceSet newResourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap()
+                .put(Resource.Factory.Registry.DEFAULT_EXTENSION,
+                     new Bpmn2ResourceFactoryImpl());
+        resourceSet.getPackageRegistry().put(DroolsPackage.eNS_URI,
+                                             DroolsPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put("http://www.omg.org/spec/BPMN/20100524/MODEL",
+                                             Bpmn2Package.eINSTANCE);
+        return resourceSet;
+    }
+
+    private static Map<String, Object> newLoadOptions() {
+        Map<String, Object> options = new HashMap<>();
+        options.put(XMLResource.OPTION_ENCODING,
+                    "UTF-8");
+        options.put(XMLResource.OPTION_DEFER_IDREF_RESOLUTION,
+                    true);
+        options.put(XMLResource.OPTION_USE_PARSER_POOL,
+                    new XMLParserPoolImpl(true));
+        options.put(XMLResource.OPTION_USE_XML_NAME_TO_FEATURE_MAP,
+                    new HashMap<>());
+        return options;
+    }
 }
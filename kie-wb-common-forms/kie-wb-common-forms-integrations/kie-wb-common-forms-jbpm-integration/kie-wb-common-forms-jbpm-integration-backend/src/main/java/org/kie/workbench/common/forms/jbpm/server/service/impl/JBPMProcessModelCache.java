@@ -0,0 +1,227 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.forms.jbpm.server.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.kie.workbench.common.forms.jbpm.model.authoring.JBPMProcessModel;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceCopiedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdated;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Caches the process and task form models generated from the process files of each Project, keyed by the path of
+ * the process file. Resource change events stand for the version of the process files: an update drops the models of
+ * the changed file only, so only changed processes are parsed again, while additions, deletions and renames also make
+ * the Project's process files to be scanned again.
+ * <p>
+ * Cached models are shared, callers must not modify them.
+ */
+@ApplicationScoped
+public class JBPMProcessModelCache {
+
+    static final String[] PROCESS_EXTENSIONS = {"bpmn2", "bpmn"};
+
+    static final int MAX_PROJECTS = 10;
+
+    private final Map<String, ProjectProcesses> projects = new LinkedHashMap<String, ProjectProcesses>(16,
+                                                                                                       0.75f,
+                                                                                                       true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ProjectProcesses> eldest) {
+            return size() > MAX_PROJECTS;
+        }
+    };
+
+    /**
+     * Gets the process models of the Project.
+     * @param projectRoot The root path of the Project.
+     * @param scanner Finds the paths of all the process files in the Project.
+     * @param loader Generates the process model for a process file, returns null if the file cannot be loaded.
+     */
+    public List<JBPMProcessModel> getProcessModels(final Path projectRoot,
+                                                   final Function<Path, Collection<org.uberfire.java.nio.file.Path>> scanner,
+                                                   final Function<org.uberfire.java.nio.file.Path, JBPMProcessModel> loader) {
+        final ProjectProcesses projectProcesses;
+        synchronized (projects) {
+            projectProcesses = projects.computeIfAbsent(projectRoot.toURI(),
+                                                        uri -> new ProjectProcesses());
+        }
+        return projectProcesses.getModels(projectRoot,
+                                          scanner,
+                                          loader);
+    }
+
+    public void invalidateAll() {
+        synchronized (projects) {
+            projects.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (projects) {
+            return projects.size();
+        }
+    }
+
+    public void onResourceAdded(@Observes final ResourceAddedEvent event) {
+        onChange(event.getPath(),
+                 true);
+    }
+
+    public void onResourceUpdated(@Observes final ResourceUpdatedEvent event) {
+        onChange(event.getPath(),
+                 false);
+    }
+
+    public void onResourceDeleted(@Observes final ResourceDeletedEvent event) {
+        onChange(event.getPath(),
+                 true);
+    }
+
+    public void onResourceRenamed(@Observes final ResourceRenamedEvent event) {
+        onChange(event.getPath(),
+                 true);
+        onChange(event.getDestinationPath(),
+                 true);
+    }
+
+    public void onResourceCopied(@Observes final ResourceCopiedEvent event) {
+        onChange(event.getDestinationPath(),
+                 true);
+    }
+
+    public void onBatchResourceChanges(@Observes final ResourceBatchChangesEvent event) {
+        for (final Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            for (final ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    onChange(entry.getKey(),
+                             true);
+                    onChange(((ResourceRenamed) change).getDestinationPath(),
+                             true);
+                } else {
+                    onChange(entry.getKey(),
+                             !(change instanceof ResourceUpdated));
+                }
+            }
+        }
+    }
+
+    private void onChange(final Path path,
+                          final boolean structural) {
+        if (path == null) {
+            return;
+        }
+        final String uri = path.toURI();
+        //A deleted or renamed folder may have contained processes
+        if (!isProcess(uri) && !structural) {
+            return;
+        }
+        final List<ProjectProcesses> affected = new ArrayList<>();
+        synchronized (projects) {
+            for (Map.Entry<String, ProjectProcesses> entry : projects.entrySet()) {
+                final String projectUri = entry.getKey();
+                if (uri.startsWith(projectUri + "/") || projectUri.startsWith(uri + "/") || projectUri.equals(uri)) {
+                    affected.add(entry.getValue());
+                }
+            }
+        }
+        for (ProjectProcesses projectProcesses : affected) {
+            projectProcesses.invalidate(uri,
+                                        structural);
+        }
+    }
+
+    static boolean isProcess(final String uri) {
+        for (String extension : PROCESS_EXTENSIONS) {
+            if (uri.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class ProjectProcesses {
+
+        private final Map<String, org.uberfire.java.nio.file.Path> paths = new LinkedHashMap<>();
+        //Files that could not be loaded are kept with a null model
+        private final Map<String, JBPMProcessModel> models = new HashMap<>();
+        private boolean scanRequired = true;
+        private volatile List<JBPMProcessModel> snapshot;
+
+        private List<JBPMProcessModel> getModels(final Path projectRoot,
+                                                 final Function<Path, Collection<org.uberfire.java.nio.file.Path>> scanner,
+                                                 final Function<org.uberfire.java.nio.file.Path, JBPMProcessModel> loader) {
+            List<JBPMProcessModel> current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (snapshot == null) {
+                    if (scanRequired) {
+                        paths.clear();
+                        for (org.uberfire.java.nio.file.Path path : scanner.apply(projectRoot)) {
+                            paths.put(path.toUri().toString(),
+                                      path);
+                        }
+                        models.keySet().retainAll(paths.keySet());
+                        scanRequired = false;
+                    }
+                    final List<JBPMProcessModel> all = new ArrayList<>(paths.size());
+                    for (Map.Entry<String, org.uberfire.java.nio.file.Path> entry : paths.entrySet()) {
+                        JBPMProcessModel model = models.get(entry.getKey());
+                        if (model == null && !models.containsKey(entry.getKey())) {
+                            model = loader.apply(entry.getValue());
+                            models.put(entry.getKey(),
+                                       model);
+                        }
+                        if (model != null) {
+                            all.add(model);
+                        }
+                    }
+                    snapshot = Collections.unmodifiableList(all);
+                }
+                return snapshot;
+            }
+        }
+
+        private synchronized void invalidate(final String uri,
+                                             final boolean structural) {
+            models.remove(uri);
+            if (structural) {
+                scanRequired = true;
+            }
+            snapshot = null;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.forms.jbpm.server.service.impl;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.forms.jbpm.model.authoring.JBPMProcessModel;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class JBPMProcessModelCacheTest {
+
+    private static final String ROOT_URI = "default://master@repo/project";
+
+    private JBPMProcessModelCache cache;
+
+    private Path projectRoot;
+
+    private List<org.uberfire.java.nio.file.Path> processPaths;
+
+    private int scans;
+
+    private int loads;
+
+    @Before
+    public void setUp() {
+        cache = new JBPMProcessModelCache();
+        projectRoot = vfsPath(ROOT_URI);
+        processPaths = new ArrayList<>();
+        processPaths.add(nioPath(ROOT_URI + "/src/main/resources/org/test/hiring.bpmn2"));
+        processPaths.add(nioPath(ROOT_URI + "/src/main/resources/org/test/evaluation.bpmn"));
+    }
+
+    @Test
+    public void testProcessesAreLoadedOnce() {
+        final List<JBPMProcessModel> models = getProcessModels();
+
+        assertEquals(2,
+                     models.size());
+        assertSame(models,
+                   getProcessModels());
+        assertEquals(1,
+                     scans);
+        assertEquals(2,
+                     loads);
+    }
+
+    @Test
+    public void testUpdateReloadsOnlyTheUpdatedProcess() {
+        getProcessModels();
+
+        final ResourceUpdatedEvent event = mock(ResourceUpdatedEvent.class);
+        final Path path = vfsPath(ROOT_URI + "/src/main/resources/org/test/hiring.bpmn2");
+        when(event.getPath()).thenReturn(path);
+        cache.onResourceUpdated(event);
+
+        assertEquals(2,
+                     getProcessModels().size());
+        assertEquals(1,
+                     scans);
+        assertEquals(3,
+                     loads);
+    }
+
+    @Test
+    public void testOtherUpdatesAreIgnored() {
+        final List<JBPMProcessModel> models = getProcessModels();
+
+        final ResourceUpdatedEvent event = mock(ResourceUpdatedEvent.class);
+        final Path path = vfsPath(ROOT_URI + "/src/main/resources/org/test/Person.java");
+        when(event.getPath()).thenReturn(path);
+        cache.onResourceUpdated(event);
+
+        assertSame(models,
+                   getProcessModels());
+    }
+
+    @Test
+    public void testDeletionRescansTheProject() {
+        getProcessModels();
+
+        processPaths.remove(1);
+        final ResourceDeletedEvent event = mock(ResourceDeletedEvent.class);
+        final Path path = vfsPath(ROOT_URI + "/src/main/resources/org/test/evaluation.bpmn");
+        when(event.getPath()).thenReturn(path);
+        cache.onResourceDeleted(event);
+
+        assertEquals(1,
+                     getProcessModels().size());
+        assertEquals(2,
+                     scans);
+        assertEquals(2,
+                     loads);
+    }
+
+    @Test
+    public void testProcessesThatCannotBeLoadedAreNotLoadedAgain() {
+        final Function<org.uberfire.java.nio.file.Path, JBPMProcessModel> failingLoader = path -> {
+            loads++;
+            return null;
+        };
+
+        assertTrue(getProcessModels(failingLoader).isEmpty());
+
+        //Any other change in the Project makes a new snapshot of its models
+        final ResourceUpdatedEvent event = mock(ResourceUpdatedEvent.class);
+        final Path path = vfsPath(ROOT_URI + "/src/main/resources/org/test/other.bpmn2");
+        when(event.getPath()).thenReturn(path);
+        cache.onResourceUpdated(event);
+
+        assertTrue(getProcessModels(failingLoader).isEmpty());
+        assertEquals(2,
+                     loads);
+    }
+
+    @Test
+    public void testProjectsAreEvicted() {
+        for (int i = 0; i < JBPMProcessModelCache.MAX_PROJECTS + 1; i++) {
+            cache.getProcessModels(vfsPath(ROOT_URI + i),
+                                   root -> new ArrayList<>(processPaths),
+                                   path -> mock(JBPMProcessModel.class));
+        }
+        assertEquals(JBPMProcessModelCache.MAX_PROJECTS,
+                     cache.size());
+    }
+
+    private List<JBPMProcessModel> getProcessModels() {
+        return getProcessModels(path -> {
+            loads++;
+            return mock(JBPMProcessModel.class);
+        });
+    }
+
+    private List<JBPMProcessModel> getProcessModels(final Function<org.uberfire.java.nio.file.Path, JBPMProcessModel> loader) {
+        final Function<Path, Collection<org.uberfire.java.nio.file.Path>> scanner = root -> {
+            scans++;
+            return new ArrayList<>(processPaths);
+        };
+        return cache.getProcessModels(projectRoot,
+                                      scanner,
+                                      loader);
+    }
+
+    private Path vfsPath(final String uri) {
+        final Path path = mock(Path.class);
+        when(path.toURI()).thenReturn(uri);
+        return path;
+    }
+
+    private org.uberfire.java.nio.file.Path nioPath(final String uri) {
+        final org.uberfire.java.nio.file.Path path = mock(org.uberfire.java.nio.file.Path.class);
+        when(path.toUri()).thenReturn(URI.create(uri));
+        return path;
+    }
+}
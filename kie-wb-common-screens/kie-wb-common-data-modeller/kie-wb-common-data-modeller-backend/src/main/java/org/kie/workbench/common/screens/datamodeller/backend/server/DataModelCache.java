@@ -0,0 +1,285 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.datamodeller.backend.server;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
+import org.kie.workbench.common.services.backend.project.MapClassLoader;
+import org.kie.workbench.common.services.datamodeller.driver.ModelDriverException;
+import org.kie.workbench.common.services.datamodeller.driver.impl.JavaRoasterModelDriver;
+import org.kie.workbench.common.services.datamodeller.driver.model.ModelDriverResult;
+import org.kie.workbench.common.services.shared.project.KieProject;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceCopiedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdated;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Keeps, for the most recently used Projects, the result of loading each .java file of the Project into the data model.
+ * Resource change events drop the result of the changed file only, so loading the data model of a Project parses just
+ * the files changed since the previous load. Additions, deletions, renames and copies also make the Project's .java
+ * files to be scanned again. The cached results of a Project are dropped when its class path changes, since the
+ * types of the data objects are resolved with it: that is, when the Project's dependencies change, or when a build adds
+ * or removes Project classes. A new ClassLoader for the same classes does not drop them; the changed .java files have
+ * already been dropped by their resource events.
+ */
+@ApplicationScoped
+public class DataModelCache {
+
+    static final int MAX_PROJECTS = 10;
+
+    private final Map<String, ProjectModel> projects = new LinkedHashMap<String, ProjectModel>(16,
+                                                                                               0.75f,
+                                                                                               true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ProjectModel> eldest) {
+            return size() > MAX_PROJECTS;
+        }
+    };
+
+    /**
+     * Loads the data model of the Project. A new ModelDriverResult is returned on each call, so callers can add types
+     * to its data model; the data objects in it are shared with other callers and must not be modified.
+     * @param project The Project to load.
+     * @param modelDriver A driver set up with the Project's java root path and ClassLoader.
+     * @param classLoader The Project's ClassLoader.
+     */
+    public ModelDriverResult loadModel(final KieProject project,
+                                       final JavaRoasterModelDriver modelDriver,
+                                       final ClassLoader classLoader) throws ModelDriverException {
+        final ProjectModel projectModel;
+        synchronized (projects) {
+            projectModel = projects.computeIfAbsent(project.getRootPath().toURI(),
+                                                    uri -> new ProjectModel());
+        }
+        return projectModel.load(modelDriver,
+                                 classLoader);
+    }
+
+    public void invalidate(final KieProject project) {
+        synchronized (projects) {
+            projects.remove(project.getRootPath().toURI());
+        }
+    }
+
+    /**
+     * Drops the cached result for a file, or for all the files below it if it's a folder.
+     * @param structural true if files may have been added or removed, so the Project's .java files need to be scanned
+     * again.
+     */
+    public void invalidate(final Path path,
+                           final boolean structural) {
+        if (path == null) {
+            return;
+        }
+        final String uri = path.toURI();
+        if (!structural && !isJavaFile(uri)) {
+            return;
+        }
+        for (ProjectModel projectModel : getProjects(uri)) {
+            projectModel.invalidate(uri,
+                                    structural);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (projects) {
+            projects.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (projects) {
+            return projects.size();
+        }
+    }
+
+    public void onInvalidateDMOProjectCache(@Observes final InvalidateDMOProjectCacheEvent event) {
+        if (event.getProject() != null) {
+            synchronized (projects) {
+                projects.remove(event.getProject().getRootPath().toURI());
+            }
+        }
+    }
+
+    public void onResourceAdded(@Observes final ResourceAddedEvent event) {
+        if (isJavaFile(event.getPath().toURI())) {
+            invalidate(event.getPath(),
+                       true);
+        }
+    }
+
+    public void onResourceUpdated(@Observes final ResourceUpdatedEvent event) {
+        invalidate(event.getPath(),
+                   false);
+    }
+
+    public void onResourceDeleted(@Observes final ResourceDeletedEvent event) {
+        invalidate(event.getPath(),
+                   true);
+    }
+
+    public void onResourceRenamed(@Observes final ResourceRenamedEvent event) {
+        invalidate(event.getPath(),
+                   true);
+        invalidate(event.getDestinationPath(),
+                   true);
+    }
+
+    public void onResourceCopied(@Observes final ResourceCopiedEvent event) {
+        invalidate(event.getDestinationPath(),
+                   true);
+    }
+
+    public void onBatchResourceChanges(@Observes final ResourceBatchChangesEvent event) {
+        for (final Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            for (final ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    invalidate(((ResourceRenamed) change).getDestinationPath(),
+                               true);
+                }
+                invalidate(entry.getKey(),
+                           !(change instanceof ResourceUpdated));
+            }
+        }
+    }
+
+    private List<ProjectModel> getProjects(final String uri) {
+        final List<ProjectModel> result = new ArrayList<ProjectModel>();
+        synchronized (projects) {
+            for (Map.Entry<String, ProjectModel> entry : projects.entrySet()) {
+                final String projectUri = entry.getKey();
+                //The path may be a file or folder in the Project, or a folder containing the Project
+                if (uri.startsWith(projectUri + "/") || projectUri.startsWith(uri + "/") || projectUri.equals(uri)) {
+                    result.add(entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    static boolean isJavaFile(final String uri) {
+        return uri.endsWith(".java");
+    }
+
+    private static class ProjectModel {
+
+        private final Map<String, org.uberfire.java.nio.file.Path> files = new LinkedHashMap<String, org.uberfire.java.nio.file.Path>();
+        private final Map<String, ModelDriverResult> results = new LinkedHashMap<String, ModelDriverResult>();
+        private ClassPath classPath;
+        private boolean scanRequired = true;
+
+        private synchronized ModelDriverResult load(final JavaRoasterModelDriver modelDriver,
+                                                    final ClassLoader classLoader) throws ModelDriverException {
+            if (classPath == null || !classPath.isSameAs(classLoader)) {
+                classPath = new ClassPath(classLoader);
+                results.clear();
+            }
+            if (scanRequired) {
+                files.clear();
+                for (org.uberfire.java.nio.file.Path file : modelDriver.scanJavaFiles()) {
+                    files.put(file.toUri().toString(),
+                              file);
+                }
+                results.keySet().retainAll(files.keySet());
+                scanRequired = false;
+            }
+
+            final List<String> dirtyUris = new ArrayList<String>();
+            final List<org.uberfire.java.nio.file.Path> dirtyFiles = new ArrayList<org.uberfire.java.nio.file.Path>();
+            for (Map.Entry<String, org.uberfire.java.nio.file.Path> file : files.entrySet()) {
+                if (!results.containsKey(file.getKey())) {
+                    dirtyUris.add(file.getKey());
+                    dirtyFiles.add(file.getValue());
+                }
+            }
+            if (!dirtyFiles.isEmpty()) {
+                final List<ModelDriverResult> dirtyResults = modelDriver.loadFiles(dirtyFiles);
+                for (int i = 0; i < dirtyUris.size(); i++) {
+                    results.put(dirtyUris.get(i),
+                                dirtyResults.get(i));
+                }
+            }
+
+            final ModelDriverResult result = new ModelDriverResult(modelDriver.createModel());
+            for (String uri : files.keySet()) {
+                JavaRoasterModelDriver.mergeResult(results.get(uri),
+                                                   result);
+            }
+            return result;
+        }
+
+        private synchronized void invalidate(final String uri,
+                                             final boolean structural) {
+            if (structural) {
+                scanRequired = true;
+                //The path may be a folder, drop the results of any file below it
+                results.keySet().removeIf(fileUri -> fileUri.equals(uri) || fileUri.startsWith(uri + "/"));
+            } else {
+                results.remove(uri);
+            }
+        }
+    }
+
+    /**
+     * What the types of the data objects are resolved against: the Project's own classes, by name, and the ClassLoader
+     * of its dependencies. Only the names of the Project classes are kept, so the bytes of older builds can be
+     * collected.
+     */
+    static class ClassPath {
+
+        private final ClassLoader classLoader;
+        private final ClassLoader parent;
+        private final Set<String> classes;
+
+        ClassPath(final ClassLoader classLoader) {
+            if (classLoader instanceof MapClassLoader) {
+                this.classLoader = null;
+                this.parent = classLoader.getParent();
+                this.classes = new HashSet<String>(((MapClassLoader) classLoader).getResourcePaths());
+            } else {
+                this.classLoader = classLoader;
+                this.parent = null;
+                this.classes = null;
+            }
+        }
+
+        boolean isSameAs(final ClassLoader other) {
+            if (classes == null || !(other instanceof MapClassLoader)) {
+                return classLoader == other;
+            }
+            return parent == other.getParent() && Objects.equals(classes,
+                                                                 ((MapClassLoader) other).getResourcePaths());
+        }
+    }
+}
@@ -64,6 +64,7 @@ import org.kie.workbench.common.screens.datamodeller.model.GenerationResult;
 import org.kie.workbench.common.screens.datamodeller.model.TypeInfoResult;
 import org.kie.workbench.common.screens.datamodeller.service.DataModelerService;
 import org.kie.workbench.common.screens.datamodeller.service.ServiceException;
+import org.kie.workbench.common.services.backend.helpers.ParallelTaskExecutor;
 import org.kie.workbench.common.services.backend.project.ProjectClassLoaderHelper;
 import org.kie.workbench.common.services.backend.service.KieService;
 import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
@@ -78,7 +79,6 @@ import org.kie.workbench.common.services.datamodeller.core.PropertyType;
 import org.kie.workbench.common.services.datamodeller.core.impl.DataObjectImpl;
 import org.kie.workbench.common.services.datamodeller.core.impl.PropertyTypeFactoryImpl;
 import org.kie.workbench.common.services.datamodeller.driver.FilterHolder;
-import org.kie.workbench.common.services.datamodeller.driver.ModelDriver;
 import org.kie.workbench.common.services.datamodeller.driver.ModelDriverException;
 import org.kie.workbench.common.services.datamodeller.driver.impl.JavaRoasterModelDriver;
 import org.kie.workbench.common.services.datamodeller.driver.impl.ProjectDataModelOracleUtils;
@@ -93,9 +93,8 @@ import org.kie.workbench.common.services.datamodeller.driver.model.DriverError;
 import org.kie.workbench.common.services.datamodeller.driver.model.ModelDriverResult;
 import org.kie.workbench.common.services.datamodeller.util.DriverUtils;
 import org.kie.workbench.common.services.datamodeller.util.NamingUtils;
-import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRow;
+import org.kie.workbench.common.services.refactoring.backend.server.query.StreamingRefactoringQueryService;
 import org.kie.workbench.common.services.refactoring.service.PartType;
-import org.kie.workbench.common.services.refactoring.service.RefactoringQueryService;
 import org.kie.workbench.common.services.refactoring.service.ResourceType;
 import org.kie.workbench.common.services.refactoring.service.impact.QueryOperationRequest;
 import org.kie.workbench.common.services.shared.project.KieProject;
@@ -147,7 +146,7 @@ public class DataModelerServiceImpl
     private Event<DataObjectRenamedEvent> dataObjectRenamedEvent;
 
     @Inject
-    private RefactoringQueryService queryService;
+    private StreamingRefactoringQueryService queryService;
 
     @Inject
     private Event<PublishBatchMessagesEvent> publishBatchMessagesEvent;
@@ -183,6 +182,12 @@ public class DataModelerServiceImpl
     @Inject
     private FilterHolder filterHolder;
 
+    @Inject
+    private DataModelCache dataModelCache;
+
+    @Inject
+    private ParallelTaskExecutor parallelTaskExecutor;
+
     private static final String DEFAULT_COMMIT_MESSAGE = "Data modeller generated action.";
 
     public DataModelerServiceImpl() {
@@ -258,6 +263,8 @@ public class DataModelerServiceImpl
             ioService.write(nioPath,
                             source,
                             serviceHelper.makeCommentedOption(comment));
+            invalidateDataModel(newPath,
+                                true);
 
             dataObjectCreatedEvent.fire(new DataObjectCreatedEvent(currentProject,
                                                                    dataObject));
@@ -330,6 +337,18 @@ public class DataModelerServiceImpl
         }
     }
 
+    /**
+     * Resource change events may be delivered after the next data model load, so the cached data model is invalidated
+     * as soon as this service changes a .java file.
+     */
+    private void invalidateDataModel(final Path path,
+                                     final boolean structural) {
+        if (dataModelCache != null) {
+            dataModelCache.invalidate(path,
+                                      structural);
+        }
+    }
+
     private Pair<DataModel, ModelDriverResult> loadModel(final KieProject project,
                                                          boolean processErrors) {
 
@@ -352,11 +371,19 @@ public class DataModelerServiceImpl
 
             ClassLoader classLoader = classLoaderHelper.getProjectClassLoader(project);
 
-            ModelDriver modelDriver = new JavaRoasterModelDriver(ioService,
-                                                                 Paths.convert(defaultPackage.getPackageMainSrcPath()),
-                                                                 classLoader,
-                                                                 filterHolder);
-            ModelDriverResult result = modelDriver.loadModel();
+            JavaRoasterModelDriver modelDriver = new JavaRoasterModelDriver(ioService,
+                                                                            Paths.convert(defaultPackage.getPackageMainSrcPath()),
+                                                                            classLoader,
+                                                                            filterHolder,
+                                                                            parallelTaskExecutor);
+            ModelDriverResult result;
+            if (dataModelCache != null) {
+                result = dataModelCache.loadModel(project,
+                                                  modelDriver,
+                                                  classLoader);
+            } else {
+                result = modelDriver.loadModel();
+            }
             dataModel = result.getDataModel();
 
             if (processErrors && result.hasErrors()) {
@@ -639,6 +666,11 @@ public class DataModelerServiceImpl
                 result.setPath(path);
             }
 
+            invalidateDataModel(path,
+                                packageChanged || nameChanged);
+            invalidateDataModel(result.getPath(),
+                                packageChanged || nameChanged);
+
             if (saveHelperInstance != null) {
                 for (DataModelerSaveHelper saveHelper : saveHelperInstance) {
                     saveHelper.postProcess(path,
@@ -746,10 +778,13 @@ public class DataModelerServiceImpl
             }
         }
         try {
-            return copyService.copy(path,
-                                    newName,
-                                    targetDirectory,
-                                    comment);
+            final Path copiedPath = copyService.copy(path,
+                                                     newName,
+                                                     targetDirectory,
+                                                     comment);
+            invalidateDataModel(copiedPath,
+                                true);
+            return copiedPath;
         } finally {
             if (targetPath != null) {
                 copyHelper.removeRefactoredPath(targetPath);
@@ -824,6 +859,10 @@ public class DataModelerServiceImpl
                                                     newName,
                                                     newContent,
                                                     comment);
+                invalidateDataModel(path,
+                                    true);
+                invalidateDataModel(updatedPath,
+                                    true);
                 dataObjectRenamedEvent.fire((DataObjectRenamedEvent) new DataObjectRenamedEvent().withPath(updatedPath));
                 return updatedPath;
             }
@@ -981,6 +1020,8 @@ public class DataModelerServiceImpl
             }
             deleteService.delete(path,
                                  comment);
+            invalidateDataModel(path,
+                                true);
             String className = calculateClassName(project,
                                                   path);
             DataObject dataObject = new DataObjectImpl(
@@ -1287,12 +1328,8 @@ public class DataModelerServiceImpl
         List<Path> results = new ArrayList<Path>();
         try {
 
-            final List<RefactoringPageRow> queryResults = queryService.queryToList(request);
-            if (queryResults != null) {
-                for (RefactoringPageRow row : queryResults) {
-                    results.add((org.uberfire.backend.vfs.Path) row.getValue());
-                }
-            }
+            queryService.queryToConsumer(request,
+                                         (row) -> results.add((org.uberfire.backend.vfs.Path) row.getValue()));
             return results;
         } catch (Exception e) {
             String msg = "Unable to query lucene index for resource references: " + e.getMessage();
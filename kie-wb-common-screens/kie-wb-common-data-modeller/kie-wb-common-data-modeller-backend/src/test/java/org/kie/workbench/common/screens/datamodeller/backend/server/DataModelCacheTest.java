@@ -0,0 +1,251 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.screens.datamodeller.backend.server;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.backend.project.MapClassLoader;
+import org.kie.workbench.common.services.datamodeller.core.impl.DataModelImpl;
+import org.kie.workbench.common.services.datamodeller.driver.impl.JavaRoasterModelDriver;
+import org.kie.workbench.common.services.datamodeller.driver.model.ModelDriverResult;
+import org.kie.workbench.common.services.shared.project.KieProject;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DataModelCacheTest {
+
+    private static final String ROOT_URI = "default://master@repo/project";
+
+    private static final String JAVA_ROOT_URI = ROOT_URI + "/src/main/java/org/test";
+
+    @Mock
+    private KieProject project;
+
+    @Mock
+    private JavaRoasterModelDriver modelDriver;
+
+    private org.uberfire.java.nio.file.Path file1;
+
+    private org.uberfire.java.nio.file.Path file2;
+
+    private List<org.uberfire.java.nio.file.Path> loadedFiles = new ArrayList<>();
+
+    private DataModelCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new DataModelCache();
+        final Path rootPath = vfsPath(ROOT_URI);
+        when(project.getRootPath()).thenReturn(rootPath);
+
+        file1 = nioPath(JAVA_ROOT_URI + "/Pojo1.java");
+        file2 = nioPath(JAVA_ROOT_URI + "/Pojo2.java");
+        when(modelDriver.scanJavaFiles()).thenReturn(Arrays.asList(file1,
+                                                                   file2));
+        when(modelDriver.createModel()).thenAnswer(invocation -> new DataModelImpl());
+        when(modelDriver.loadFiles(anyListOf(org.uberfire.java.nio.file.Path.class))).thenAnswer(invocation -> {
+            final List<org.uberfire.java.nio.file.Path> files = (List<org.uberfire.java.nio.file.Path>) invocation.getArguments()[0];
+            final List<ModelDriverResult> results = new ArrayList<>();
+            for (org.uberfire.java.nio.file.Path file : files) {
+                loadedFiles.add(file);
+                results.add(fileResult(file));
+            }
+            return results;
+        });
+    }
+
+    @Test
+    public void testFilesAreParsedOnce() throws Exception {
+        final ModelDriverResult result = load(getClass().getClassLoader());
+        assertEquals(2,
+                     result.getDataModel().getDataObjects().size());
+
+        final ModelDriverResult cachedResult = load(getClass().getClassLoader());
+        assertEquals(2,
+                     cachedResult.getDataModel().getDataObjects().size());
+        assertNotSame(result.getDataModel(),
+                      cachedResult.getDataModel());
+
+        verify(modelDriver,
+               times(1)).scanJavaFiles();
+        assertEquals(1,
+                     loadCount(file1));
+        assertEquals(1,
+                     loadCount(file2));
+    }
+
+    @Test
+    public void testUpdateReparsesChangedFileOnly() throws Exception {
+        load(getClass().getClassLoader());
+
+        final ResourceUpdatedEvent event = mock(ResourceUpdatedEvent.class);
+        final Path path = vfsPath(JAVA_ROOT_URI + "/Pojo1.java");
+        when(event.getPath()).thenReturn(path);
+        cache.onResourceUpdated(event);
+
+        load(getClass().getClassLoader());
+
+        verify(modelDriver,
+               times(1)).scanJavaFiles();
+        assertEquals(2,
+                     loadCount(file1));
+        assertEquals(1,
+                     loadCount(file2));
+    }
+
+    @Test
+    public void testAdditionRescansFiles() throws Exception {
+        load(getClass().getClassLoader());
+
+        final ResourceAddedEvent event = mock(ResourceAddedEvent.class);
+        final Path path = vfsPath(JAVA_ROOT_URI + "/Pojo3.java");
+        when(event.getPath()).thenReturn(path);
+        cache.onResourceAdded(event);
+
+        load(getClass().getClassLoader());
+
+        verify(modelDriver,
+               times(2)).scanJavaFiles();
+        assertEquals(1,
+                     loadCount(file1));
+    }
+
+    @Test
+    public void testNewClassLoaderReparsesAllFiles() throws Exception {
+        load(getClass().getClassLoader());
+        load(new ClassLoader(getClass().getClassLoader()) {
+        });
+
+        assertEquals(2,
+                     loadCount(file1));
+        assertEquals(2,
+                     loadCount(file2));
+    }
+
+    @Test
+    public void testNewClassLoaderForTheSameClassesKeepsFiles() throws Exception {
+        load(projectClassLoader(getClass().getClassLoader(),
+                                "org/test/Pojo1.class",
+                                "org/test/Pojo2.class"));
+        load(projectClassLoader(getClass().getClassLoader(),
+                                "org/test/Pojo1.class",
+                                "org/test/Pojo2.class"));
+
+        assertEquals(1,
+                     loadCount(file1));
+        assertEquals(1,
+                     loadCount(file2));
+    }
+
+    @Test
+    public void testChangedProjectClassesReparseAllFiles() throws Exception {
+        load(projectClassLoader(getClass().getClassLoader(),
+                                "org/test/Pojo1.class",
+                                "org/test/Pojo2.class"));
+        load(projectClassLoader(getClass().getClassLoader(),
+                                "org/test/Pojo1.class"));
+
+        assertEquals(2,
+                     loadCount(file1));
+        assertEquals(2,
+                     loadCount(file2));
+    }
+
+    @Test
+    public void testChangedDependenciesReparseAllFiles() throws Exception {
+        load(projectClassLoader(getClass().getClassLoader(),
+                                "org/test/Pojo1.class"));
+        load(projectClassLoader(new ClassLoader(getClass().getClassLoader()) {
+                                },
+                                "org/test/Pojo1.class"));
+
+        assertEquals(2,
+                     loadCount(file1));
+        assertEquals(2,
+                     loadCount(file2));
+    }
+
+    @Test
+    public void testProjectsAreEvicted() throws Exception {
+        for (int i = 0; i < DataModelCache.MAX_PROJECTS + 1; i++) {
+            final KieProject otherProject = mock(KieProject.class);
+            final Path rootPath = vfsPath(ROOT_URI + i);
+            when(otherProject.getRootPath()).thenReturn(rootPath);
+            cache.loadModel(otherProject,
+                            modelDriver,
+                            getClass().getClassLoader());
+        }
+        assertEquals(DataModelCache.MAX_PROJECTS,
+                     cache.size());
+    }
+
+    private ModelDriverResult load(final ClassLoader classLoader) throws Exception {
+        return cache.loadModel(project,
+                               modelDriver,
+                               classLoader);
+    }
+
+    private MapClassLoader projectClassLoader(final ClassLoader dependenciesClassLoader,
+                                              final String... classes) {
+        final Map<String, byte[]> classesMap = new HashMap<>();
+        for (String clazz : classes) {
+            classesMap.put(clazz,
+                           new byte[0]);
+        }
+        return new MapClassLoader(classesMap,
+                                  dependenciesClassLoader);
+    }
+
+    private ModelDriverResult fileResult(final org.uberfire.java.nio.file.Path file) {
+        final String fileName = file.toUri().getPath().substring(file.toUri().getPath().lastIndexOf('/') + 1);
+        final ModelDriverResult result = new ModelDriverResult(new DataModelImpl());
+        result.getDataModel().addDataObject("org.test." + fileName.substring(0,
+                                                                             fileName.length() - ".java".length()));
+        return result;
+    }
+
+    private long loadCount(final org.uberfire.java.nio.file.Path file) {
+        return loadedFiles.stream().filter(loaded -> loaded == file).count();
+    }
+
+    private Path vfsPath(final String uri) {
+        final Path path = mock(Path.class);
+        when(path.toURI()).thenReturn(uri);
+        return path;
+    }
+
+    private org.uberfire.java.nio.file.Path nioPath(final String uri) {
+        final org.uberfire.java.nio.file.Path path = mock(org.uberfire.java.nio.file.Path.class);
+        when(path.toUri()).thenReturn(URI.create(uri));
+        return path;
+    }
+}
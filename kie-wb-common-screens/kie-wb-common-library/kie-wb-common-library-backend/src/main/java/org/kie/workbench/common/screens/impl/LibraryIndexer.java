@@ -17,11 +17,13 @@ package org.kie.workbench.common.screens.impl;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.guvnor.common.services.project.model.Package;
+import org.kie.workbench.common.screens.library.api.LibraryService;
 import org.kie.workbench.common.screens.library.api.index.LibraryFileNameIndexTerm;
 import org.kie.workbench.common.screens.library.api.index.LibraryProjectRootPathIndexTerm;
 import org.kie.workbench.common.services.refactoring.KPropertyImpl;
@@ -40,7 +42,9 @@ import org.uberfire.ext.metadata.model.KObject;
 import org.uberfire.ext.metadata.model.KObjectKey;
 import org.uberfire.ext.metadata.model.KProperty;
 import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.NoSuchFileException;
 import org.uberfire.java.nio.file.Path;
+import org.uberfire.java.nio.file.attribute.FileTime;
 
 @ApplicationScoped
 public class LibraryIndexer extends AbstractFileIndexer {
@@ -49,6 +53,13 @@ public class LibraryIndexer extends AbstractFileIndexer {
 
     private static final String LIBRARY_CLASSIFIER = "library";
 
+    /**
+     * Stored fields holding the created and last modified times of an asset, so that listing the assets of a
+     * Project does not need to read them from the version history of every asset.
+     */
+    static final String CREATED_TIME_FIELD = "libraryCreatedTime";
+    static final String LAST_MODIFIED_TIME_FIELD = "libraryLastModifiedTime";
+
     private LibraryAssetTypeDefinition filter;
 
     @Inject
@@ -83,6 +94,12 @@ public class LibraryIndexer extends AbstractFileIndexer {
             return null;
         }
 
+        final Map<String, Object> attributes = readAttributes(path);
+        final Long createdTime = getTime(LibraryService.CREATED_TIME,
+                                         attributes);
+        final Long lastModifiedTime = getTime(LibraryService.LAST_MODIFIED_TIME,
+                                              attributes);
+
         // responsible for basic index info: project name, branch, etc
         final DefaultIndexBuilder builder = new DefaultIndexBuilder(Paths.convert(path).getFileName(),
                                                                     project,
@@ -98,6 +115,19 @@ public class LibraryIndexer extends AbstractFileIndexer {
                                                       false,
                                                       true));
 
+                if (createdTime != null) {
+                    indexElements.add(new KPropertyImpl<>(CREATED_TIME_FIELD,
+                                                          createdTime,
+                                                          false,
+                                                          false));
+                }
+                if (lastModifiedTime != null) {
+                    indexElements.add(new KPropertyImpl<>(LAST_MODIFIED_TIME_FIELD,
+                                                          lastModifiedTime,
+                                                          false,
+                                                          false));
+                }
+
                 if (project.getRootPath() != null) {
                     final String projectRootUri = project.getRootPath().toURI();
                     indexElements.add(new KPropertyImpl<>(LibraryProjectRootPathIndexTerm.TERM,
@@ -157,6 +187,21 @@ public class LibraryIndexer extends AbstractFileIndexer {
                                         LIBRARY_CLASSIFIER);
     }
 
+    private Map<String, Object> readAttributes(final Path path) {
+        try {
+            return ioService.readAttributes(path);
+        } catch (NoSuchFileException e) {
+            logger.debug("Unable to read the attributes of " + path.toUri().toString() + ": file no longer exists.");
+            return Collections.emptyMap();
+        }
+    }
+
+    private Long getTime(final String attribute,
+                         final Map<String, Object> attributes) {
+        final Object time = attributes.get(attribute);
+        return time instanceof FileTime ? ((FileTime) time).toMillis() : null;
+    }
+
     protected KieProject getProject(final Path path) {
         return projectService.resolveProject(Paths.convert(path));
     }
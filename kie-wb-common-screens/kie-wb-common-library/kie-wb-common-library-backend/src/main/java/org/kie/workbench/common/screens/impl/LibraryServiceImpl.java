@@ -55,6 +55,7 @@ import org.kie.workbench.common.screens.library.api.LibraryInfo;
 import org.kie.workbench.common.screens.library.api.LibraryService;
 import org.kie.workbench.common.screens.library.api.OrganizationalUnitRepositoryInfo;
 import org.kie.workbench.common.screens.library.api.ProjectAssetsQuery;
+import org.kie.workbench.common.screens.library.api.index.LibraryAssetPageRow;
 import org.kie.workbench.common.screens.library.api.index.LibraryValueFileNameIndexTerm;
 import org.kie.workbench.common.screens.library.api.index.LibraryValueProjectRootPathIndexTerm;
 import org.kie.workbench.common.screens.library.api.preferences.LibraryInternalPreferences;
@@ -217,46 +218,60 @@ public class LibraryServiceImpl implements LibraryService {
                                                                                                                                   queryTerms,
                                                                                                                                   query.getStartIndex(),
                                                                                                                                   query.getAmount()));
-        final List<FolderItem> assets = findRulesByProjectQuery
+        return findRulesByProjectQuery
                 .getPageRowList()
                 .stream()
-                .map(row -> {
-                    final Path path = (Path) row.getValue();
-                    return new FolderItem(path,
-                                          path.getFileName(),
-                                          FolderItemType.FILE,
-                                          false,
-                                          Paths.readLockedBy(path),
-                                          Collections.<String>emptyList(),
-                                          explorerServiceHelper.getRestrictedOperations(path));
-                })
-                .collect(Collectors.toList());
-
-        return assets.stream()
-                .map(asset -> {
-                    AssetInfo info = null;
-                    try {
-                        final Map<String, Object> attributes = ioService.readAttributes(Paths.convert((Path) asset.getItem()));
-
-                        final FileTime lastModifiedFileTime = (FileTime) getAttribute(LibraryService.LAST_MODIFIED_TIME,
-                                                                                      attributes).get();
-                        final FileTime createdFileTime = (FileTime) getAttribute(LibraryService.CREATED_TIME,
-                                                                                 attributes).get();
-                        final Date lastModifiedTime = new Date(lastModifiedFileTime.toMillis());
-                        final Date createdTime = new Date(createdFileTime.toMillis());
-                        info = new AssetInfo(asset,
-                                             lastModifiedTime,
-                                             createdTime);
-                    } catch (NoSuchFileException nfe) {
-                        log.debug("File '" + asset.getFileName() + "' in LibraryIndex but not VFS. Suspected deletion. Skipping.");
-                    }
-                    return Optional.ofNullable(info);
-                })
+                .map(this::toAssetInfo)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(Collectors.toList());
     }
 
+    private Optional<AssetInfo> toAssetInfo(final RefactoringPageRow row) {
+        final Path path = (Path) row.getValue();
+
+        //Deleted assets may still be in the index until it is updated
+        if (!ioService.exists(Paths.convert(path))) {
+            log.debug("File '" + path.getFileName() + "' in LibraryIndex but not VFS. Suspected deletion. Skipping.");
+            return Optional.empty();
+        }
+
+        final FolderItem asset = new FolderItem(path,
+                                                path.getFileName(),
+                                                FolderItemType.FILE,
+                                                false,
+                                                Paths.readLockedBy(path),
+                                                Collections.<String>emptyList(),
+                                                explorerServiceHelper.getRestrictedOperations(path));
+
+        //The times are stored in the index, unless the asset was indexed before they were
+        if (row instanceof LibraryAssetPageRow) {
+            final LibraryAssetPageRow assetRow = (LibraryAssetPageRow) row;
+            if (assetRow.getLastModifiedTime() != null && assetRow.getCreatedTime() != null) {
+                return Optional.of(new AssetInfo(asset,
+                                                 assetRow.getLastModifiedTime(),
+                                                 assetRow.getCreatedTime()));
+            }
+        }
+
+        try {
+            final Map<String, Object> attributes = ioService.readAttributes(Paths.convert(path));
+
+            final FileTime lastModifiedFileTime = (FileTime) getAttribute(LibraryService.LAST_MODIFIED_TIME,
+                                                                          attributes).get();
+            final FileTime createdFileTime = (FileTime) getAttribute(LibraryService.CREATED_TIME,
+                                                                     attributes).get();
+            final Date lastModifiedTime = new Date(lastModifiedFileTime.toMillis());
+            final Date createdTime = new Date(createdFileTime.toMillis());
+            return Optional.of(new AssetInfo(asset,
+                                             lastModifiedTime,
+                                             createdTime));
+        } catch (NoSuchFileException nfe) {
+            log.debug("File '" + asset.getFileName() + "' in LibraryIndex but not VFS. Suspected deletion. Skipping.");
+            return Optional.empty();
+        }
+    }
+
     @Override
     public Boolean hasProjects(final Repository repository,
                                final String branch) {
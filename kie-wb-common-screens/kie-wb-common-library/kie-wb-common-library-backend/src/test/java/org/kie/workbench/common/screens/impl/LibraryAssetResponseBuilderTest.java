@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.impl;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.kie.workbench.common.screens.library.api.LibraryService;
+import org.kie.workbench.common.screens.library.api.index.LibraryAssetPageRow;
+import org.kie.workbench.common.screens.library.api.index.LibraryValueProjectRootPathIndexTerm;
+import org.kie.workbench.common.services.refactoring.backend.server.query.NamedQuery;
+import org.kie.workbench.common.services.refactoring.backend.server.query.response.ResponseBuilder;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm.TermSearchType;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRequest;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRow;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.java.nio.file.attribute.FileTime;
+import org.uberfire.paging.PageResponse;
+
+import static org.junit.Assert.*;
+
+public class LibraryAssetResponseBuilderTest
+        extends BaseLibraryIndexingTest {
+
+    @Override
+    protected Set<NamedQuery> getQueries() {
+        return new HashSet<NamedQuery>() {{
+            add(new FindAllLibraryAssetsQuery() {
+                @Override
+                public ResponseBuilder getResponseBuilder() {
+                    return new LibraryAssetResponseBuilder(ioService());
+                }
+            });
+        }};
+    }
+
+    @Test
+    public void rowsHoldTheIndexedTimes() throws IOException, InterruptedException {
+
+        //Add test files
+        addTestFile(BaseLibraryIndexingTest.TEST_PROJECT_ROOT,
+                    "drl1.drl");
+        addTestFile(BaseLibraryIndexingTest.TEST_PROJECT_ROOT,
+                    "rule1.rule");
+
+        Thread.sleep(5000); //wait for events to be consumed from jgit -> (notify changes -> watcher -> index) -> lucene index
+
+        final RefactoringPageRequest request = new RefactoringPageRequest(FindAllLibraryAssetsQuery.NAME,
+                                                                          new HashSet<ValueIndexTerm>() {{
+                                                                              add(new LibraryValueProjectRootPathIndexTerm(BaseLibraryIndexingTest.TEST_PROJECT_ROOT,
+                                                                                                                           TermSearchType.WILDCARD));
+                                                                          }},
+                                                                          0,
+                                                                          10);
+
+        final PageResponse<RefactoringPageRow> response = service.query(request);
+        assertNotNull(response);
+        assertEquals(2,
+                     response.getPageRowList().size());
+
+        for (RefactoringPageRow refactoringPageRow : response.getPageRowList()) {
+            assertTrue(refactoringPageRow instanceof LibraryAssetPageRow);
+            final LibraryAssetPageRow row = (LibraryAssetPageRow) refactoringPageRow;
+            final Map<String, Object> attributes = ioService().readAttributes(Paths.convert(row.getValue()));
+
+            assertEquals(((FileTime) attributes.get(LibraryService.CREATED_TIME)).toMillis(),
+                         row.getCreatedTime().getTime());
+            assertEquals(((FileTime) attributes.get(LibraryService.LAST_MODIFIED_TIME)).toMillis(),
+                         row.getLastModifiedTime().getTime());
+        }
+    }
+
+    @Override
+    protected String getRepositoryName() {
+        return this.getClass().getSimpleName();
+    }
+}
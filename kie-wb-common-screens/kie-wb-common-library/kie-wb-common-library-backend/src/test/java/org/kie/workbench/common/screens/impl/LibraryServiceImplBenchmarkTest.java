@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.impl;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.guvnor.common.services.project.model.Project;
+import org.guvnor.structure.organizationalunit.OrganizationalUnitService;
+import org.guvnor.structure.repositories.RepositoryService;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kie.workbench.common.screens.examples.service.ExamplesService;
+import org.kie.workbench.common.screens.explorer.backend.server.ExplorerServiceHelper;
+import org.kie.workbench.common.screens.library.api.AssetInfo;
+import org.kie.workbench.common.screens.library.api.ProjectAssetsQuery;
+import org.kie.workbench.common.screens.library.api.index.LibraryValueProjectRootPathIndexTerm;
+import org.kie.workbench.common.screens.library.api.preferences.LibraryInternalPreferences;
+import org.kie.workbench.common.screens.library.api.preferences.LibraryPreferences;
+import org.kie.workbench.common.services.refactoring.backend.server.query.NamedQuery;
+import org.kie.workbench.common.services.refactoring.backend.server.query.response.ResponseBuilder;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRequest;
+import org.kie.workbench.common.services.shared.project.KieProjectService;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.rpc.SessionInfo;
+import org.uberfire.security.authz.AuthorizationManager;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Measures the latency of listing a page of the assets of a Project with a large number of assets, from the
+ * Library index to the {@link AssetInfo}s returned to the Library screen. The time it takes to read the same times
+ * from the version history of each asset, as the rows used to be built, is logged for comparison.
+ * <p>
+ * Run with <code>mvn test -Dtest=LibraryServiceImplBenchmarkTest -Dkie.wb.benchmark=true</code>. The number of
+ * assets defaults to 10000 and can be set with <code>-Dkie.wb.benchmark.assets</code>.
+ */
+public class LibraryServiceImplBenchmarkTest
+        extends BaseLibraryIndexingTest {
+
+    private static final int ASSETS = Integer.getInteger("kie.wb.benchmark.assets",
+                                                         10000);
+    private static final int PAGE_SIZE = 25;
+    private static final int MEASURED_PAGES = 20;
+    private static final long INDEXING_TIMEOUT_MINUTES = 30;
+
+    @BeforeClass
+    public static void checkBenchmarkEnabled() {
+        assumeTrue(Boolean.getBoolean("kie.wb.benchmark"));
+    }
+
+    @Override
+    protected Set<NamedQuery> getQueries() {
+        return new HashSet<NamedQuery>() {{
+            add(new FindAllLibraryAssetsQuery() {
+                @Override
+                public ResponseBuilder getResponseBuilder() {
+                    return new LibraryAssetResponseBuilder(ioService());
+                }
+            });
+        }};
+    }
+
+    @Override
+    protected KieProjectService getProjectService() {
+        final KieProjectService projectService = super.getProjectService();
+        when(projectService.resolveProject(any(org.uberfire.backend.vfs.Path.class))).thenReturn(getKieProjectMock(getProjectRootUri(),
+                                                                                                                  TEST_PROJECT_NAME));
+        return projectService;
+    }
+
+    @Test
+    public void testProjectAssetsLatency() throws Exception {
+        ioService().startBatch(basePath.getFileSystem());
+        try {
+            for (int i = 0; i < ASSETS; i++) {
+                ioService().write(basePath.resolve("project/src/main/resources/org/test/rule" + i + ".drl"),
+                                  "rule R" + i + " when then end");
+            }
+        } finally {
+            ioService().endBatch();
+        }
+        waitForIndexing();
+
+        final IOService ioService = spy(ioService());
+        doReturn(true).when(ioService).exists(any(Path.class));
+        final LibraryServiceImpl libraryService = new LibraryServiceImpl(mock(OrganizationalUnitService.class),
+                                                                         mock(RepositoryService.class),
+                                                                         mock(KieProjectService.class),
+                                                                         service,
+                                                                         mock(LibraryPreferences.class),
+                                                                         mock(AuthorizationManager.class),
+                                                                         mock(SessionInfo.class),
+                                                                         mock(ExplorerServiceHelper.class),
+                                                                         mock(KieProjectService.class),
+                                                                         mock(ExamplesService.class),
+                                                                         ioService,
+                                                                         mock(LibraryInternalPreferences.class));
+
+        final Project project = mock(Project.class);
+        final org.uberfire.backend.vfs.Path projectRoot = mock(org.uberfire.backend.vfs.Path.class);
+        when(projectRoot.toURI()).thenReturn(getProjectRootUri());
+        when(project.getRootPath()).thenReturn(projectRoot);
+
+        //Warm up
+        libraryService.getProjectAssets(new ProjectAssetsQuery(project,
+                                                               "",
+                                                               0,
+                                                               PAGE_SIZE));
+
+        long pagesNanos = 0;
+        long attributesNanos = 0;
+        for (int page = 0; page < MEASURED_PAGES; page++) {
+            final int startIndex = page * (ASSETS - PAGE_SIZE) / MEASURED_PAGES;
+
+            long start = System.nanoTime();
+            final List<AssetInfo> assets = libraryService.getProjectAssets(new ProjectAssetsQuery(project,
+                                                                                                  "",
+                                                                                                  startIndex,
+                                                                                                  PAGE_SIZE));
+            pagesNanos += System.nanoTime() - start;
+            assertEquals(PAGE_SIZE,
+                         assets.size());
+
+            start = System.nanoTime();
+            for (AssetInfo asset : assets) {
+                ioService().readAttributes(Paths.convert((org.uberfire.backend.vfs.Path) asset.getFolderItem().getItem()));
+            }
+            attributesNanos += System.nanoTime() - start;
+        }
+
+        //All rows were built from the index
+        verify(ioService,
+               never()).readAttributes(any(Path.class));
+
+        logger.info("Project with {} assets: average page latency {} us, reading the attributes of a page from the VFS takes {} us",
+                    ASSETS,
+                    TimeUnit.NANOSECONDS.toMicros(pagesNanos) / MEASURED_PAGES,
+                    TimeUnit.NANOSECONDS.toMicros(attributesNanos) / MEASURED_PAGES);
+    }
+
+    private void waitForIndexing() throws InterruptedException {
+        final RefactoringPageRequest lastAsset = new RefactoringPageRequest(FindAllLibraryAssetsQuery.NAME,
+                                                                            new HashSet<ValueIndexTerm>() {{
+                                                                                add(new LibraryValueProjectRootPathIndexTerm(getProjectRootUri()));
+                                                                            }},
+                                                                            ASSETS - 1,
+                                                                            1);
+        final long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(INDEXING_TIMEOUT_MINUTES);
+        while (service.query(lastAsset).getPageRowList().isEmpty()) {
+            assertTrue("Assets were not indexed in time",
+                       System.currentTimeMillis() < deadline);
+            Thread.sleep(1000);
+        }
+    }
+
+    private String getProjectRootUri() {
+        return "git://" + getRepositoryName() + "/someNewOtherPath/project";
+    }
+
+    @Override
+    protected String getRepositoryName() {
+        return this.getClass().getSimpleName();
+    }
+}
@@ -18,6 +18,7 @@ package org.kie.workbench.common.screens.impl;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -46,6 +47,7 @@ import org.kie.workbench.common.screens.library.api.AssetInfo;
 import org.kie.workbench.common.screens.library.api.LibraryInfo;
 import org.kie.workbench.common.screens.library.api.OrganizationalUnitRepositoryInfo;
 import org.kie.workbench.common.screens.library.api.ProjectAssetsQuery;
+import org.kie.workbench.common.screens.library.api.index.LibraryAssetPageRow;
 import org.kie.workbench.common.screens.library.api.preferences.LibraryInternalPreferences;
 import org.kie.workbench.common.screens.library.api.preferences.LibraryOrganizationalUnitPreferences;
 import org.kie.workbench.common.screens.library.api.preferences.LibraryPreferences;
@@ -436,6 +438,83 @@ public class LibraryServiceImplTest {
         assertTrue(projectAssets.isEmpty());
     }
 
+    @Test
+    public void queryAssetsUsesTheTimesStoredInTheIndex() throws Exception {
+
+        final Path path = mockPath("file://the_project");
+
+        final Project project = mock(Project.class);
+        when(project.getRootPath()).thenReturn(path);
+
+        doReturn(true).when(ioService).exists(any());
+
+        final ProjectAssetsQuery query = new ProjectAssetsQuery(project,
+                                                                "",
+                                                                0,
+                                                                20);
+
+        final PageResponse<RefactoringPageRow> pageRowPageResponse = new PageResponse<>();
+        final ArrayList<RefactoringPageRow> assetPageRowList = new ArrayList<>();
+        final Path filePath = mockPath("file://the_project/rule.drl");
+        when(filePath.getFileName()).thenReturn("rule.drl");
+        final LibraryAssetPageRow pageRow = new LibraryAssetPageRow();
+        pageRow.setValue(filePath);
+        pageRow.setCreatedTime(new Date(1000));
+        pageRow.setLastModifiedTime(new Date(2000));
+        assetPageRowList.add(pageRow);
+
+        pageRowPageResponse.setPageRowList(assetPageRowList);
+        when(refactoringQueryService.query(any(RefactoringPageRequest.class))).thenReturn(pageRowPageResponse);
+
+        final List<AssetInfo> projectAssets = libraryService.getProjectAssets(query);
+
+        assertEquals(1,
+                     projectAssets.size());
+        assertEquals("rule.drl",
+                     projectAssets.get(0).getFolderItem().getFileName());
+        assertEquals(new Date(1000),
+                     projectAssets.get(0).getCreatedTime());
+        assertEquals(new Date(2000),
+                     projectAssets.get(0).getLastModifiedTime());
+        verify(ioService,
+               never()).readAttributes(any());
+    }
+
+    @Test
+    public void queryAssetsSkipsDeletedAssetsWithTimesStoredInTheIndex() throws Exception {
+
+        final Path path = mockPath("file://the_project");
+
+        final Project project = mock(Project.class);
+        when(project.getRootPath()).thenReturn(path);
+
+        //The Project exists, the asset was deleted
+        when(ioService.exists(any())).thenReturn(true,
+                                                 false);
+
+        final ProjectAssetsQuery query = new ProjectAssetsQuery(project,
+                                                                "",
+                                                                0,
+                                                                20);
+
+        final PageResponse<RefactoringPageRow> pageRowPageResponse = new PageResponse<>();
+        final ArrayList<RefactoringPageRow> assetPageRowList = new ArrayList<>();
+        final Path filePath = mockPath("file://the_project/delete.me");
+        when(filePath.getFileName()).thenReturn("delete.me");
+        final LibraryAssetPageRow pageRow = new LibraryAssetPageRow();
+        pageRow.setValue(filePath);
+        pageRow.setCreatedTime(new Date(1000));
+        pageRow.setLastModifiedTime(new Date(2000));
+        assetPageRowList.add(pageRow);
+
+        pageRowPageResponse.setPageRowList(assetPageRowList);
+        when(refactoringQueryService.query(any(RefactoringPageRequest.class))).thenReturn(pageRowPageResponse);
+
+        final List<AssetInfo> projectAssets = libraryService.getProjectAssets(query);
+
+        assertTrue(projectAssets.isEmpty());
+    }
+
     private Path mockPath(final String uri) {
         final Path path = mock(Path.class);
         when(path.toURI()).thenReturn(uri);
@@ -27,7 +27,6 @@ import javax.inject.Inject;
 import javax.inject.Named;
 
 import com.google.common.collect.Lists;
-import com.thoughtworks.xstream.XStream;
 import org.guvnor.common.services.backend.file.LinkedDotFileFilter;
 import org.guvnor.common.services.backend.file.LinkedRegularFileFilter;
 import org.guvnor.common.services.project.model.Package;
@@ -49,8 +48,6 @@ import org.uberfire.backend.server.UserServicesImpl;
 import org.uberfire.backend.server.VFSLockServiceImpl;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
-import org.uberfire.commons.async.DescriptiveRunnable;
-import org.uberfire.commons.async.SimpleAsyncExecutorService;
 import org.uberfire.ext.editor.commons.service.CopyService;
 import org.uberfire.ext.editor.commons.service.DeleteService;
 import org.uberfire.ext.editor.commons.service.RenameService;
@@ -67,7 +64,6 @@ public class ExplorerServiceHelper {
 
     private LinkedDotFileFilter dotFileFilter = new LinkedDotFileFilter();
     private LinkedRegularFileFilter regularFileFilter = new LinkedRegularFileFilter( dotFileFilter );
-    private XStream xs = new XStream();
 
     private KieProjectService projectService;
     private FolderListingResolver folderListingResolver;
@@ -76,6 +72,7 @@ public class ExplorerServiceHelper {
     private VFSLockServiceImpl lockService;
     private MetadataService metadataService;
     private UserServicesImpl userServices;
+    private UserNavigationStore navigationStore;
 
     private DeleteService deleteService;
     private RenameService renameService;
@@ -93,6 +90,7 @@ public class ExplorerServiceHelper {
                                   final VFSLockServiceImpl lockService,
                                   final MetadataService metadataService,
                                   final UserServicesImpl userServices,
+                                  final UserNavigationStore navigationStore,
                                   final DeleteService deleteService,
                                   final RenameService renameService,
                                   final CopyService copyService ) {
@@ -103,6 +101,7 @@ public class ExplorerServiceHelper {
         this.lockService = lockService;
         this.metadataService = metadataService;
         this.userServices = userServices;
+        this.navigationStore = navigationStore;
         this.deleteService = deleteService;
         this.renameService = renameService;
         this.copyService = copyService;
@@ -350,11 +349,7 @@ public class ExplorerServiceHelper {
         final org.uberfire.java.nio.file.Path userNavPath = userServices.buildPath( "explorer", "user.nav" );
         final org.uberfire.java.nio.file.Path lastUserNavPath = userServices.buildPath( "explorer", "last.user.nav" );
 
-        final OrganizationalUnit _selectedOrganizationalUnit = selectedOrganizationalUnit;
-        final Repository _selectedRepository = selectedRepository;
-        final String _branch = branch;
-        final Project _selectedProject = selectedProject;
-        final FolderItem _selectedItem = folderListing.getItem();
+        final FolderItem selectedItem = folderListing.getItem();
         final org.guvnor.common.services.project.model.Package _selectedPackage;
         if ( selectedPackage != null ) {
             _selectedPackage = selectedPackage;
@@ -364,23 +359,13 @@ public class ExplorerServiceHelper {
             _selectedPackage = null;
         }
 
-        SimpleAsyncExecutorService.getDefaultInstance().execute( new DescriptiveRunnable() {
-            @Override
-            public String getDescription() {
-                return "Serialize Navigation State";
-            }
-
-            @Override
-            public void run() {
-                try {
-                    store( userNavPath, lastUserNavPath, _selectedOrganizationalUnit,
-                           _selectedRepository, _branch, _selectedProject,
-                           _selectedPackage, _selectedItem, options );
-                } catch ( final Exception e ) {
-                    LOGGER.error( "Can't serialize user's state navigation", e );
-                }
-            }
-        } );
+        try {
+            store( userNavPath, lastUserNavPath, selectedOrganizationalUnit,
+                   selectedRepository, branch, selectedProject,
+                   _selectedPackage, selectedItem, options );
+        } catch ( final Exception e ) {
+            LOGGER.error( "Can't serialize user's state navigation", e );
+        }
     }
 
     public void store( final org.uberfire.java.nio.file.Path userNav,
@@ -392,69 +377,48 @@ public class ExplorerServiceHelper {
                        final Package pkg,
                        final FolderItem item,
                        final ActiveOptions options ) {
-        final UserExplorerData content;
-        final UserExplorerData _content = loadUserContent( userNav );
-        if ( _content == null ) {
-            content = new UserExplorerData();
-        } else {
-            content = _content;
-        }
         final UserExplorerLastData lastContent = new UserExplorerLastData();
-        if ( organizationalUnit != null ) {
-            content.setOrganizationalUnit( organizationalUnit );
-        }
-        if ( repository != null && organizationalUnit != null ) {
-            content.addRepository( organizationalUnit, repository );
-        }
-        if ( project != null && organizationalUnit != null && repository != null ) {
-            content.addProject( organizationalUnit, repository, project );
-        }
         if ( item != null && organizationalUnit != null && repository != null && branch != null && project != null ) {
             lastContent.setFolderItem( organizationalUnit, repository, branch, project, item );
-            content.addFolderItem( organizationalUnit, repository, project, item );
         }
         if ( pkg != null && organizationalUnit != null && repository != null && branch != null && project != null ) {
             lastContent.setPackage( organizationalUnit, repository, branch, project, pkg );
-            content.addPackage( organizationalUnit, repository, project, pkg );
         }
         if ( options != null && !options.isEmpty() ) {
             lastContent.setOptions( options );
         }
-        if ( !content.isEmpty() ) {
-            try {
-                ioServiceConfig.startBatch( userNav.getFileSystem() );
-                ioServiceConfig.write( userNav,
-                                       xs.toXML( content ) );
-                ioServiceConfig.write( lastUserNav,
-                                       xs.toXML( lastContent ) );
-            } finally {
-                ioServiceConfig.endBatch();
+        navigationStore.update( userNav, lastUserNav, content -> {
+            if ( organizationalUnit != null ) {
+                content.setOrganizationalUnit( organizationalUnit );
             }
-        }
+            if ( repository != null && organizationalUnit != null ) {
+                content.addRepository( organizationalUnit, repository );
+            }
+            if ( project != null && organizationalUnit != null && repository != null ) {
+                content.addProject( organizationalUnit, repository, project );
+            }
+            if ( item != null && organizationalUnit != null && repository != null && branch != null && project != null ) {
+                content.addFolderItem( organizationalUnit, repository, project, item );
+            }
+            if ( pkg != null && organizationalUnit != null && repository != null && branch != null && project != null ) {
+                content.addPackage( organizationalUnit, repository, project, pkg );
+            }
+        }, lastContent );
     }
 
     public UserExplorerData loadUserContent( final org.uberfire.java.nio.file.Path path ) {
-        try {
-            if ( ioServiceConfig.exists( path ) ) {
-                final String xml = ioServiceConfig.readAllString( path );
-                return (UserExplorerData) xs.fromXML( xml );
-            }
-        } catch ( final Exception ignored ) {
-        }
-        return null;
+        return navigationStore.readUserContent( path );
     }
 
     public UserExplorerData loadUserContent() {
-        final UserExplorerData userExplorerData = loadUserContent( userServices.buildPath( "explorer", "user.nav" ) );
-        if ( userExplorerData != null ) {
-            return userExplorerData;
-        }
-        return new UserExplorerData();
+        return navigationStore.getUserContent( userServices.buildPath( "explorer", "user.nav" ),
+                                               userServices.buildPath( "explorer", "last.user.nav" ) );
     }
 
     public UserExplorerLastData getLastContent() {
         try {
-            final UserExplorerLastData lastData = getLastContent( userServices.buildPath( "explorer", "last.user.nav" ) );
+            final UserExplorerLastData lastData = navigationStore.getLastContent( userServices.buildPath( "explorer", "user.nav" ),
+                                                                                  userServices.buildPath( "explorer", "last.user.nav" ) );
             if ( lastData != null ) {
                 return lastData;
             }
@@ -464,14 +428,7 @@ public class ExplorerServiceHelper {
     }
 
     public UserExplorerLastData getLastContent( final org.uberfire.java.nio.file.Path path ) {
-        try {
-            if ( ioServiceConfig.exists( path ) ) {
-                final String xml = ioServiceConfig.readAllString( path );
-                return (UserExplorerLastData) xs.fromXML( xml );
-            }
-        } catch ( final Exception ignored ) {
-        }
-        return null;
+        return navigationStore.readLastContent( path );
     }
 
     public List<FolderItemOperation> getRestrictedOperations( final Path path ) {
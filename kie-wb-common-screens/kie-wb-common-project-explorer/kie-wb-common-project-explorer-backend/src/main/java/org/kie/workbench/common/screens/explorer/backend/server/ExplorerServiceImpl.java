@@ -59,8 +59,6 @@ import org.uberfire.backend.server.VFSLockServiceImpl;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.backend.vfs.impl.LockInfo;
-import org.uberfire.commons.async.DescriptiveRunnable;
-import org.uberfire.commons.async.SimpleAsyncExecutorService;
 import org.uberfire.ext.editor.commons.backend.service.helper.CopyHelper;
 import org.uberfire.ext.editor.commons.backend.service.helper.RenameHelper;
 import org.uberfire.ext.editor.commons.service.CopyService;
@@ -102,6 +100,9 @@ public class ExplorerServiceImpl
     @Inject
     private ExplorerServiceHelper helper;
 
+    @Inject
+    private UserNavigationStore navigationStore;
+
     @Inject
     private OrganizationalUnitService organizationalUnitService;
 
@@ -261,26 +262,16 @@ public class ExplorerServiceImpl
             final org.uberfire.java.nio.file.Path userNavPath = userServices.buildPath( "explorer", "user.nav" );
             final org.uberfire.java.nio.file.Path lastUserNavPath = userServices.buildPath( "explorer", "last.user.nav" );
 
-            SimpleAsyncExecutorService.getDefaultInstance().execute( new DescriptiveRunnable() {
-                @Override
-                public String getDescription() {
-                    return "Serialize Navigation State";
+            try {
+                Package pkg = null;
+                if ( item.getItem() instanceof Package ) {
+                    pkg = (Package) item.getItem();
                 }
-
-                @Override
-                public void run() {
-                    try {
-                        Package pkg = null;
-                        if ( item.getItem() instanceof Package ) {
-                            pkg = (Package) item.getItem();
-                        }
-                        helper.store( userNavPath, lastUserNavPath, organizationalUnit,
-                                      repository, branch, project, pkg, item, options );
-                    } catch ( final Exception e ) {
-                        LOGGER.error( "Can't serialize user's state navigation", e );
-                    }
-                }
-            } );
+                helper.store( userNavPath, lastUserNavPath, organizationalUnit,
+                              repository, branch, project, pkg, item, options );
+            } catch ( final Exception e ) {
+                LOGGER.error( "Can't serialize user's state navigation", e );
+            }
         }
 
         return result;
@@ -388,32 +379,35 @@ public class ExplorerServiceImpl
     }
 
     private void cleanup( final Project project ) {
-        final Collection<org.uberfire.java.nio.file.Path> lastNavs = userServicesBackend.getAllUsersData( "explorer", "last.user.nav" );
-        final Collection<org.uberfire.java.nio.file.Path> userNavs = userServicesBackend.getAllUsersData( "explorer", "user.nav" );
-
-        try {
-            ioServiceConfig.startBatch( fileSystem );
-
-            for ( org.uberfire.java.nio.file.Path path : userNavs ) {
-                final UserExplorerData userContent = helper.loadUserContent( path );
-                if ( userContent != null ) {
-                    if ( userContent.deleteProject( project ) ) {
-                        ioServiceConfig.write( path, xs.toXML( userContent ) );
+        //No navigation is applied or written while the users' files are rewritten, so none can bring the Project back
+        navigationStore.rewriteUserFiles( () -> {
+            final Collection<org.uberfire.java.nio.file.Path> lastNavs = userServicesBackend.getAllUsersData( "explorer", "last.user.nav" );
+            final Collection<org.uberfire.java.nio.file.Path> userNavs = userServicesBackend.getAllUsersData( "explorer", "user.nav" );
+
+            try {
+                ioServiceConfig.startBatch( fileSystem );
+
+                for ( org.uberfire.java.nio.file.Path path : userNavs ) {
+                    final UserExplorerData userContent = helper.loadUserContent( path );
+                    if ( userContent != null ) {
+                        if ( userContent.deleteProject( project ) ) {
+                            ioServiceConfig.write( path, xs.toXML( userContent ) );
+                        }
                     }
                 }
-            }
 
-            for ( org.uberfire.java.nio.file.Path lastNav : lastNavs ) {
-                final UserExplorerLastData lastUserContent = helper.getLastContent( lastNav );
-                if ( lastUserContent != null ) {
-                    if ( lastUserContent.deleteProject( project ) ) {
-                        ioServiceConfig.write( lastNav, xs.toXML( lastUserContent ) );
+                for ( org.uberfire.java.nio.file.Path lastNav : lastNavs ) {
+                    final UserExplorerLastData lastUserContent = helper.getLastContent( lastNav );
+                    if ( lastUserContent != null ) {
+                        if ( lastUserContent.deleteProject( project ) ) {
+                            ioServiceConfig.write( lastNav, xs.toXML( lastUserContent ) );
+                        }
                     }
                 }
+            } finally {
+                ioServiceConfig.endBatch();
             }
-        } finally {
-            ioServiceConfig.endBatch();
-        }
+        } );
     }
 
     public class OrganizationalUnitNotFoundForURI extends RuntimeException {
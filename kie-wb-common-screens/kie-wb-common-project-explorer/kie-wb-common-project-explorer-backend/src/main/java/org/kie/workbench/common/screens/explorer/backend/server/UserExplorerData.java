@@ -41,6 +41,21 @@ public class UserExplorerData {
     public UserExplorerData() {
     }
 
+    UserExplorerData( final UserExplorerData other ) {
+        this.organizationalUnit = other.organizationalUnit;
+        this.content.putAll( other.content );
+        copyKeys( other.organizationalUnitKeys, organizationalUnitKeys );
+        copyKeys( other.repositoryKeys, repositoryKeys );
+        copyKeys( other.projectKeys, projectKeys );
+    }
+
+    private static void copyKeys( final Map<String, Set<String>> source,
+                                  final Map<String, Set<String>> target ) {
+        for ( final Map.Entry<String, Set<String>> entry : source.entrySet() ) {
+            target.put( entry.getKey(), new HashSet<String>( entry.getValue() ) );
+        }
+    }
+
     public OrganizationalUnit getOrganizationalUnit() {
         return organizationalUnit;
     }
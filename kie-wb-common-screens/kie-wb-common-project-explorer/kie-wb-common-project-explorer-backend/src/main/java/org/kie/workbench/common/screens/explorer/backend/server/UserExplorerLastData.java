@@ -34,6 +34,16 @@ public class UserExplorerLastData {
     private LastFolderItem lastFolderItem = null;
     private Set<Option> options = new HashSet<Option>();
 
+    public UserExplorerLastData() {
+    }
+
+    UserExplorerLastData( final UserExplorerLastData other ) {
+        //The last package and folder item are replaced, never modified, so they can be shared
+        this.lastPackage = other.lastPackage;
+        this.lastFolderItem = other.lastFolderItem;
+        this.options.addAll( other.options );
+    }
+
     public boolean isDataEmpty() {
         return lastPackage == null && lastFolderItem == null;
     }
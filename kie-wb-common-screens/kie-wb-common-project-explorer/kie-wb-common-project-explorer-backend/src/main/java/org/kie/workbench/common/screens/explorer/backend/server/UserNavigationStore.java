@@ -0,0 +1,359 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.explorer.backend.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import com.thoughtworks.xstream.XStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Path;
+
+/**
+ * Holds the Project Explorer navigation state of each user in memory and writes it behind to the user's
+ * <code>user.nav</code> and <code>last.user.nav</code> files. Updates made within the flush delay are coalesced into
+ * a single batched write of the latest state, instead of one commit per navigation. Pending state is written when the
+ * application shuts down.
+ * <p>
+ * Navigations are applied and written under a shared lock. {@link #rewriteUserFiles(Runnable)} takes it exclusively,
+ * so the users' files can be rewritten without a navigation or a pending write undoing the changes.
+ */
+@ApplicationScoped
+public class UserNavigationStore {
+
+    static final String FLUSH_DELAY_PROPERTY = "org.kie.workbench.explorer.navigation.flush.delay";
+
+    static final long DEFAULT_FLUSH_DELAY_MILLIS = 2000;
+
+    static final int MAX_CACHED_USERS = 1000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger( UserNavigationStore.class );
+
+    private final XStream xs = new XStream();
+
+    private final Map<String, NavigationState> states = Collections.synchronizedMap( new LinkedHashMap<String, NavigationState>( 16,
+                                                                                                                                  0.75f,
+                                                                                                                                  true ) {
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String, NavigationState> eldest ) {
+            if ( size() <= maxCachedUsers ) {
+                return false;
+            }
+            //State with changes not yet written is kept until its flush, otherwise reading the user's files again
+            //would lose them. The map may briefly hold more users than the limit.
+            final NavigationState state = eldest.getValue();
+            synchronized ( state ) {
+                return !state.dirty && !state.scheduled;
+            }
+        }
+    } );
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private IOService ioServiceConfig;
+
+    private long flushDelay;
+
+    private int maxCachedUsers;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public UserNavigationStore() {
+        //CDI proxy
+    }
+
+    @Inject
+    public UserNavigationStore( @Named("configIO") final IOService ioServiceConfig ) {
+        this( ioServiceConfig,
+              Long.getLong( FLUSH_DELAY_PROPERTY,
+                            DEFAULT_FLUSH_DELAY_MILLIS ) );
+    }
+
+    UserNavigationStore( final IOService ioServiceConfig,
+                         final long flushDelay ) {
+        this( ioServiceConfig,
+              flushDelay,
+              MAX_CACHED_USERS );
+    }
+
+    UserNavigationStore( final IOService ioServiceConfig,
+                         final long flushDelay,
+                         final int maxCachedUsers ) {
+        this.ioServiceConfig = ioServiceConfig;
+        this.flushDelay = flushDelay;
+        this.maxCachedUsers = maxCachedUsers;
+    }
+
+    /**
+     * @return a copy of the user's navigation history, including changes not yet written.
+     */
+    public UserExplorerData getUserContent( final Path userNav,
+                                            final Path lastUserNav ) {
+        lock.readLock().lock();
+        try {
+            final NavigationState state = getState( userNav,
+                                                    lastUserNav );
+            synchronized ( state ) {
+                return new UserExplorerData( state.content );
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return a copy of the user's last navigation, including changes not yet written.
+     */
+    public UserExplorerLastData getLastContent( final Path userNav,
+                                                final Path lastUserNav ) {
+        lock.readLock().lock();
+        try {
+            final NavigationState state = getState( userNav,
+                                                    lastUserNav );
+            synchronized ( state ) {
+                return new UserExplorerLastData( state.lastContent );
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a navigation to the user's state and schedules it to be written. The given last navigation replaces
+     * the previous one and should not be modified afterwards.
+     */
+    public void update( final Path userNav,
+                        final Path lastUserNav,
+                        final Consumer<UserExplorerData> contentUpdate,
+                        final UserExplorerLastData lastContent ) {
+        final NavigationState state;
+        final boolean schedule;
+        lock.readLock().lock();
+        try {
+            state = getState( userNav,
+                              lastUserNav );
+            synchronized ( state ) {
+                contentUpdate.accept( state.content );
+                state.lastContent = lastContent;
+                state.dirty = true;
+                schedule = !state.scheduled;
+                state.scheduled = true;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if ( !schedule ) {
+            return;
+        }
+        if ( flushDelay <= 0 ) {
+            flush( state );
+        } else {
+            getScheduler().schedule( () -> flush( state ),
+                                     flushDelay,
+                                     TimeUnit.MILLISECONDS );
+        }
+    }
+
+    /**
+     * Writes the pending state of all users.
+     */
+    public void flushAll() {
+        final List<NavigationState> pending;
+        synchronized ( states ) {
+            pending = new ArrayList<>( states.values() );
+        }
+        for ( NavigationState state : pending ) {
+            flush( state );
+        }
+    }
+
+    /**
+     * Drops the state held in memory, so it is read again from the users' files. Pending state should be written
+     * with {@link #flushAll()} first.
+     */
+    public void invalidateAll() {
+        states.clear();
+    }
+
+    /**
+     * Rewrites the users' files while no navigation is applied or written. Pending state is written first, so the
+     * files are up to date, and the state held in memory is dropped afterwards, so it is read again from the rewritten
+     * files.
+     * @param rewrite Reads and rewrites the users' <code>user.nav</code> and <code>last.user.nav</code> files.
+     */
+    public void rewriteUserFiles( final Runnable rewrite ) {
+        lock.writeLock().lock();
+        try {
+            flushAll();
+            rewrite.run();
+        } finally {
+            invalidateAll();
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        final ScheduledExecutorService scheduler = this.scheduler;
+        if ( scheduler != null ) {
+            scheduler.shutdownNow();
+        }
+        flushAll();
+    }
+
+    public UserExplorerData readUserContent( final Path path ) {
+        return read( path,
+                     UserExplorerData.class );
+    }
+
+    public UserExplorerLastData readLastContent( final Path path ) {
+        return read( path,
+                     UserExplorerLastData.class );
+    }
+
+    int getCachedUsers() {
+        return states.size();
+    }
+
+    private NavigationState getState( final Path userNav,
+                                      final Path lastUserNav ) {
+        final String key = userNav.toUri().toString();
+        final NavigationState state = states.get( key );
+        if ( state != null ) {
+            return state;
+        }
+
+        //Read outside of the lock, so loading one user's files does not block the others
+        final UserExplorerData content = readUserContent( userNav );
+        final UserExplorerLastData lastContent = readLastContent( lastUserNav );
+        final NavigationState loaded = new NavigationState( userNav,
+                                                            lastUserNav,
+                                                            content == null ? new UserExplorerData() : content,
+                                                            lastContent == null ? new UserExplorerLastData() : lastContent );
+        final NavigationState existing = states.putIfAbsent( key,
+                                                             loaded );
+        return existing == null ? loaded : existing;
+    }
+
+    private void flush( final NavigationState state ) {
+        lock.readLock().lock();
+        try {
+            doFlush( state );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void doFlush( final NavigationState state ) {
+        synchronized ( state.flushLock ) {
+            final String content;
+            final String lastContent;
+            synchronized ( state ) {
+                state.scheduled = false;
+                if ( !state.dirty || state.content.isEmpty() ) {
+                    return;
+                }
+                state.dirty = false;
+                content = xs.toXML( state.content );
+                lastContent = xs.toXML( state.lastContent );
+            }
+            try {
+                ioServiceConfig.startBatch( state.userNav.getFileSystem() );
+                ioServiceConfig.write( state.userNav,
+                                       content );
+                ioServiceConfig.write( state.lastUserNav,
+                                       lastContent );
+            } catch ( final Exception e ) {
+                LOGGER.error( "Can't serialize user's state navigation",
+                              e );
+            } finally {
+                ioServiceConfig.endBatch();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T read( final Path path,
+                        final Class<T> type ) {
+        try {
+            if ( ioServiceConfig.exists( path ) ) {
+                final String xml = ioServiceConfig.readAllString( path );
+                return (T) xs.fromXML( xml );
+            }
+        } catch ( final Exception ignored ) {
+        }
+        return null;
+    }
+
+    private ScheduledExecutorService getScheduler() {
+        if ( scheduler == null ) {
+            synchronized ( this ) {
+                if ( scheduler == null ) {
+                    scheduler = Executors.newSingleThreadScheduledExecutor( r -> {
+                        final Thread thread = new Thread( r,
+                                                          "explorer-navigation-flush" );
+                        thread.setDaemon( true );
+                        return thread;
+                    } );
+                }
+            }
+        }
+        return scheduler;
+    }
+
+    private static class NavigationState {
+
+        private final Object flushLock = new Object();
+
+        private final Path userNav;
+
+        private final Path lastUserNav;
+
+        private final UserExplorerData content;
+
+        private UserExplorerLastData lastContent;
+
+        private boolean dirty;
+
+        private boolean scheduled;
+
+        private NavigationState( final Path userNav,
+                                 final Path lastUserNav,
+                                 final UserExplorerData content,
+                                 final UserExplorerLastData lastContent ) {
+            this.userNav = userNav;
+            this.lastUserNav = lastUserNav;
+            this.content = content;
+            this.lastContent = lastContent;
+        }
+    }
+}
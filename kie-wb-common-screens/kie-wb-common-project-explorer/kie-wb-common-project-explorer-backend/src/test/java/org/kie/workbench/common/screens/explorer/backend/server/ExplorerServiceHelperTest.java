@@ -79,6 +79,9 @@ public class ExplorerServiceHelperTest {
     @Mock
     private UserServicesImpl userServices;
 
+    @Mock
+    private UserNavigationStore navigationStore;
+
     @Mock
     private DeleteService deleteService;
 
@@ -154,6 +157,7 @@ public class ExplorerServiceHelperTest {
                                                  lockService,
                                                  metadataService,
                                                  userServices,
+                                                 navigationStore,
                                                  deleteService,
                                                  renameService,
                                                  copyService ) );
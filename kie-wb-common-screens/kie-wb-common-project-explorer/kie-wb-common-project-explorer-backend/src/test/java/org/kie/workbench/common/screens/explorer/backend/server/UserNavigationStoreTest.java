@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.explorer.backend.server;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.thoughtworks.xstream.XStream;
+import org.guvnor.structure.organizationalunit.OrganizationalUnit;
+import org.guvnor.structure.organizationalunit.impl.OrganizationalUnitImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.screens.explorer.service.Option;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.FileSystem;
+import org.uberfire.java.nio.file.Path;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class UserNavigationStoreTest {
+
+    @Mock
+    private IOService ioServiceConfig;
+
+    @Mock
+    private FileSystem fileSystem;
+
+    private final Map<Path, String> files = new HashMap<>();
+
+    private Path userNav;
+
+    private Path lastUserNav;
+
+    private OrganizationalUnit organizationalUnit;
+
+    @Before
+    public void setUp() {
+        userNav = path( "default://master@config/user/explorer/user.nav" );
+        lastUserNav = path( "default://master@config/user/explorer/last.user.nav" );
+
+        organizationalUnit = new OrganizationalUnitImpl( "ou",
+                                                         "owner",
+                                                         "group" );
+        when( ioServiceConfig.exists( any( Path.class ) ) ).thenAnswer( invocation -> files.containsKey( invocation.getArguments()[ 0 ] ) );
+        when( ioServiceConfig.readAllString( any( Path.class ) ) ).thenAnswer( invocation -> files.get( invocation.getArguments()[ 0 ] ) );
+        when( ioServiceConfig.write( any( Path.class ),
+                                     anyString() ) ).thenAnswer( invocation -> {
+            files.put( (Path) invocation.getArguments()[ 0 ],
+                       (String) invocation.getArguments()[ 1 ] );
+            return invocation.getArguments()[ 0 ];
+        } );
+    }
+
+    @Test
+    public void testUpdatesWithinTheDelayAreCoalesced() {
+        final UserNavigationStore store = new UserNavigationStore( ioServiceConfig,
+                                                                   Long.MAX_VALUE );
+
+        for ( int i = 0; i < 10; i++ ) {
+            store.update( userNav,
+                          lastUserNav,
+                          content -> content.setOrganizationalUnit( organizationalUnit ),
+                          new UserExplorerLastData() );
+        }
+
+        verify( ioServiceConfig,
+                never() ).write( any( Path.class ),
+                                 anyString() );
+        assertEquals( organizationalUnit,
+                      store.getUserContent( userNav,
+                                            lastUserNav ).getOrganizationalUnit() );
+
+        store.shutdown();
+
+        verify( ioServiceConfig,
+                times( 1 ) ).startBatch( fileSystem );
+        verify( ioServiceConfig,
+                times( 1 ) ).write( eq( userNav ),
+                                    anyString() );
+        verify( ioServiceConfig,
+                times( 1 ) ).write( eq( lastUserNav ),
+                                    anyString() );
+    }
+
+    @Test
+    public void testUserFilesAreReadOnce() {
+        final UserNavigationStore store = new UserNavigationStore( ioServiceConfig,
+                                                                   0 );
+        files.put( userNav,
+                   new XStream().toXML( new UserExplorerData() ) );
+
+        store.getUserContent( userNav,
+                              lastUserNav );
+        store.getLastContent( userNav,
+                              lastUserNav );
+
+        verify( ioServiceConfig,
+                times( 1 ) ).readAllString( userNav );
+        assertEquals( 1,
+                      store.getCachedUsers() );
+    }
+
+    @Test
+    public void testEmptyStateIsNotWritten() {
+        final UserNavigationStore store = new UserNavigationStore( ioServiceConfig,
+                                                                   0 );
+
+        store.update( userNav,
+                      lastUserNav,
+                      content -> {
+                      },
+                      new UserExplorerLastData() );
+
+        verify( ioServiceConfig,
+                never() ).write( any( Path.class ),
+                                 anyString() );
+    }
+
+    @Test
+    public void testInvalidatedStateIsReadAgain() {
+        final UserNavigationStore store = new UserNavigationStore( ioServiceConfig,
+                                                                   0 );
+        store.update( userNav,
+                      lastUserNav,
+                      content -> content.setOrganizationalUnit( organizationalUnit ),
+                      new UserExplorerLastData() );
+
+        store.invalidateAll();
+
+        assertEquals( 0,
+                      store.getCachedUsers() );
+        assertNotNull( store.getUserContent( userNav,
+                                             lastUserNav ).getOrganizationalUnit() );
+    }
+
+    @Test
+    public void testLastContentIsACopy() {
+        final UserNavigationStore store = new UserNavigationStore( ioServiceConfig,
+                                                                   Long.MAX_VALUE );
+
+        store.getLastContent( userNav,
+                              lastUserNav ).getOptions().add( Option.BUSINESS_CONTENT );
+
+        assertTrue( store.getLastContent( userNav,
+                                          lastUserNav ).getOptions().isEmpty() );
+    }
+
+    @Test
+    public void testStateNotYetWrittenIsNotEvicted() {
+        final UserNavigationStore store = new UserNavigationStore( ioServiceConfig,
+                                                                   Long.MAX_VALUE,
+                                                                   1 );
+        store.update( userNav,
+                      lastUserNav,
+                      content -> content.setOrganizationalUnit( organizationalUnit ),
+                      new UserExplorerLastData() );
+
+        store.getUserContent( path( "default://master@config/other/explorer/user.nav" ),
+                              path( "default://master@config/other/explorer/last.user.nav" ) );
+
+        assertEquals( 2,
+                      store.getCachedUsers() );
+        assertEquals( organizationalUnit,
+                      store.getUserContent( userNav,
+                                            lastUserNav ).getOrganizationalUnit() );
+    }
+
+    @Test
+    public void testUserFilesAreRewrittenAfterPendingStateIsWritten() {
+        final UserNavigationStore store = new UserNavigationStore( ioServiceConfig,
+                                                                   Long.MAX_VALUE );
+        store.update( userNav,
+                      lastUserNav,
+                      content -> content.setOrganizationalUnit( organizationalUnit ),
+                      new UserExplorerLastData() );
+
+        store.rewriteUserFiles( () -> {
+            assertTrue( files.containsKey( userNav ) );
+            files.put( userNav,
+                       new XStream().toXML( new UserExplorerData() ) );
+        } );
+
+        //The state is read again from the rewritten file, and the pending write does not undo the rewrite
+        assertNull( store.getUserContent( userNav,
+                                          lastUserNav ).getOrganizationalUnit() );
+        store.shutdown();
+        verify( ioServiceConfig,
+                times( 1 ) ).write( eq( userNav ),
+                                    anyString() );
+    }
+
+    private Path path( final String uri ) {
+        final Path path = mock( Path.class );
+        when( path.toUri() ).thenReturn( URI.create( uri ) );
+        when( path.getFileSystem() ).thenReturn( fileSystem );
+        return path;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.search.backend.server;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceCopiedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Caches the attributes shown in the rows of search results, keyed by the URI of each asset. Reading them walks the
+ * version history of the asset, so the attributes of recently listed assets are kept until the asset changes.
+ */
+@ApplicationScoped
+public class AssetAttributesCache {
+
+    static final int MAX_CACHED_ASSETS = 1000;
+
+    private final Map<String, AssetAttributes> cache = Collections.synchronizedMap( new LinkedHashMap<String, AssetAttributes>( 16,
+                                                                                                                                 0.75f,
+                                                                                                                                 true ) {
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String, AssetAttributes> eldest ) {
+            return size() > MAX_CACHED_ASSETS;
+        }
+    } );
+
+    public AssetAttributes get( final String uri ) {
+        return cache.get( uri );
+    }
+
+    public void put( final String uri,
+                     final AssetAttributes attributes ) {
+        cache.put( uri,
+                   attributes );
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    public void onResourceAdded( @Observes final ResourceAddedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceUpdated( @Observes final ResourceUpdatedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceDeleted( @Observes final ResourceDeletedEvent event ) {
+        invalidate( event.getPath() );
+    }
+
+    public void onResourceRenamed( @Observes final ResourceRenamedEvent event ) {
+        invalidate( event.getPath() );
+        invalidate( event.getDestinationPath() );
+    }
+
+    public void onResourceCopied( @Observes final ResourceCopiedEvent event ) {
+        invalidate( event.getDestinationPath() );
+    }
+
+    public void onBatchResourceChanges( @Observes final ResourceBatchChangesEvent event ) {
+        for ( final Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet() ) {
+            invalidate( entry.getKey() );
+            for ( final ResourceChange change : entry.getValue() ) {
+                if ( change instanceof ResourceRenamed ) {
+                    invalidate( ( (ResourceRenamed) change ).getDestinationPath() );
+                }
+            }
+        }
+    }
+
+    private void invalidate( final Path path ) {
+        if ( path != null ) {
+            cache.remove( path.toURI() );
+        }
+    }
+
+    /**
+     * The attributes of an asset shown in a row of search results.
+     */
+    public static class AssetAttributes {
+
+        private final String creator;
+        private final Date createdDate;
+        private final String lastContributor;
+        private final Date lastModifiedDate;
+        private final String description;
+
+        public AssetAttributes( final String creator,
+                                final Date createdDate,
+                                final String lastContributor,
+                                final Date lastModifiedDate,
+                                final String description ) {
+            this.creator = creator;
+            this.createdDate = createdDate;
+            this.lastContributor = lastContributor;
+            this.lastModifiedDate = lastModifiedDate;
+            this.description = description;
+        }
+
+        public String getCreator() {
+            return creator;
+        }
+
+        public Date getCreatedDate() {
+            return createdDate;
+        }
+
+        public String getLastContributor() {
+            return lastContributor;
+        }
+
+        public Date getLastModifiedDate() {
+            return lastModifiedDate;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -38,6 +38,7 @@ import org.guvnor.structure.organizationalunit.OrganizationalUnitService;
 import org.guvnor.structure.repositories.Repository;
 import org.jboss.errai.bus.server.annotations.Service;
 import org.jboss.errai.security.shared.api.identity.User;
+import org.kie.workbench.common.screens.search.backend.server.AssetAttributesCache.AssetAttributes;
 import org.kie.workbench.common.screens.search.model.QueryMetadataPageRequest;
 import org.kie.workbench.common.screens.search.model.SearchPageRow;
 import org.kie.workbench.common.screens.search.model.SearchTermPageRequest;
@@ -47,11 +48,15 @@ import org.kie.workbench.common.services.shared.project.KieProjectService;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.commons.validation.PortablePreconditions;
 import org.uberfire.ext.metadata.model.KObject;
+import org.uberfire.ext.metadata.model.KProperty;
 import org.uberfire.ext.metadata.search.DateRange;
 import org.uberfire.ext.metadata.search.IOSearchService;
 import org.uberfire.io.IOService;
+import org.uberfire.io.attribute.DublinCoreAttributes;
 import org.uberfire.io.attribute.DublinCoreView;
 import org.uberfire.java.nio.base.version.VersionAttributeView;
+import org.uberfire.java.nio.base.version.VersionAttributes;
+import org.uberfire.java.nio.base.version.VersionRecord;
 import org.uberfire.java.nio.file.Path;
 import org.uberfire.paging.PageResponse;
 import org.uberfire.security.authz.AuthorizationManager;
@@ -61,6 +66,9 @@ import org.uberfire.workbench.type.ResourceTypeDefinition;
 @ApplicationScoped
 public class SearchServiceImpl implements SearchService {
 
+    //Name of the property holding the Project root URI in the documents of the KIE indexers
+    static final String PROJECT_ROOT_PROPERTY = "projectRoot";
+
     private IOSearchService ioSearchService;
 
     private IOService ioService;
@@ -75,6 +83,8 @@ public class SearchServiceImpl implements SearchService {
 
     private Instance<ResourceTypeDefinition> typeRegister;
 
+    private AssetAttributesCache attributesCache;
+
     private Map<String, ResourceTypeDefinition> types = new HashMap<String, ResourceTypeDefinition>();
 
     private PageResponse<SearchPageRow> emptyResponse = null;
@@ -90,7 +100,8 @@ public class SearchServiceImpl implements SearchService {
                               final KieProjectService projectService,
                               final User identity,
                               final AuthorizationManager authorizationManager,
-                              @Any final Instance<ResourceTypeDefinition> typeRegister ) {
+                              @Any final Instance<ResourceTypeDefinition> typeRegister,
+                              final AssetAttributesCache attributesCache ) {
         this.ioSearchService = PortablePreconditions.checkNotNull( "ioSearchService",
                                                                    ioSearchService );
         this.ioService = PortablePreconditions.checkNotNull( "ioService",
@@ -105,6 +116,8 @@ public class SearchServiceImpl implements SearchService {
                                                                         authorizationManager );
         this.typeRegister = PortablePreconditions.checkNotNull( "typeRegister",
                                                                 typeRegister );
+        this.attributesCache = PortablePreconditions.checkNotNull( "attributesCache",
+                                                                   attributesCache );
     }
 
     @PostConstruct
@@ -185,23 +198,13 @@ public class SearchServiceImpl implements SearchService {
                                                        final int hitsTotalCount ) {
         final List<SearchPageRow> result = new ArrayList<SearchPageRow>( pathResult.size() );
         for ( final Path path : pathResult ) {
-            final DublinCoreView dcoreView = ioService.getFileAttributeView( path,
-                                                                             DublinCoreView.class );
-            final VersionAttributeView versionAttributeView = ioService.getFileAttributeView( path,
-                                                                                              VersionAttributeView.class );
-
-            final String creator = extractCreator( versionAttributeView );
-            final Date createdDate = extractCreatedDate( versionAttributeView );
-            final String lastContributor = extractLastContributor( versionAttributeView );
-            final Date lastModifiedDate = extractLastModifiedDate( versionAttributeView );
-            final String description = extractDescription( dcoreView );
-
+            final AssetAttributes attributes = getAssetAttributes( path );
             final SearchPageRow row = new SearchPageRow( Paths.convert( path ),
-                                                         creator,
-                                                         createdDate,
-                                                         lastContributor,
-                                                         lastModifiedDate,
-                                                         description );
+                                                         attributes.getCreator(),
+                                                         attributes.getCreatedDate(),
+                                                         attributes.getLastContributor(),
+                                                         attributes.getLastModifiedDate(),
+                                                         attributes.getDescription() );
             result.add( row );
         }
 
@@ -215,34 +218,30 @@ public class SearchServiceImpl implements SearchService {
         return response;
     }
 
-    private String extractCreator( final VersionAttributeView versionAttributeView ) {
-        if ( versionAttributeView.readAttributes().history().records().size() > 0 ) {
-            return versionAttributeView.readAttributes().history().records().get( 0 ).author();
-        }
-        return "";
-    }
-
-    private Date extractCreatedDate( final VersionAttributeView versionAttributeView ) {
-        return new Date( versionAttributeView.readAttributes().creationTime().toMillis() );
-    }
-
-    private String extractLastContributor( final VersionAttributeView versionAttributeView ) {
-        if ( versionAttributeView.readAttributes().history().records().size() > 0 ) {
-            final int lastIndex = versionAttributeView.readAttributes().history().records().size() - 1;
-            return versionAttributeView.readAttributes().history().records().get( lastIndex ).author();
+    private AssetAttributes getAssetAttributes( final Path path ) {
+        final String uri = path.toUri().toString();
+        AssetAttributes attributes = attributesCache.get( uri );
+        if ( attributes == null ) {
+            attributes = readAssetAttributes( path );
+            attributesCache.put( uri,
+                                 attributes );
         }
-        return "";
+        return attributes;
     }
 
-    private Date extractLastModifiedDate( final VersionAttributeView versionAttributeView ) {
-        return new Date( versionAttributeView.readAttributes().lastModifiedTime().toMillis() );
-    }
-
-    private String extractDescription( final DublinCoreView dcoreView ) {
-        if ( dcoreView.readAttributes().descriptions().size() > 0 ) {
-            return dcoreView.readAttributes().descriptions().get( 0 );
-        }
-        return "";
+    //Each readAttributes() call can walk the version history of the asset, so each view is read once
+    private AssetAttributes readAssetAttributes( final Path path ) {
+        final VersionAttributes versionAttributes = ioService.getFileAttributeView( path,
+                                                                                    VersionAttributeView.class ).readAttributes();
+        final DublinCoreAttributes dcoreAttributes = ioService.getFileAttributeView( path,
+                                                                                     DublinCoreView.class ).readAttributes();
+        final List<VersionRecord> records = versionAttributes.history().records();
+
+        return new AssetAttributes( records.isEmpty() ? "" : records.get( 0 ).author(),
+                                    new Date( versionAttributes.creationTime().toMillis() ),
+                                    records.isEmpty() ? "" : records.get( records.size() - 1 ).author(),
+                                    new Date( versionAttributes.lastModifiedTime().toMillis() ),
+                                    dcoreAttributes.descriptions().isEmpty() ? "" : dcoreAttributes.descriptions().get( 0 ) );
     }
 
     //Only search the Repositories for which the User has permission to access
@@ -293,6 +292,11 @@ public class SearchServiceImpl implements SearchService {
         };
     }
 
+    /**
+     * Pages the authorized hits while counting all of them. Every hit needs to be checked to count the authorized
+     * hits, so the Project of each hit is taken from the indexed Project root where available; otherwise it is
+     * resolved once per folder. Authorization is checked once per Project root.
+     */
     class PagedCountingFilter implements IOSearchService.Filter {
 
         private int hitsStartIndex = -1;
@@ -302,6 +306,12 @@ public class SearchServiceImpl implements SearchService {
         private final int startRow;
         private final int pageSize;
 
+        //Folder URI to the Project containing it, or null for folders outside the Project structure
+        private final Map<String, KieProject> folderProjects = new HashMap<String, KieProject>();
+
+        //Project root URI to whether the User is authorized to access the Project
+        private final Map<String, Boolean> authorizedProjectRoots = new HashMap<String, Boolean>();
+
         PagedCountingFilter( final int startRow,
                              final int pageSize ) {
             this.startRow = startRow;
@@ -310,18 +320,7 @@ public class SearchServiceImpl implements SearchService {
 
         @Override
         public boolean accept( final KObject kObject ) {
-            final Path path = ioService.get( URI.create( kObject.getKey() ) );
-            final org.uberfire.backend.vfs.Path vfsPath = Paths.convert( path );
-            final KieProject project = projectService.resolveProject( vfsPath );
-
-            //All Users are granted access to Resources outside the Project structure
-            boolean authorized = true;
-            if ( project != null ) {
-                authorized = authorizationManager.authorize( project,
-                                                             identity );
-            }
-
-            if ( authorized ) {
+            if ( isAuthorized( kObject ) ) {
                 hitsTotalCount++;
                 hitsStartIndex++;
                 if ( hitsStartIndex >= startRow && hitsPageCount < pageSize ) {
@@ -336,6 +335,66 @@ public class SearchServiceImpl implements SearchService {
             return hitsTotalCount;
         }
 
+        private boolean isAuthorized( final KObject kObject ) {
+            final String projectRootUri = getIndexedProjectRoot( kObject );
+            if ( projectRootUri != null ) {
+                Boolean authorized = authorizedProjectRoots.get( projectRootUri );
+                if ( authorized == null ) {
+                    authorized = isAuthorized( resolveProject( projectRootUri ) );
+                    authorizedProjectRoots.put( projectRootUri,
+                                                authorized );
+                }
+                return authorized;
+            }
+
+            final String key = kObject.getKey();
+            final String folderUri = key.substring( 0,
+                                                    key.lastIndexOf( '/' ) + 1 );
+            if ( !folderProjects.containsKey( folderUri ) ) {
+                folderProjects.put( folderUri,
+                                    resolveProject( key ) );
+            }
+            final KieProject project = folderProjects.get( folderUri );
+
+            //All Users are granted access to Resources outside the Project structure
+            if ( project == null ) {
+                return true;
+            }
+            if ( project.getRootPath() == null ) {
+                return isAuthorized( project );
+            }
+            Boolean authorized = authorizedProjectRoots.get( project.getRootPath().toURI() );
+            if ( authorized == null ) {
+                authorized = isAuthorized( project );
+                authorizedProjectRoots.put( project.getRootPath().toURI(),
+                                            authorized );
+            }
+            return authorized;
+        }
+
+        private boolean isAuthorized( final KieProject project ) {
+            return project == null || authorizationManager.authorize( project,
+                                                                      identity );
+        }
+
+        private KieProject resolveProject( final String uri ) {
+            final Path path = ioService.get( URI.create( uri ) );
+            return projectService.resolveProject( Paths.convert( path ) );
+        }
+
+        private String getIndexedProjectRoot( final KObject kObject ) {
+            final Iterable<KProperty<?>> properties = kObject.getProperties();
+            if ( properties == null ) {
+                return null;
+            }
+            for ( KProperty<?> property : properties ) {
+                if ( PROJECT_ROOT_PROPERTY.equals( property.getName() ) && property.getValue() != null ) {
+                    return property.getValue().toString();
+                }
+            }
+            return null;
+        }
+
     }
 
 }
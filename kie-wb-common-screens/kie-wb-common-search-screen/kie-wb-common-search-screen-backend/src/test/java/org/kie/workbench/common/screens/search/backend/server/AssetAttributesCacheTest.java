@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.screens.search.backend.server;
+
+import java.util.Date;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.screens.search.backend.server.AssetAttributesCache.AssetAttributes;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class AssetAttributesCacheTest {
+
+    private static final String URI = "default://master@repo/project/src/main/resources/rule.drl";
+
+    private AssetAttributesCache cache;
+
+    private AssetAttributes attributes;
+
+    @Before
+    public void setUp() {
+        cache = new AssetAttributesCache();
+        attributes = new AssetAttributes( "creator",
+                                          new Date(),
+                                          "contributor",
+                                          new Date(),
+                                          "description" );
+    }
+
+    @Test
+    public void testAttributesAreCached() {
+        assertNull( cache.get( URI ) );
+
+        cache.put( URI,
+                   attributes );
+
+        assertSame( attributes,
+                    cache.get( URI ) );
+    }
+
+    @Test
+    public void testUpdateInvalidatesAsset() {
+        cache.put( URI,
+                   attributes );
+        cache.put( URI + ".bak",
+                   attributes );
+
+        final ResourceUpdatedEvent event = mock( ResourceUpdatedEvent.class );
+        final Path path = path( URI );
+        when( event.getPath() ).thenReturn( path );
+        cache.onResourceUpdated( event );
+
+        assertNull( cache.get( URI ) );
+        assertSame( attributes,
+                    cache.get( URI + ".bak" ) );
+    }
+
+    @Test
+    public void testRenameInvalidatesSourceAndDestination() {
+        cache.put( URI,
+                   attributes );
+        cache.put( URI + ".bak",
+                   attributes );
+
+        final ResourceRenamedEvent event = mock( ResourceRenamedEvent.class );
+        final Path source = path( URI );
+        final Path destination = path( URI + ".bak" );
+        when( event.getPath() ).thenReturn( source );
+        when( event.getDestinationPath() ).thenReturn( destination );
+        cache.onResourceRenamed( event );
+
+        assertNull( cache.get( URI ) );
+        assertNull( cache.get( URI + ".bak" ) );
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        for ( int i = 0; i <= AssetAttributesCache.MAX_CACHED_ASSETS; i++ ) {
+            cache.put( URI + i,
+                       attributes );
+        }
+
+        assertNull( cache.get( URI + 0 ) );
+        assertSame( attributes,
+                    cache.get( URI + AssetAttributesCache.MAX_CACHED_ASSETS ) );
+    }
+
+    private Path path( final String uri ) {
+        final Path path = mock( Path.class );
+        when( path.toURI() ).thenReturn( uri );
+        return path;
+    }
+}
@@ -42,6 +42,7 @@ import org.mockito.stubbing.Answer;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.PathFactory;
 import org.uberfire.ext.metadata.model.KObject;
+import org.uberfire.ext.metadata.model.KProperty;
 import org.uberfire.ext.metadata.search.IOSearchService;
 import org.uberfire.io.IOService;
 import org.uberfire.io.attribute.DublinCoreView;
@@ -100,7 +101,8 @@ public class SearchServiceImplTest {
                                                projectService,
                                                identity,
                                                authorizationManager,
-                                               typeRegister );
+                                               typeRegister,
+                                               new AssetAttributesCache() );
         searchService.init();
 
         final Collection<OrganizationalUnit> allOUs = new ArrayList<OrganizationalUnit>();
@@ -822,4 +824,122 @@ public class SearchServiceImplTest {
         }
     }
 
+    @Test
+    public void testAssetAttributesAreReadOncePerAsset() {
+        when( authorizationManager.authorize( any( OrganizationalUnit.class ),
+                                              eq( identity ) ) ).thenReturn( true );
+        when( authorizationManager.authorize( any( Repository.class ),
+                                              eq( identity ) ) ).thenReturn( true );
+
+        //Setup search
+        final org.uberfire.backend.vfs.Path vfsPath = PathFactory.newPath( "file1", "default://project1/file1" );
+        final Path nioPath = Paths.convert( vfsPath );
+        when( ioSearchService.fullTextSearchHits( eq( "smurf" ),
+                                                  Matchers.<Path>anyVararg() ) ).thenReturn( 1 );
+        when( ioSearchService.fullTextSearch( eq( "smurf" ),
+                                              any( SearchServiceImpl.PagedCountingFilter.class ),
+                                              Matchers.<Path>anyVararg() ) ).thenReturn( Collections.singletonList( nioPath ) );
+
+        final DublinCoreView dublinCoreView = mock( DublinCoreView.class );
+        final VersionAttributeView versionAttributeView = mock( VersionAttributeView.class );
+        when( dublinCoreView.readAttributes() ).thenReturn( new DublinCoreAttributesMock() );
+        when( versionAttributeView.readAttributes() ).thenReturn( new VersionAttributesMock( Collections.EMPTY_LIST ) );
+        when( ioService.getFileAttributeView( any( Path.class ),
+                                              eq( DublinCoreView.class ) ) ).thenReturn( dublinCoreView );
+        when( ioService.getFileAttributeView( any( Path.class ),
+                                              eq( VersionAttributeView.class ) ) ).thenReturn( versionAttributeView );
+
+        //Perform the same search twice
+        final SearchTermPageRequest pageRequest = new SearchTermPageRequest( "smurf",
+                                                                             0,
+                                                                             5 );
+        searchService.fullTextSearch( pageRequest );
+        final PageResponse<SearchPageRow> results = searchService.fullTextSearch( pageRequest );
+
+        assertEquals( 1,
+                      results.getPageRowList().size() );
+        assertEquals( "",
+                      results.getPageRowList().get( 0 ).getCreator() );
+        verify( versionAttributeView,
+                times( 1 ) ).readAttributes();
+        verify( dublinCoreView,
+                times( 1 ) ).readAttributes();
+    }
+
+    @Test
+    public void testFilterResolvesProjectOncePerFolder() {
+        final KieProject project2 = mock( KieProject.class );
+        final org.uberfire.backend.vfs.Path project1Root = mock( org.uberfire.backend.vfs.Path.class );
+        when( project1Root.toURI() ).thenReturn( "default://project1" );
+        final org.uberfire.backend.vfs.Path project2Root = mock( org.uberfire.backend.vfs.Path.class );
+        when( project2Root.toURI() ).thenReturn( "default://project2" );
+        when( project1.getRootPath() ).thenReturn( project1Root );
+        when( project2.getRootPath() ).thenReturn( project2Root );
+        when( projectService.resolveProject( any( org.uberfire.backend.vfs.Path.class ) ) ).thenReturn( project1,
+                                                                                                        project1,
+                                                                                                        project2 );
+        when( authorizationManager.authorize( project1,
+                                              identity ) ).thenReturn( true );
+        when( authorizationManager.authorize( project2,
+                                              identity ) ).thenReturn( false );
+
+        final SearchServiceImpl.PagedCountingFilter filter = searchService.new PagedCountingFilter( 1,
+                                                                                                    2 );
+        final List<Boolean> accepted = new ArrayList<Boolean>();
+        for ( int i = 0; i < 5; i++ ) {
+            accepted.add( filter.accept( kObject( "default://project1/src/a/file" + i ) ) );
+        }
+        accepted.add( filter.accept( kObject( "default://project1/src/b/file" ) ) );
+        for ( int i = 0; i < 5; i++ ) {
+            accepted.add( filter.accept( kObject( "default://project2/src/a/file" + i ) ) );
+        }
+
+        assertEquals( 6,
+                      filter.getHitsTotalCount() );
+        assertEquals( 2,
+                      Collections.frequency( accepted,
+                                             true ) );
+        assertFalse( accepted.get( 0 ) );
+        assertTrue( accepted.get( 1 ) );
+        assertTrue( accepted.get( 2 ) );
+        verify( projectService,
+                times( 3 ) ).resolveProject( any( org.uberfire.backend.vfs.Path.class ) );
+        verify( authorizationManager,
+                times( 1 ) ).authorize( project1,
+                                        identity );
+        verify( authorizationManager,
+                times( 1 ) ).authorize( project2,
+                                        identity );
+    }
+
+    @Test
+    public void testFilterUsesIndexedProjectRoot() {
+        when( projectService.resolveProject( any( org.uberfire.backend.vfs.Path.class ) ) ).thenReturn( project1 );
+        when( authorizationManager.authorize( project1,
+                                              identity ) ).thenReturn( false );
+
+        final SearchServiceImpl.PagedCountingFilter filter = searchService.new PagedCountingFilter( 0,
+                                                                                                    5 );
+        for ( int i = 0; i < 5; i++ ) {
+            final KObject kObject = kObject( "default://project1/src/folder" + i + "/file" );
+            final KProperty<String> projectRoot = mock( KProperty.class );
+            when( projectRoot.getName() ).thenReturn( SearchServiceImpl.PROJECT_ROOT_PROPERTY );
+            when( projectRoot.getValue() ).thenReturn( "default://project1" );
+            when( kObject.getProperties() ).thenReturn( Collections.<KProperty<?>>singletonList( projectRoot ) );
+
+            assertFalse( filter.accept( kObject ) );
+        }
+
+        assertEquals( 0,
+                      filter.getHitsTotalCount() );
+        verify( projectService,
+                times( 1 ) ).resolveProject( any( org.uberfire.backend.vfs.Path.class ) );
+    }
+
+    private KObject kObject( final String key ) {
+        final KObject kObject = mock( KObject.class );
+        when( kObject.getKey() ).thenReturn( key );
+        return kObject;
+    }
+
 }
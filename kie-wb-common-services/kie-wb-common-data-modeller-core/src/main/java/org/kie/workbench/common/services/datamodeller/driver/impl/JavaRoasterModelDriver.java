@@ -26,6 +26,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.drools.core.base.ClassTypeResolver;
@@ -45,6 +47,7 @@ import org.jboss.forge.roaster.model.source.JavaSource;
 import org.jboss.forge.roaster.model.source.JavaEnumSource;
 import org.jboss.forge.roaster.model.source.MethodSource;
 import org.jboss.forge.roaster.model.source.ParameterSource;
+import org.kie.workbench.common.services.backend.helpers.ParallelTaskExecutor;
 import org.kie.workbench.common.services.datamodeller.codegen.GenerationContext;
 import org.kie.workbench.common.services.datamodeller.codegen.GenerationEngine;
 import org.kie.workbench.common.services.datamodeller.codegen.GenerationTools;
@@ -54,6 +57,7 @@ import org.kie.workbench.common.services.datamodeller.core.AnnotationValuePairDe
 import org.kie.workbench.common.services.datamodeller.core.DataModel;
 import org.kie.workbench.common.services.datamodeller.core.DataObject;
 import org.kie.workbench.common.services.datamodeller.core.ElementType;
+import org.kie.workbench.common.services.datamodeller.core.JavaEnum;
 import org.kie.workbench.common.services.datamodeller.core.ObjectProperty;
 import org.kie.workbench.common.services.datamodeller.core.Visibility;
 import org.kie.workbench.common.services.datamodeller.core.impl.DataObjectImpl;
@@ -115,6 +119,8 @@ public class JavaRoasterModelDriver implements ModelDriver {
 
     private static final String GENERIC_ERROR = "Unexpected error was produced.";
 
+    private ParallelTaskExecutor parallelTaskExecutor;
+
     public JavaRoasterModelDriver() {
         configuredAnnotations.addAll( CommonAnnotations.getCommonAnnotations() );
         for ( AnnotationDefinition annotationDefinition : configuredAnnotations ) {
@@ -139,6 +145,19 @@ public class JavaRoasterModelDriver implements ModelDriver {
         this.filterHolder = filterHolder;
     }
 
+    /**
+     * @param parallelTaskExecutor Executor used to parse the .java files of a model in parallel. Without it the files
+     * are parsed by the calling thread.
+     */
+    public JavaRoasterModelDriver( IOService ioService,
+                                   Path javaRootPath,
+                                   ClassLoader classLoader,
+                                   FilterHolder filterHolder,
+                                   ParallelTaskExecutor parallelTaskExecutor ) {
+        this( ioService, javaRootPath, classLoader, filterHolder );
+        this.parallelTaskExecutor = parallelTaskExecutor;
+    }
+
     @Override
     public List<AnnotationDefinition> getConfiguredAnnotations() {
         return configuredAnnotations;
@@ -164,51 +183,141 @@ public class JavaRoasterModelDriver implements ModelDriver {
 
         ModelDriverResult result = new ModelDriverResult();
         DataModel dataModel;
-        String fileContent;
         dataModel = createModel();
         result.setDataModel( dataModel );
 
+        for ( ParsedFile parsedFile : parseFiles( scanJavaFiles() ) ) {
+            loadParsedFile( parsedFile, dataModel, result );
+        }
+        return result;
+    }
+
+    /**
+     * @return The paths of the .java files below the java root path of this driver.
+     */
+    public List<Path> scanJavaFiles() {
         List<Path> rootPaths = new ArrayList<Path>();
         rootPaths.add( javaRootPath );
 
+        List<Path> files = new ArrayList<Path>();
         Collection<FileUtils.ScanResult> scanResults = FileUtils.getInstance().scan( ioService, rootPaths, ".java", true );
         if ( scanResults != null ) {
             for ( FileUtils.ScanResult scanResult : scanResults ) {
+                files.add( scanResult.getFile() );
+            }
+        }
+        return files;
+    }
 
-                logger.debug( "Starting file loading into model, file: " + scanResult.getFile() );
-                fileContent = ioService.readAllString( scanResult.getFile() );
-                if ( fileContent == null || "".equals( fileContent ) ) {
-                    logger.debug( "file: " + scanResult.getFile() + " is empty." );
-                    continue;
-                }
-                try {
-                    JavaType<?> javaType = Roaster.parse( fileContent );
-                    final boolean isManaged = isManagedJavaType( javaType );
-                    final boolean vetoed = ( isManaged ? isVetoed( javaType ) : false );
-                    if ( isManaged && !vetoed ) {
-                        if ( javaType.getSyntaxErrors() != null && !javaType.getSyntaxErrors().isEmpty() ) {
-                            //if a file has parsing errors it will be skipped.
-                            addSyntaxErrors( result, scanResult.getFile(), javaType.getSyntaxErrors() );
-                        } else if ( javaType.isEnum() ) {
-                            loadFromJavaEnum( ( JavaEnumSource ) javaType, scanResult.getFile(), dataModel, result);
-                        } else {
-                            loadFromJavaClass( ( JavaClassSource ) javaType, scanResult.getFile(), dataModel, result );
-                        }
-                    } else if ( vetoed ) {
-                        logger.debug( "The class, {}, in the file, {}, was vetoed and will be skipped.",
-                                      javaType.getQualifiedName(),
-                                      scanResult.getFile() );
-                    } else {
-                        logger.debug( "File: " + scanResult.getFile() + " do not contain a managed java type, it will be skipped." );
-                    }
-                } catch ( Exception e ) {
-                    //Unexpected parsing or model loading exception.
-                    logger.error( errorMessage( MODEL_LOAD_GENERIC_ERROR, javaRootPath.toUri() ), e );
-                    throw new ModelDriverException( errorMessage( MODEL_LOAD_GENERIC_ERROR, javaRootPath.toUri() ), e );
+    /**
+     * Loads the managed java type declared in a single file, if any, into its own result. Results of different files
+     * can be combined into a full model with {@link #mergeResult(ModelDriverResult, ModelDriverResult)}.
+     */
+    public ModelDriverResult loadFile( final Path file ) throws ModelDriverException {
+        return loadFiles( Collections.singletonList( file ) ).get( 0 );
+    }
+
+    /**
+     * Loads each of the given files into its own result, see {@link #loadFile(Path)}. The files are parsed in parallel
+     * when the driver has a {@link ParallelTaskExecutor}.
+     * @return The results, in the same order as the files.
+     */
+    public List<ModelDriverResult> loadFiles( final List<Path> files ) throws ModelDriverException {
+        List<ModelDriverResult> results = new ArrayList<ModelDriverResult>( files.size() );
+        for ( ParsedFile parsedFile : parseFiles( files ) ) {
+            ModelDriverResult result = new ModelDriverResult();
+            DataModel dataModel = createModel();
+            result.setDataModel( dataModel );
+            loadParsedFile( parsedFile, dataModel, result );
+            results.add( result );
+        }
+        return results;
+    }
+
+    /**
+     * Adds the data objects, enums, class paths, unmanaged properties and errors of a result into another one.
+     */
+    public static void mergeResult( final ModelDriverResult source, final ModelDriverResult target ) {
+        for ( DataObject dataObject : source.getDataModel().getDataObjects() ) {
+            target.getDataModel().addDataObject( dataObject );
+        }
+        for ( JavaEnum javaEnum : source.getDataModel().getJavaEnums() ) {
+            target.getDataModel().addJavaEnum( javaEnum );
+        }
+        target.getClassPaths().putAll( source.getClassPaths() );
+        target.getUnmanagedProperties().putAll( source.getUnmanagedProperties() );
+        for ( DriverError error : source.getErrors() ) {
+            target.addError( error );
+        }
+    }
+
+    /**
+     * Reads and parses the files on the parallel task executor, if any. Files are read and parsed independently of each
+     * other, while loading the parsed types into the model is left to the calling thread, in the order of the files, so
+     * the resulting model and the order of its errors don't depend on the order in which the parsing completes.
+     */
+    private List<ParsedFile> parseFiles( final List<Path> files ) throws ModelDriverException {
+        if ( parallelTaskExecutor == null ) {
+            return files.stream().map( this::parseFile ).collect( Collectors.toList() );
+        }
+        try {
+            return parallelTaskExecutor.map( files, this::parseFile );
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new ModelDriverException( errorMessage( MODEL_LOAD_GENERIC_ERROR, javaRootPath.toUri() ), e );
+        } catch ( ExecutionException e ) {
+            logger.error( errorMessage( MODEL_LOAD_GENERIC_ERROR, javaRootPath.toUri() ), e.getCause() );
+            throw new ModelDriverException( errorMessage( MODEL_LOAD_GENERIC_ERROR, javaRootPath.toUri() ), e.getCause() );
+        }
+    }
+
+    private ParsedFile parseFile( final Path file ) {
+        logger.debug( "Starting file loading into model, file: " + file );
+        try {
+            String fileContent = ioService.readAllString( file );
+            if ( fileContent == null || "".equals( fileContent ) ) {
+                logger.debug( "file: " + file + " is empty." );
+                return new ParsedFile( file, null, null );
+            }
+            return new ParsedFile( file, Roaster.parse( fileContent ), null );
+        } catch ( Exception e ) {
+            return new ParsedFile( file, null, e );
+        }
+    }
+
+    private void loadParsedFile( final ParsedFile parsedFile, final DataModel dataModel, final ModelDriverResult result ) throws ModelDriverException {
+        final Path file = parsedFile.file;
+        final JavaType<?> javaType = parsedFile.javaType;
+        try {
+            if ( parsedFile.error != null ) {
+                throw parsedFile.error;
+            }
+            if ( javaType == null ) {
+                return;
+            }
+            final boolean isManaged = isManagedJavaType( javaType );
+            final boolean vetoed = ( isManaged ? isVetoed( javaType ) : false );
+            if ( isManaged && !vetoed ) {
+                if ( javaType.getSyntaxErrors() != null && !javaType.getSyntaxErrors().isEmpty() ) {
+                    //if a file has parsing errors it will be skipped.
+                    addSyntaxErrors( result, file, javaType.getSyntaxErrors() );
+                } else if ( javaType.isEnum() ) {
+                    loadFromJavaEnum( ( JavaEnumSource ) javaType, file, dataModel, result);
+                } else {
+                    loadFromJavaClass( ( JavaClassSource ) javaType, file, dataModel, result );
                 }
+            } else if ( vetoed ) {
+                logger.debug( "The class, {}, in the file, {}, was vetoed and will be skipped.",
+                              javaType.getQualifiedName(),
+                              file );
+            } else {
+                logger.debug( "File: " + file + " do not contain a managed java type, it will be skipped." );
             }
+        } catch ( Exception e ) {
+            //Unexpected parsing or model loading exception.
+            logger.error( errorMessage( MODEL_LOAD_GENERIC_ERROR, javaRootPath.toUri() ), e );
+            throw new ModelDriverException( errorMessage( MODEL_LOAD_GENERIC_ERROR, javaRootPath.toUri() ), e );
         }
-        return result;
     }
 
     private boolean isVetoed( final JavaType<?> javaType ) {
@@ -1778,4 +1887,18 @@ public class JavaRoasterModelDriver implements ModelDriver {
         return MessageFormat.format( message, params );
     }
 
+    private static class ParsedFile {
+
+        private final Path file;
+
+        private final JavaType<?> javaType;
+
+        private final Exception error;
+
+        private ParsedFile( final Path file, final JavaType<?> javaType, final Exception error ) {
+            this.file = file;
+            this.javaType = javaType;
+            this.error = error;
+        }
+    }
 }
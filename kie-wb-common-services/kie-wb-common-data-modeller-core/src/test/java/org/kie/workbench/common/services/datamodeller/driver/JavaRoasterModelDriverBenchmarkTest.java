@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.datamodeller.driver;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.backend.helpers.ParallelTaskExecutor;
+import org.kie.workbench.common.services.datamodeller.core.impl.DataModelImpl;
+import org.kie.workbench.common.services.datamodeller.driver.impl.JavaRoasterModelDriver;
+import org.kie.workbench.common.services.datamodeller.driver.model.ModelDriverResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Files;
+import org.uberfire.java.nio.file.NoSuchFileException;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.java.nio.fs.file.SimpleFileSystemProvider;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Measures the time to load the data model of generated Projects with an increasing number of data objects, with
+ * the parallel parsing of {@link JavaRoasterModelDriver#loadModel()} and with the files loaded one by one.
+ * <p>
+ * Run with <code>mvn test -Dtest=JavaRoasterModelDriverBenchmarkTest -Dkie.wb.benchmark=true</code>
+ */
+public class JavaRoasterModelDriverBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger( JavaRoasterModelDriverBenchmarkTest.class );
+
+    private static final int[] MODEL_SIZES = { 50, 200, 800 };
+    private static final int WARM_UP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    private SimpleFileSystemProvider simpleFileSystemProvider;
+    private IOService ioService = new FileIOService();
+    private FilterHolder filterHolder;
+    private ParallelTaskExecutor parallelTaskExecutor;
+
+    @Before
+    public void setUp() {
+        assumeTrue( Boolean.getBoolean( "kie.wb.benchmark" ) );
+        simpleFileSystemProvider = new SimpleFileSystemProvider();
+        simpleFileSystemProvider.forceAsDefault();
+        filterHolder = mock( FilterHolder.class );
+        when( filterHolder.getSourceFilters() ).thenReturn( Collections.emptySet() );
+        when( filterHolder.getNestedClassFilters() ).thenReturn( Collections.emptySet() );
+        when( filterHolder.getMethodFilters() ).thenReturn( Collections.emptySet() );
+        parallelTaskExecutor = new ParallelTaskExecutor();
+        parallelTaskExecutor.init();
+    }
+
+    @After
+    public void tearDown() {
+        if ( parallelTaskExecutor != null ) {
+            parallelTaskExecutor.destroy();
+        }
+    }
+
+    @Test
+    public void testLoadTimeAgainstModelSize() throws Exception {
+        for ( int size : MODEL_SIZES ) {
+            final Path javaRoot = simpleFileSystemProvider.getPath( generateModel( size ).toURI() );
+            final JavaRoasterModelDriver modelDriver = new JavaRoasterModelDriver( ioService,
+                                                                                   javaRoot,
+                                                                                   getClass().getClassLoader(),
+                                                                                   filterHolder,
+                                                                                   parallelTaskExecutor );
+
+            for ( int i = 0; i < WARM_UP_ITERATIONS; i++ ) {
+                modelDriver.loadModel();
+                loadSequentially( modelDriver );
+            }
+
+            long start = System.nanoTime();
+            for ( int i = 0; i < MEASURED_ITERATIONS; i++ ) {
+                final ModelDriverResult result = modelDriver.loadModel();
+                assertEquals( size, result.getDataModel().getDataObjects().size() );
+                assertFalse( result.hasErrors() );
+            }
+            final long parallelMillis = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) / MEASURED_ITERATIONS;
+
+            start = System.nanoTime();
+            for ( int i = 0; i < MEASURED_ITERATIONS; i++ ) {
+                final ModelDriverResult result = loadSequentially( modelDriver );
+                assertEquals( size, result.getDataModel().getDataObjects().size() );
+            }
+            final long sequentialMillis = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) / MEASURED_ITERATIONS;
+
+            logger.info( "Model with {} data objects: average load time {} ms parallel, {} ms sequential",
+                         size,
+                         parallelMillis,
+                         sequentialMillis );
+        }
+    }
+
+    private ModelDriverResult loadSequentially( final JavaRoasterModelDriver modelDriver ) throws Exception {
+        final ModelDriverResult result = new ModelDriverResult( new DataModelImpl() );
+        final List<Path> files = modelDriver.scanJavaFiles();
+        for ( Path file : files ) {
+            JavaRoasterModelDriver.mergeResult( modelDriver.loadFile( file ), result );
+        }
+        return result;
+    }
+
+    private File generateModel( final int size ) throws Exception {
+        final File root = java.nio.file.Files.createTempDirectory( "datamodel-benchmark-" + size ).toFile();
+        for ( int i = 0; i < size; i++ ) {
+            final File file = new File( root, "org/test/package" + ( i % 10 ) + "/Pojo" + i + ".java" );
+            file.getParentFile().mkdirs();
+            java.nio.file.Files.write( file.toPath(), pojo( i ).getBytes( StandardCharsets.UTF_8 ) );
+        }
+        return root;
+    }
+
+    private String pojo( final int index ) {
+        final StringBuilder source = new StringBuilder();
+        source.append( "package org.test.package" ).append( index % 10 ).append( ";\n\n" );
+        source.append( "public class Pojo" ).append( index ).append( " implements java.io.Serializable {\n\n" );
+        for ( int field = 0; field < 10; field++ ) {
+            source.append( "    @org.kie.api.definition.type.Label(\"Field " ).append( field ).append( "\")\n" );
+            source.append( "    private java.lang.String field" ).append( field ).append( ";\n\n" );
+        }
+        for ( int field = 0; field < 10; field++ ) {
+            source.append( "    public java.lang.String getField" ).append( field ).append( "() {\n" );
+            source.append( "        return this.field" ).append( field ).append( ";\n    }\n\n" );
+            source.append( "    public void setField" ).append( field ).append( "(java.lang.String field" ).append( field ).append( ") {\n" );
+            source.append( "        this.field" ).append( field ).append( " = field" ).append( field ).append( ";\n    }\n\n" );
+        }
+        source.append( "}\n" );
+        return source.toString();
+    }
+
+    private static class FileIOService extends IOServiceMock {
+
+        @Override
+        public String readAllString( final Path path ) throws IllegalArgumentException, NoSuchFileException, org.uberfire.java.nio.IOException {
+            return new String( Files.readAllBytes( path ), StandardCharsets.UTF_8 );
+        }
+    }
+}
@@ -90,6 +90,7 @@ import org.kie.workbench.common.services.backend.project.KieProjectRepositoriesS
 import org.kie.workbench.common.services.backend.project.KieProjectServiceImpl;
 import org.kie.workbench.common.services.backend.project.KieResourceResolver;
 import org.kie.workbench.common.services.backend.project.ProjectImportsServiceImpl;
+import org.kie.workbench.common.services.backend.project.ProjectResolutionCache;
 import org.kie.workbench.common.services.backend.project.ProjectSaver;
 import org.kie.workbench.common.services.backend.whitelist.PackageNameSearchProvider;
 import org.kie.workbench.common.services.backend.whitelist.PackageNameWhiteListLoader;
@@ -298,7 +299,8 @@ public class DataModelServiceConstructorTest {
                                                                        commentedOptionFactory,
                                                                        backward,
                                                                        kModuleService,
-                                                                       resourcePathResolversInstance ) {
+                                                                       resourcePathResolversInstance,
+                                                                       new ProjectResolutionCache() ) {
             @Override
             protected void addSecurityGroups(final KieProject project) {
                 //Do nothing. This test demonstrating DMO usage without WELD does not use permissions.
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.kie.workbench.common.services.refactoring.model.query;
+
+import java.util.Set;
+
+import org.jboss.errai.common.client.api.annotations.MapsTo;
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
+
+/**
+ * A Query request for the page following the one identified by a cursor. The cursor is opaque and is taken from
+ * {@link RefactoringCursorPageResponse#getNextCursor()}; a null cursor requests the first page.
+ */
+@Portable
+public class RefactoringCursorPageRequest extends RefactoringPageRequest {
+
+    private String cursor;
+
+    public RefactoringCursorPageRequest( @MapsTo("queryName") final String queryName,
+                                         @MapsTo("queryTerms") final Set<ValueIndexTerm> queryTerms,
+                                         @MapsTo("cursor") final String cursor,
+                                         @MapsTo("pageSize") final Integer pageSize ) {
+        super( queryName,
+               queryTerms,
+               0,
+               pageSize );
+        this.cursor = cursor;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor( String cursor ) {
+        this.cursor = cursor;
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.kie.workbench.common.services.refactoring.model.query;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.uberfire.paging.PageResponse;
+
+/**
+ * A page of Query results, together with the cursor to request the next page.
+ */
+@Portable
+public class RefactoringCursorPageResponse extends PageResponse<RefactoringPageRow> {
+
+    private String nextCursor;
+
+    /**
+     * @return the cursor of the next page, or null if this is the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor( String nextCursor ) {
+        this.nextCursor = nextCursor;
+    }
+
+}
@@ -20,6 +20,8 @@ import java.util.Set;
 
 import org.jboss.errai.bus.server.annotations.Remote;
 import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringCursorPageRequest;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringCursorPageResponse;
 import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRequest;
 import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRow;
 import org.kie.workbench.common.services.refactoring.service.impact.QueryOperationRequest;
@@ -30,6 +32,12 @@ public interface RefactoringQueryService {
 
     PageResponse<RefactoringPageRow> query( final RefactoringPageRequest request );
 
+    /**
+     * Pages through the results of a query with cursors. Unlike {@link #query(RefactoringPageRequest)} the cost of
+     * retrieving a page does not grow with the page's position in the results.
+     */
+    RefactoringCursorPageResponse queryWithCursor( final RefactoringCursorPageRequest request );
+
     List<RefactoringPageRow> query( final String queryName, final Set<ValueIndexTerm> queryTerms );
 
     PageResponse<RefactoringPageRow> queryToPageResponse( final QueryOperationRequest request );
@@ -47,6 +47,13 @@ public abstract class AbstractFileIndexer implements Indexer {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractFileIndexer.class);
 
+    /**
+     * Number of resources after which an Indexer logs its statistics while repositories are being indexed.
+     */
+    static final int STATISTICS_INTERVAL = 1000;
+
+    private final IndexerStatistics statistics = new IndexerStatistics(getIndexerName(getClass()));
+
     @Inject
     @Named("ioStrategy")
     protected IOService ioService;
@@ -71,6 +78,7 @@ public abstract class AbstractFileIndexer implements Indexer {
      */
     @Override
     public KObject toKObject(Path path) {
+        final long start = System.nanoTime();
         KObject index = null;
 
         try {
@@ -95,9 +103,35 @@ public abstract class AbstractFileIndexer implements Indexer {
                          e);
         }
 
+        final long processedResources = statistics.record(index != null,
+                                                          System.nanoTime() - start);
+        if (processedResources % STATISTICS_INTERVAL == 0) {
+            logger.info(statistics.toString());
+        }
+
         return index;
     }
 
+    /**
+     * @return the resources processed by this Indexer since it was created, and the time spent on them.
+     */
+    public IndexerStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Name of an Indexer class, without the suffix added by CDI to the class name of proxies.
+     */
+    static String getIndexerName(final Class<?> indexerClass) {
+        if (indexerClass.isAnonymousClass()) {
+            return getIndexerName(indexerClass.getSuperclass());
+        }
+        final String name = indexerClass.getSimpleName();
+        final int proxySuffix = name.indexOf('$');
+        return proxySuffix > 0 ? name.substring(0,
+                                                proxySuffix) : name;
+    }
+
     protected DefaultIndexBuilder getIndexBuilder(Path path) {
         final Project project = projectService.resolveProject(Paths.convert(path));
         if (project == null) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.indexing;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput of a single {@link AbstractFileIndexer}: the resources it has indexed, those it failed to index and
+ * the time spent on them, summed over all indexing threads.
+ */
+public class IndexerStatistics {
+
+    private final String indexerName;
+    private final LongAdder indexedResources = new LongAdder();
+    private final LongAdder failedResources = new LongAdder();
+    private final LongAdder indexingTimeNanos = new LongAdder();
+
+    public IndexerStatistics(final String indexerName) {
+        this.indexerName = indexerName;
+    }
+
+    /**
+     * Records a resource processed by the Indexer.
+     * @param indexed false if the Indexer failed to build a KObject for the resource.
+     * @param nanos the time spent on the resource.
+     * @return the number of resources processed so far, including this one.
+     */
+    long record(final boolean indexed,
+                final long nanos) {
+        if (indexed) {
+            indexedResources.increment();
+        } else {
+            failedResources.increment();
+        }
+        indexingTimeNanos.add(nanos);
+        return getProcessedResources();
+    }
+
+    public String getIndexerName() {
+        return indexerName;
+    }
+
+    public long getIndexedResources() {
+        return indexedResources.sum();
+    }
+
+    public long getFailedResources() {
+        return failedResources.sum();
+    }
+
+    public long getProcessedResources() {
+        return getIndexedResources() + getFailedResources();
+    }
+
+    public long getIndexingTime(final TimeUnit unit) {
+        return unit.convert(indexingTimeNanos.sum(),
+                            TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the number of resources the Indexer processes per second on a single thread.
+     */
+    public double getResourcesPerSecond() {
+        final long nanos = indexingTimeNanos.sum();
+        if (nanos == 0) {
+            return 0;
+        }
+        return getProcessedResources() * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d indexed, %d failed, %.1f resources/s",
+                             indexerName,
+                             getIndexedResources(),
+                             getFailedResources(),
+                             getResourcesPerSecond());
+    }
+}
@@ -15,25 +15,24 @@
  */
 package org.kie.workbench.common.services.refactoring.backend.server.query;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.function.IntFunction;
-import java.util.function.Supplier;
+import java.util.function.Predicate;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopFieldDocs;
-import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.TotalHitCountCollector;
 import org.drools.workbench.models.datamodel.util.PortablePreconditions;
 import org.jboss.errai.bus.server.annotations.Service;
@@ -43,6 +42,8 @@ import org.kie.workbench.common.services.refactoring.model.index.terms.valueterm
 import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
 import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueProjectNameIndexTerm;
 import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueProjectRootPathIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringCursorPageRequest;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringCursorPageResponse;
 import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRequest;
 import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRow;
 import org.kie.workbench.common.services.refactoring.service.RefactoringQueryService;
@@ -57,7 +58,8 @@ import static org.uberfire.ext.metadata.backend.lucene.util.KObjectUtil.toKObjec
 
 @Service
 @ApplicationScoped
-public class RefactoringQueryServiceImpl implements RefactoringQueryService {
+public class RefactoringQueryServiceImpl implements RefactoringQueryService,
+                                                    StreamingRefactoringQueryService {
 
     private LuceneConfig config;
     private NamedQueries namedQueries;
@@ -104,16 +106,24 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
 
         final int pageSize = request.getPageSize();
         final int startIndex = request.getStartRowIndex();
+        final ResponseBuilder responseBuilder = namedQuery.getResponseBuilder();
 
+        //Only the hits up to the end of the requested page need to be collected and sorted
+        final int numHits = (int) Math.min( Integer.MAX_VALUE,
+                                            (long) startIndex + pageSize );
         final List<KObject> kObjects
-            = search(query,
-                     sort,
-                     () -> ( startIndex ), // start index of docs to get
-                     (numHits) -> ( numHits - startIndex > pageSize ? pageSize : numHits - startIndex ) // num docs to add to response
-                    );
+            = search( ( index ) -> {
+                          final TopFieldDocs docsHit = index.search( query,
+                                                                     Math.max( 1,
+                                                                               numHits ),
+                                                                     sort );
+                          return toKObjects( index,
+                                             docsHit.scoreDocs,
+                                             startIndex,
+                                             responseBuilder.getFieldsToLoad() );
+                      } );
 
         if( ! kObjects.isEmpty() ) {
-            final ResponseBuilder responseBuilder = namedQuery.getResponseBuilder();
             return responseBuilder.buildResponse( pageSize,
                                                   startIndex,
                                                   kObjects );
@@ -136,60 +146,177 @@ public class RefactoringQueryServiceImpl implements RefactoringQueryService {
 
         final Query query = namedQuery.toQuery( queryTerms );
         final Sort sort = namedQuery.getSortOrder();
+        final ResponseBuilder responseBuilder = namedQuery.getResponseBuilder();
 
         final List<KObject> kObjects
-            = search(query,
-                     sort,
-                     () -> (0), // start index of docs to get
-                     (numHits) -> (numHits) // num docs to add to response
-                    );
+            = search( ( index ) -> {
+                          //Size the collector to the number of hits rather than to the size of the index
+                          final TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
+                          index.search( query,
+                                        totalHitCountCollector );
+                          final int numHits = totalHitCountCollector.getTotalHits();
+                          if ( numHits == 0 ) {
+                              return Collections.<KObject>emptyList();
+                          }
+                          final TopFieldDocs docsHit = index.search( query,
+                                                                     numHits,
+                                                                     sort );
+                          return toKObjects( index,
+                                             docsHit.scoreDocs,
+                                             0,
+                                             responseBuilder.getFieldsToLoad() );
+                      } );
 
         if( ! kObjects.isEmpty() ) {
-            final ResponseBuilder responseBuilder = namedQuery.getResponseBuilder();
             return responseBuilder.buildResponse( kObjects );
         } else {
             return Collections.emptyList();
         }
     }
 
-    private List<KObject> search(final Query query,
-                                 final Sort sort,
-                                 final Supplier<Integer> startIndexSupplier,
-                                 final IntFunction<Integer> numOfHitsToReturnSupplier,
-                                 final ClusterSegment... clusterSegments) {
+    @Override
+    public RefactoringCursorPageResponse queryWithCursor( final RefactoringCursorPageRequest request ) {
+        PortablePreconditions.checkNotNull( "request",
+                                            request );
+        final String queryName = PortablePreconditions.checkNotNull( "queryName",
+                                                                     request.getQueryName() );
+        final NamedQuery namedQuery = namedQueries.findNamedQuery( queryName );
+
+        //Validate provided terms against those required for the named query
+        namedQuery.validateTerms( request.getQueryTerms() );
+
+        final Query query = namedQuery.toQuery( request.getQueryTerms() );
+        final Sort sort = namedQuery.getSortOrder();
+        final ResponseBuilder responseBuilder = namedQuery.getResponseBuilder();
+
+        final int pageSize = Math.max( 1,
+                                       request.getPageSize() );
+        final SearchCursor cursor = request.getCursor() == null ? null : SearchCursor.decode( request.getCursor() );
+        final int offset = cursor == null ? 0 : cursor.getOffset();
+        final FieldDoc after = cursor == null ? null : cursor.getAfter();
+
+        final RefactoringCursorPageResponse response = new RefactoringCursorPageResponse();
+        final List<KObject> kObjects
+            = search( ( index ) -> {
+                          final TopFieldDocs docsHit = index.searchAfter( after,
+                                                                          query,
+                                                                          pageSize,
+                                                                          sort );
+                          final ScoreDoc[] scoreDocs = docsHit.scoreDocs;
+                          final int nextOffset = offset + scoreDocs.length;
+                          response.setTotalRowSize( docsHit.totalHits );
+                          if ( scoreDocs.length > 0 && nextOffset < docsHit.totalHits ) {
+                              response.setNextCursor( new SearchCursor( nextOffset,
+                                                                        (FieldDoc) scoreDocs[ scoreDocs.length - 1 ] ).encode() );
+                          }
+                          return toKObjects( index,
+                                             scoreDocs,
+                                             0,
+                                             responseBuilder.getFieldsToLoad() );
+                      } );
+
+        response.setPageRowList( kObjects.isEmpty() ? Collections.<RefactoringPageRow>emptyList() : responseBuilder.buildResponse( kObjects ) );
+        response.setStartRowIndex( offset );
+        response.setTotalRowSizeExact( true );
+        response.setLastPage( response.getNextCursor() == null );
+        return response;
+    }
+
+    @Override
+    public int query( final String queryName,
+                      final Set<ValueIndexTerm> queryTerms,
+                      final Predicate<RefactoringPageRow> consumer ) {
+        PortablePreconditions.checkNotNull( "consumer",
+                                            consumer );
+        return stream( queryName,
+                       queryTerms,
+                       consumer,
+                       StreamingCollector.DEFAULT_BATCH_SIZE );
+    }
+
+    @Override
+    public int queryToConsumer( final QueryOperationRequest queryOpRequest,
+                                final Predicate<RefactoringPageRow> consumer ) {
+        final RefactoringPageRequest request = convertToRefactoringPageRequest( queryOpRequest );
+
+        return query( request.getQueryName(),
+                      request.getQueryTerms(),
+                      consumer );
+    }
+
+    @Override
+    public boolean hasResults( final QueryOperationRequest queryOpRequest ) {
+        final RefactoringPageRequest request = convertToRefactoringPageRequest( queryOpRequest );
+
+        //Stop at the first row
+        return stream( request.getQueryName(),
+                       request.getQueryTerms(),
+                       ( row ) -> false,
+                       1 ) > 0;
+    }
+
+    private int stream( final String queryName,
+                        final Set<ValueIndexTerm> queryTerms,
+                        final Predicate<RefactoringPageRow> consumer,
+                        final int batchSize ) {
+        PortablePreconditions.checkNotNull( "queryName",
+                                            queryName );
+        PortablePreconditions.checkNotNull( "queryTerms",
+                                            queryTerms );
+
+        final NamedQuery namedQuery = namedQueries.findNamedQuery( queryName );
+
+        //Validate provided terms against those required for the named query
+        namedQuery.validateTerms( queryTerms );
+
+        final Query query = namedQuery.toQuery( queryTerms );
+        final StreamingCollector collector = new StreamingCollector( namedQuery.getResponseBuilder(),
+                                                                     consumer,
+                                                                     batchSize );
+        return search( ( index ) -> {
+                           index.search( query,
+                                         collector );
+                           collector.flush();
+                           return collector.getCount();
+                       } );
+    }
+
+    private <T> T search( final IndexSearch<T> search,
+                          final ClusterSegment... clusterSegments ) {
 
         final LuceneIndexManager indexManager = ( (LuceneIndexManager) config.getIndexManager() );
         final IndexSearcher index = indexManager.getIndexSearcher( clusterSegments );
 
-
-        final List<KObject> result = new ArrayList<KObject>();
         try {
-            final TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-            index.search( query,
-                          totalHitCountCollector );
-
-            int numHits = totalHitCountCollector.getTotalHits();
-            if( numHits > 0 ) {
-                final TopFieldDocs docsHit = index.search(query,
-                                                          Integer.MAX_VALUE,
-                                                          sort );
-                final int startIndex = startIndexSupplier.get();
-                final int numOfHitsToReturn = numOfHitsToReturnSupplier.apply(docsHit.totalHits);
-
-                for ( int i = startIndex; i < startIndex+numOfHitsToReturn; i++ ) {
-                    result.add( toKObject( index.doc(docsHit.scoreDocs[ i ].doc) ) );
-                }
-            }
+            return search.search( index );
         } catch ( final Exception ex ) {
             throw new RuntimeException( "Error during Query!",
                                         ex );
         } finally {
             indexManager.release( index );
         }
+    }
 
+    private List<KObject> toKObjects( final IndexSearcher index,
+                                      final ScoreDoc[] scoreDocs,
+                                      final int fromIndex,
+                                      final Set<String> fieldsToLoad ) throws IOException {
+        final List<KObject> result = new ArrayList<KObject>( Math.max( 0,
+                                                                       scoreDocs.length - fromIndex ) );
+        for ( int i = fromIndex; i < scoreDocs.length; i++ ) {
+            final int doc = scoreDocs[ i ].doc;
+            result.add( toKObject( fieldsToLoad == null ? index.doc( doc ) : index.doc( doc,
+                                                                                       fieldsToLoad ) ) );
+        }
         return result;
     }
 
+    @FunctionalInterface
+    private interface IndexSearch<T> {
+
+        T search( final IndexSearcher index ) throws IOException;
+    }
+
     /* (non-Javadoc)
      * @see org.kie.workbench.common.services.refactoring.service.RefactoringQueryService#queryToPageResponse(org.kie.workbench.common.services.refactoring.service.impact.QueryOperationRequest)
      */
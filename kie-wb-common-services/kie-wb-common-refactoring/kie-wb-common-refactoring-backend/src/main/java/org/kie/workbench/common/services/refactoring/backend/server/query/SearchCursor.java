@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.query;
+
+import java.util.Base64;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * The position of the last hit of a page of results, encoded as an opaque String that can be handed to clients and
+ * decoded to resume the search with {@link org.apache.lucene.search.IndexSearcher#searchAfter}.
+ */
+final class SearchCursor {
+
+    private static final String SEPARATOR = ";";
+
+    private final int offset;
+    private final FieldDoc after;
+
+    SearchCursor( final int offset,
+                  final FieldDoc after ) {
+        this.offset = offset;
+        this.after = after;
+    }
+
+    /**
+     * @return the number of hits preceding the page that follows this cursor.
+     */
+    int getOffset() {
+        return offset;
+    }
+
+    FieldDoc getAfter() {
+        return after;
+    }
+
+    String encode() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append( offset ).append( SEPARATOR ).append( after.doc );
+        if ( after.fields != null ) {
+            for ( Object field : after.fields ) {
+                sb.append( SEPARATOR ).append( encodeField( field ) );
+            }
+        }
+        return sb.toString();
+    }
+
+    static SearchCursor decode( final String cursor ) {
+        try {
+            final String[] tokens = cursor.split( SEPARATOR );
+            final int offset = Integer.parseInt( tokens[ 0 ] );
+            final int doc = Integer.parseInt( tokens[ 1 ] );
+            final Object[] fields = new Object[ tokens.length - 2 ];
+            for ( int i = 0; i < fields.length; i++ ) {
+                fields[ i ] = decodeField( tokens[ i + 2 ] );
+            }
+            return new SearchCursor( offset,
+                                     new FieldDoc( doc,
+                                                   Float.NaN,
+                                                   fields ) );
+        } catch ( final RuntimeException e ) {
+            throw new IllegalArgumentException( "Invalid cursor: " + cursor,
+                                                e );
+        }
+    }
+
+    private static String encodeField( final Object field ) {
+        if ( field == null ) {
+            return "n";
+        } else if ( field instanceof BytesRef ) {
+            final BytesRef bytesRef = (BytesRef) field;
+            return "b" + Base64.getEncoder().encodeToString( BytesRef.deepCopyOf( bytesRef ).bytes );
+        } else if ( field instanceof Integer ) {
+            return "i" + field;
+        } else if ( field instanceof Long ) {
+            return "l" + field;
+        } else if ( field instanceof Float ) {
+            return "f" + field;
+        } else if ( field instanceof Double ) {
+            return "d" + field;
+        }
+        throw new IllegalArgumentException( "Unsupported sort value type: " + field.getClass().getName() );
+    }
+
+    private static Object decodeField( final String token ) {
+        final String value = token.substring( 1 );
+        switch ( token.charAt( 0 ) ) {
+            case 'n':
+                return null;
+            case 'b':
+                return new BytesRef( Base64.getDecoder().decode( value ) );
+            case 'i':
+                return Integer.valueOf( value );
+            case 'l':
+                return Long.valueOf( value );
+            case 'f':
+                return Float.valueOf( value );
+            case 'd':
+                return Double.valueOf( value );
+            default:
+                throw new IllegalArgumentException( "Unknown sort value type: " + token );
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.query;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.SimpleCollector;
+import org.kie.workbench.common.services.refactoring.backend.server.query.response.ResponseBuilder;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRow;
+import org.uberfire.ext.metadata.model.KObject;
+
+import static org.uberfire.ext.metadata.backend.lucene.util.KObjectUtil.toKObject;
+
+/**
+ * Collector that loads the hits as they are collected and hands the rows built from them to a consumer. Hits are
+ * converted to rows in small batches, so memory does not grow with the number of hits. Once the consumer returns
+ * false the remaining hits, and the remaining index segments, are skipped.
+ * <p>
+ * Some ResponseBuilders (e.g. for Rule names) build a set of unique rows from the KObjects they are given. As they
+ * only see one batch at a time, their rows are also filtered here across batches, so each value is handed to the
+ * consumer once. Only the distinct values are kept; rows of other ResponseBuilders are not tracked at all.
+ */
+class StreamingCollector extends SimpleCollector {
+
+    static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final ResponseBuilder responseBuilder;
+    private final Predicate<RefactoringPageRow> consumer;
+    private final int batchSize;
+    private final List<KObject> batch;
+    private final Set<Object> consumedValues;
+
+    private LeafReader reader;
+    private int count = 0;
+    private boolean terminated = false;
+
+    StreamingCollector( final ResponseBuilder responseBuilder,
+                        final Predicate<RefactoringPageRow> consumer ) {
+        this( responseBuilder,
+              consumer,
+              DEFAULT_BATCH_SIZE );
+    }
+
+    StreamingCollector( final ResponseBuilder responseBuilder,
+                        final Predicate<RefactoringPageRow> consumer,
+                        final int batchSize ) {
+        this.responseBuilder = responseBuilder;
+        this.consumer = consumer;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<KObject>( batchSize );
+        this.consumedValues = responseBuilder.collapsesHits() ? new HashSet<Object>() : null;
+    }
+
+    @Override
+    protected void doSetNextReader( final LeafReaderContext context ) throws IOException {
+        if ( terminated ) {
+            throw new CollectionTerminatedException();
+        }
+        reader = context.reader();
+    }
+
+    @Override
+    public void collect( final int doc ) throws IOException {
+        final Set<String> fieldsToLoad = responseBuilder.getFieldsToLoad();
+        final Document document = fieldsToLoad == null ? reader.document( doc ) : reader.document( doc,
+                                                                                                   fieldsToLoad );
+        batch.add( toKObject( document ) );
+        if ( batch.size() >= batchSize ) {
+            flush();
+        }
+        if ( terminated ) {
+            throw new CollectionTerminatedException();
+        }
+    }
+
+    @Override
+    public boolean needsScores() {
+        return false;
+    }
+
+    /**
+     * Hands the rows of the hits collected since the last batch to the consumer. Must be called once the search
+     * completes.
+     */
+    void flush() {
+        if ( terminated || batch.isEmpty() ) {
+            batch.clear();
+            return;
+        }
+        final List<RefactoringPageRow> rows = responseBuilder.buildResponse( batch );
+        batch.clear();
+        for ( RefactoringPageRow row : rows ) {
+            if ( terminated ) {
+                return;
+            }
+            if ( consumedValues != null && !consumedValues.add( row.getValue() ) ) {
+                continue;
+            }
+            count++;
+            terminated = !consumer.test( row );
+        }
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    boolean isTerminated() {
+        return terminated;
+    }
+}
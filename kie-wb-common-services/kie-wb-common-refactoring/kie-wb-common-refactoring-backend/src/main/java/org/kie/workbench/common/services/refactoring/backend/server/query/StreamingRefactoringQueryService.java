@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.query;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRow;
+import org.kie.workbench.common.services.refactoring.service.impact.QueryOperationRequest;
+
+/**
+ * Server side variant of {@link org.kie.workbench.common.services.refactoring.service.RefactoringQueryService} that
+ * hands the results to a consumer while the index is searched, instead of building the full list of results. Rows are
+ * handed over in index order, not in the sort order of the query, and the search stops as soon as the consumer
+ * returns false.
+ */
+public interface StreamingRefactoringQueryService {
+
+    /**
+     * @return the number of rows handed to the consumer
+     */
+    int query( final String queryName,
+               final Set<ValueIndexTerm> queryTerms,
+               final Predicate<RefactoringPageRow> consumer );
+
+    /**
+     * @return the number of rows handed to the consumer
+     */
+    int queryToConsumer( final QueryOperationRequest request,
+                         final Predicate<RefactoringPageRow> consumer );
+
+    /**
+     * @return true if the query has at least one result. The search stops at the first result.
+     */
+    boolean hasResults( final QueryOperationRequest request );
+
+}
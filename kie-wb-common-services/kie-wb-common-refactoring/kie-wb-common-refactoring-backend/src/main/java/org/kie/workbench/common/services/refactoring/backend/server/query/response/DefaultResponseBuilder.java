@@ -18,6 +18,7 @@ package org.kie.workbench.common.services.refactoring.backend.server.query.respo
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -74,4 +75,9 @@ public class DefaultResponseBuilder
         }
         return result;
     }
+
+    @Override
+    public Set<String> getFieldsToLoad() {
+        return KOBJECT_FIELDS;
+    }
 }
@@ -15,7 +15,11 @@
  */
 package org.kie.workbench.common.services.refactoring.backend.server.query.response;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRow;
 import org.uberfire.ext.metadata.model.KObject;
@@ -23,10 +27,43 @@ import org.uberfire.paging.PageResponse;
 
 public interface ResponseBuilder {
 
+    /**
+     * Stored fields holding the identity of a KObject (id, type, cluster, segment and key)
+     */
+    Set<String> KOBJECT_FIELDS = Collections.unmodifiableSet( new HashSet<String>( Arrays.asList( "id",
+                                                                                                  "type",
+                                                                                                  "cluster.id",
+                                                                                                  "segment.id",
+                                                                                                  "key" ) ) );
+
     PageResponse<RefactoringPageRow> buildResponse( final int pageSize,
                                                     final int startRow,
                                                     final List<KObject> kObjects );
 
     List<RefactoringPageRow> buildResponse( final List<KObject> kObjects );
 
+    /**
+     * The stored fields read from the index for each hit. Builders that only need some properties of the KObjects
+     * should return them, so the remaining stored fields of the documents are not loaded.
+     * @return the names of the stored fields to load, or null if all stored fields are needed.
+     */
+    default Set<String> getFieldsToLoad() {
+        return null;
+    }
+
+    /**
+     * Whether several KObjects can produce rows with the same value, that are only reported once (e.g. rule names
+     * shared by a rule and the rules extending it). Rows streamed batch by batch are then also filtered across batches.
+     * @return true if rows are unique by value, false if each KObject has rows of its own.
+     */
+    default boolean collapsesHits() {
+        return false;
+    }
+
+    static Set<String> kObjectFieldsAnd( final String... fields ) {
+        final Set<String> fieldsToLoad = new HashSet<String>( KOBJECT_FIELDS );
+        fieldsToLoad.addAll( Arrays.asList( fields ) );
+        return Collections.unmodifiableSet( fieldsToLoad );
+    }
+
 }
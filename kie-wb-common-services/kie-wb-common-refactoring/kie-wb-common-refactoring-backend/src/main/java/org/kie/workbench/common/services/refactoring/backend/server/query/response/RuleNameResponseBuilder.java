@@ -33,6 +33,8 @@ import org.uberfire.paging.PageResponse;
 public class RuleNameResponseBuilder
         implements ResponseBuilder {
 
+    private static final Set<String> FIELDS_TO_LOAD = ResponseBuilder.kObjectFieldsAnd( ResourceType.RULE.toString() );
+
     @Override
     public PageResponse<RefactoringPageRow> buildResponse( final int pageSize,
                                                            final int startRow,
@@ -69,6 +71,16 @@ public class RuleNameResponseBuilder
         return result;
     }
 
+    @Override
+    public Set<String> getFieldsToLoad() {
+        return FIELDS_TO_LOAD;
+    }
+
+    @Override
+    public boolean collapsesHits() {
+        return true;
+    }
+
     private Set<String> getRuleNamesFromKObject( final KObject kObject ) {
         //Some resources (e.g. Decision Tables etc) contain multiple rule names so add them all
         final Set<String> ruleNames = new HashSet<String>();
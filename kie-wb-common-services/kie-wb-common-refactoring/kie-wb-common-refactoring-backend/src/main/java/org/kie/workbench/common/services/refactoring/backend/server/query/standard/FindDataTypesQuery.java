@@ -76,6 +76,8 @@ public class FindDataTypesQuery extends AbstractFindQuery implements NamedQuery
 
     private static class DataTypesResponseBuilder implements ResponseBuilder {
 
+        private static final Set<String> FIELDS_TO_LOAD = ResponseBuilder.kObjectFieldsAnd( ResourceType.JAVA.toString() );
+
         @Override
         public PageResponse<RefactoringPageRow> buildResponse( final int pageSize,
                                                                final int startRow,
@@ -109,6 +111,16 @@ public class FindDataTypesQuery extends AbstractFindQuery implements NamedQuery
             return result;
         }
 
+        @Override
+        public Set<String> getFieldsToLoad() {
+            return FIELDS_TO_LOAD;
+        }
+
+        @Override
+        public boolean collapsesHits() {
+            return true;
+        }
+
         private Set<String> getDataTypeNamesFromKObject( final KObject kObject ) {
             final Set<String> dataTypeNames = new HashSet<>();
             if ( kObject == null ) {
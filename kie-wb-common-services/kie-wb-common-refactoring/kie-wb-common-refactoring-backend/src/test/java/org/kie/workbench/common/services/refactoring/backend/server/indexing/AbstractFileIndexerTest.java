@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.indexing;
+
+import java.net.URI;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.java.nio.file.Path;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class AbstractFileIndexerTest {
+
+    private Path validPath;
+    private Path brokenPath;
+    private AbstractFileIndexer indexer;
+
+    @Before
+    public void setUp() {
+        validPath = mock(Path.class);
+        when(validPath.toUri()).thenReturn(URI.create("default://master@repo/project/src/main/resources/valid.drl"));
+        brokenPath = mock(Path.class);
+        when(brokenPath.toUri()).thenReturn(URI.create("default://master@repo/project/src/main/resources/broken.drl"));
+
+        indexer = new TestFileIndexer();
+    }
+
+    @Test
+    public void testStatisticsCountIndexedAndFailedResources() {
+        assertNotNull(indexer.toKObject(validPath));
+        assertNotNull(indexer.toKObject(validPath));
+        assertNull(indexer.toKObject(brokenPath));
+
+        final IndexerStatistics statistics = indexer.getStatistics();
+        assertEquals("TestFileIndexer",
+                     statistics.getIndexerName());
+        assertEquals(2,
+                     statistics.getIndexedResources());
+        assertEquals(1,
+                     statistics.getFailedResources());
+        assertEquals(3,
+                     statistics.getProcessedResources());
+        assertTrue(statistics.toString().startsWith("TestFileIndexer: 2 indexed, 1 failed"));
+    }
+
+    @Test
+    public void testIndexerNameOfAnonymousSubclasses() {
+        assertEquals("TestFileIndexer",
+                     AbstractFileIndexer.getIndexerName(new TestFileIndexer() {
+                     }.getClass()));
+    }
+
+    private class TestFileIndexer extends AbstractFileIndexer {
+
+        @Override
+        public boolean supportsPath(final Path path) {
+            return true;
+        }
+
+        @Override
+        protected DefaultIndexBuilder fillIndexBuilder(final Path path) throws Exception {
+            if (path == brokenPath) {
+                throw new IllegalStateException("Unable to parse " + path.toUri());
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.workbench.common.services.refactoring.backend.server.query;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.util.BytesRef;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SearchCursorTest {
+
+    @Test
+    public void testEncodeDecode() {
+        final SearchCursor cursor = new SearchCursor( 20,
+                                                      new FieldDoc( 42,
+                                                                    Float.NaN,
+                                                                    new Object[]{ new BytesRef( "file;name.drl" ), 7, 8L, 1.5f, 2.5d, null } ) );
+
+        final SearchCursor decoded = SearchCursor.decode( cursor.encode() );
+
+        assertEquals( 20,
+                      decoded.getOffset() );
+        assertEquals( 42,
+                      decoded.getAfter().doc );
+        assertArrayEquals( new Object[]{ new BytesRef( "file;name.drl" ), 7, 8L, 1.5f, 2.5d, null },
+                           decoded.getAfter().fields );
+    }
+
+    @Test
+    public void testEncodeDecodeIndexOrder() {
+        final SearchCursor cursor = new SearchCursor( 10,
+                                                      new FieldDoc( 9,
+                                                                    Float.NaN,
+                                                                    new Object[]{ 9 } ) );
+
+        final SearchCursor decoded = SearchCursor.decode( cursor.encode() );
+
+        assertEquals( 9,
+                      decoded.getAfter().doc );
+        assertArrayEquals( new Object[]{ 9 },
+                           decoded.getAfter().fields );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeInvalidCursor() {
+        SearchCursor.decode( "not-a-cursor" );
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.services.refactoring.backend.server.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.RAMDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.refactoring.backend.server.query.response.ResponseBuilder;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRow;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringStringPageRow;
+import org.uberfire.ext.metadata.model.KObject;
+import org.uberfire.paging.PageResponse;
+
+import static org.junit.Assert.*;
+
+public class StreamingCollectorTest {
+
+    private static final int DOCUMENTS = 200;
+
+    private RAMDirectory directory;
+    private DirectoryReader reader;
+    private IndexSearcher searcher;
+
+    private int builtKObjects;
+
+    private final ResponseBuilder responseBuilder = new ResponseBuilder() {
+        @Override
+        public PageResponse<RefactoringPageRow> buildResponse( final int pageSize,
+                                                               final int startRow,
+                                                               final List<KObject> kObjects ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<RefactoringPageRow> buildResponse( final List<KObject> kObjects ) {
+            builtKObjects += kObjects.size();
+            return kObjects.stream().map( ( kObject ) -> {
+                final RefactoringStringPageRow row = new RefactoringStringPageRow();
+                row.setValue( kObject.getKey() );
+                return row;
+            } ).collect( Collectors.toList() );
+        }
+    };
+
+    @Before
+    public void setUp() throws Exception {
+        directory = new RAMDirectory();
+        try ( IndexWriter writer = new IndexWriter( directory,
+                                                    new IndexWriterConfig( new KeywordAnalyzer() ) ) ) {
+            for ( int i = 0; i < DOCUMENTS; i++ ) {
+                final Document document = new Document();
+                document.add( new StringField( "key",
+                                               "file" + i,
+                                               Field.Store.YES ) );
+                writer.addDocument( document );
+                if ( i % 50 == 0 ) {
+                    //Create several segments
+                    writer.commit();
+                }
+            }
+        }
+        reader = DirectoryReader.open( directory );
+        searcher = new IndexSearcher( reader );
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        reader.close();
+        directory.close();
+    }
+
+    @Test
+    public void testAllRowsAreConsumed() throws Exception {
+        final List<Object> keys = new ArrayList<>();
+        final StreamingCollector collector = new StreamingCollector( responseBuilder,
+                                                                     ( row ) -> keys.add( row.getValue() ) );
+
+        searcher.search( new MatchAllDocsQuery(),
+                         collector );
+        collector.flush();
+
+        assertEquals( DOCUMENTS,
+                      collector.getCount() );
+        assertEquals( DOCUMENTS,
+                      keys.size() );
+        assertTrue( keys.contains( "file0" ) );
+        assertTrue( keys.contains( "file" + ( DOCUMENTS - 1 ) ) );
+        assertFalse( collector.isTerminated() );
+    }
+
+    @Test
+    public void testEarlyTermination() throws Exception {
+        final StreamingCollector collector = new StreamingCollector( responseBuilder,
+                                                                     ( row ) -> false,
+                                                                     1 );
+
+        searcher.search( new MatchAllDocsQuery(),
+                         collector );
+        collector.flush();
+
+        assertEquals( 1,
+                      collector.getCount() );
+        assertEquals( 1,
+                      builtKObjects );
+        assertTrue( collector.isTerminated() );
+    }
+
+    @Test
+    public void testRowsWithTheSameValueAreConsumedOnceAcrossBatches() throws Exception {
+        final List<Object> values = new ArrayList<>();
+        final StreamingCollector collector = new StreamingCollector( sameRowResponseBuilder( true ),
+                                                                     ( row ) -> values.add( row.getValue() ),
+                                                                     10 );
+
+        searcher.search( new MatchAllDocsQuery(),
+                         collector );
+        collector.flush();
+
+        assertEquals( 1,
+                      collector.getCount() );
+        assertEquals( Collections.singletonList( "myRule" ),
+                      values );
+    }
+
+    @Test
+    public void testRowsAreNotFilteredUnlessTheResponseBuilderCollapsesHits() throws Exception {
+        final List<Object> values = new ArrayList<>();
+        final StreamingCollector collector = new StreamingCollector( sameRowResponseBuilder( false ),
+                                                                     ( row ) -> values.add( row.getValue() ),
+                                                                     10 );
+
+        searcher.search( new MatchAllDocsQuery(),
+                         collector );
+        collector.flush();
+
+        assertEquals( DOCUMENTS / 10,
+                      collector.getCount() );
+        assertEquals( DOCUMENTS / 10,
+                      values.size() );
+    }
+
+    private ResponseBuilder sameRowResponseBuilder( final boolean collapsesHits ) {
+        return new ResponseBuilder() {
+            @Override
+            public PageResponse<RefactoringPageRow> buildResponse( final int pageSize,
+                                                                   final int startRow,
+                                                                   final List<KObject> kObjects ) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<RefactoringPageRow> buildResponse( final List<KObject> kObjects ) {
+                //Like RuleNameResponseBuilder, every batch is reduced to its unique values
+                final RefactoringStringPageRow row = new RefactoringStringPageRow();
+                row.setValue( "myRule" );
+                return Collections.singletonList( row );
+            }
+
+            @Override
+            public boolean collapsesHits() {
+                return collapsesHits;
+            }
+        };
+    }
+}
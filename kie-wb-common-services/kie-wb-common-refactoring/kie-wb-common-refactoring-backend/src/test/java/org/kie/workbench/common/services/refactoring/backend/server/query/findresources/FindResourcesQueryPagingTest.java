@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.refactoring.backend.server.query.findresources;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.services.refactoring.backend.server.BaseIndexingTest;
+import org.kie.workbench.common.services.refactoring.backend.server.TestIndexer;
+import org.kie.workbench.common.services.refactoring.backend.server.drl.TestDrlFileIndexer;
+import org.kie.workbench.common.services.refactoring.backend.server.drl.TestDrlFileTypeDefinition;
+import org.kie.workbench.common.services.refactoring.backend.server.query.NamedQuery;
+import org.kie.workbench.common.services.refactoring.backend.server.query.response.DefaultResponseBuilder;
+import org.kie.workbench.common.services.refactoring.backend.server.query.response.ResponseBuilder;
+import org.kie.workbench.common.services.refactoring.backend.server.query.standard.FindResourcesQuery;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueIndexTerm.TermSearchType;
+import org.kie.workbench.common.services.refactoring.model.index.terms.valueterms.ValueResourceIndexTerm;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringCursorPageRequest;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringCursorPageResponse;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRequest;
+import org.kie.workbench.common.services.refactoring.model.query.RefactoringPageRow;
+import org.kie.workbench.common.services.refactoring.service.ResourceType;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.paging.PageResponse;
+
+/**
+ * Checks the page boundaries, page sizes and counts of paged queries through the query service.
+ */
+public class FindResourcesQueryPagingTest extends BaseIndexingTest<TestDrlFileTypeDefinition> {
+
+    private Path[] paths;
+
+    protected Set<NamedQuery> getQueries() {
+        return new HashSet<NamedQuery>() {{
+            add( new FindResourcesQuery() {
+                @Override
+                public ResponseBuilder getResponseBuilder() {
+                    return new DefaultResponseBuilder( ioService() );
+                }
+            } );
+        }};
+    }
+
+    @Before
+    public void addTestFiles() throws IOException, InterruptedException {
+        paths = new Path[]{
+                basePath.resolve( "drl1.drl" ),
+                basePath.resolve( "drl2.drl" ),
+                basePath.resolve( "drl3.drl" )
+        };
+        for ( Path path : paths ) {
+            ioService().write( path,
+                               loadText( path.getFileName().toString() ) );
+        }
+
+        Thread.sleep( 5000 ); //wait for events to be consumed from jgit -> (notify changes -> watcher -> index) -> lucene index
+    }
+
+    @Test
+    public void testPagesByStartRowIndex() {
+        final List<String> all = fileNames( service.query( pageRequest( 0,
+                                                                        10 ) ).getPageRowList() );
+        assertEquals( 3,
+                      all.size() );
+
+        final PageResponse<RefactoringPageRow> page1 = service.query( pageRequest( 0,
+                                                                                   2 ) );
+        assertEquals( 0,
+                      page1.getStartRowIndex() );
+        assertEquals( all.subList( 0,
+                                   2 ),
+                      fileNames( page1.getPageRowList() ) );
+
+        final PageResponse<RefactoringPageRow> page2 = service.query( pageRequest( 2,
+                                                                                   2 ) );
+        assertEquals( 2,
+                      page2.getStartRowIndex() );
+        assertEquals( all.subList( 2,
+                                   3 ),
+                      fileNames( page2.getPageRowList() ) );
+
+        final PageResponse<RefactoringPageRow> page3 = service.query( pageRequest( 4,
+                                                                                   2 ) );
+        assertTrue( page3.getPageRowList().isEmpty() );
+        assertEquals( 0,
+                      page3.getTotalRowSize() );
+    }
+
+    @Test
+    public void testPagesByCursor() {
+        final List<String> all = fileNames( service.query( pageRequest( 0,
+                                                                        10 ) ).getPageRowList() );
+
+        final RefactoringCursorPageResponse page1 = service.queryWithCursor( cursorRequest( null,
+                                                                                            2 ) );
+        assertEquals( 0,
+                      page1.getStartRowIndex() );
+        assertEquals( 3,
+                      page1.getTotalRowSize() );
+        assertFalse( page1.isLastPage() );
+        assertNotNull( page1.getNextCursor() );
+        assertEquals( all.subList( 0,
+                                   2 ),
+                      fileNames( page1.getPageRowList() ) );
+
+        final RefactoringCursorPageResponse page2 = service.queryWithCursor( cursorRequest( page1.getNextCursor(),
+                                                                                            2 ) );
+        assertEquals( 2,
+                      page2.getStartRowIndex() );
+        assertEquals( 3,
+                      page2.getTotalRowSize() );
+        assertTrue( page2.isLastPage() );
+        assertNull( page2.getNextCursor() );
+        assertEquals( all.subList( 2,
+                                   3 ),
+                      fileNames( page2.getPageRowList() ) );
+    }
+
+    @Test
+    public void testCursorOnAPageBoundary() {
+        final RefactoringCursorPageResponse page1 = service.queryWithCursor( cursorRequest( null,
+                                                                                            3 ) );
+        assertEquals( 3,
+                      page1.getPageRowList().size() );
+        assertTrue( page1.isLastPage() );
+        assertNull( page1.getNextCursor() );
+    }
+
+    private RefactoringPageRequest pageRequest( final int startRowIndex,
+                                                final int pageSize ) {
+        return new RefactoringPageRequest( FindResourcesQuery.NAME,
+                                           terms(),
+                                           startRowIndex,
+                                           pageSize );
+    }
+
+    private RefactoringCursorPageRequest cursorRequest( final String cursor,
+                                                        final int pageSize ) {
+        return new RefactoringCursorPageRequest( FindResourcesQuery.NAME,
+                                                 terms(),
+                                                 cursor,
+                                                 pageSize );
+    }
+
+    private Set<ValueIndexTerm> terms() {
+        return new HashSet<ValueIndexTerm>() {{
+            add( new ValueResourceIndexTerm( "org.kie.workbench.mock.package.myRule*",
+                                             ResourceType.RULE,
+                                             TermSearchType.WILDCARD ) );
+        }};
+    }
+
+    private List<String> fileNames( final List<RefactoringPageRow> rows ) {
+        final List<String> fileNames = new ArrayList<String>();
+        for ( RefactoringPageRow row : rows ) {
+            fileNames.add( ( (org.uberfire.backend.vfs.Path) row.getValue() ).getFileName() );
+        }
+        return fileNames;
+    }
+
+    @Override
+    protected TestIndexer getIndexer() {
+        return new TestDrlFileIndexer();
+    }
+
+    @Override
+    protected TestDrlFileTypeDefinition getResourceTypeDefinition() {
+        return new TestDrlFileTypeDefinition();
+    }
+
+    @Override
+    protected String getRepositoryName() {
+        return this.getClass().getSimpleName();
+    }
+}
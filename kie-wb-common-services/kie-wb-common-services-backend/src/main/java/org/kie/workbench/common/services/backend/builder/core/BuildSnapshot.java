@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.drools.compiler.kproject.xml.DependencyFilter;
+import org.guvnor.common.services.project.model.GAV;
+import org.kie.api.builder.KieModule;
+import org.kie.scanner.KieModuleMetaData;
+
+/**
+ * The result of the last completed (full or incremental) build of a {@link Builder}. A new instance is published
+ * by the Builder at the end of full builds, and after incremental builds when a reader first asks for it, so readers
+ * can use it without synchronizing with builds in progress. The KieModule is a copy of the Builder's module taken
+ * when the snapshot is published, so later builds do not change its resources or classes. The KnowledgeBuilders cached per KieBase are shared with the Builder.
+ */
+public class BuildSnapshot {
+
+    private final long version;
+    private final Object classPath;
+    private final GAV projectGAV;
+    private final KieModule kieModule;
+    private final boolean hasErrors;
+    private final Set<String> javaResources;
+
+    private volatile KieModuleMetaData kieModuleMetaData;
+
+    BuildSnapshot( final long version,
+                   final BuildSnapshot sameClassPathAs,
+                   final GAV projectGAV,
+                   final KieModule kieModule,
+                   final boolean hasErrors,
+                   final Set<String> javaResources,
+                   final KieModuleMetaData kieModuleMetaData ) {
+        this.version = version;
+        this.classPath = sameClassPathAs == null ? new Object() : sameClassPathAs.classPath;
+        this.projectGAV = projectGAV;
+        this.kieModule = kieModule;
+        this.hasErrors = hasErrors;
+        this.javaResources = Collections.unmodifiableSet( new HashSet<String>( javaResources ) );
+        this.kieModuleMetaData = kieModuleMetaData;
+    }
+
+    /**
+     * @return a number increased every time the Builder completes a build.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return true if no build changed the Project classes or dependencies between the given snapshot and this one,
+     * so both can share a ClassLoader.
+     */
+    public boolean hasSameClassPath( final BuildSnapshot other ) {
+        return other != null && other.classPath == classPath;
+    }
+
+    /**
+     * @return the KieModule, failing if the build produced errors.
+     */
+    public KieModule getKieModule() {
+        if ( hasErrors ) {
+            throw new RuntimeException( "Cannot find KieModule: " + projectGAV );
+        }
+        return kieModule;
+    }
+
+    public KieModule getKieModuleIgnoringErrors() {
+        return kieModule;
+    }
+
+    public boolean hasErrors() {
+        return hasErrors;
+    }
+
+    /**
+     * The KieModuleMetaData is calculated on first access, since incremental builds don't always need it.
+     */
+    public KieModuleMetaData getKieModuleMetaDataIgnoringErrors() {
+        KieModuleMetaData metaData = kieModuleMetaData;
+        if ( metaData == null ) {
+            synchronized ( this ) {
+                metaData = kieModuleMetaData;
+                if ( metaData == null ) {
+                    metaData = KieModuleMetaData.Factory.newKieModuleMetaData( kieModule,
+                                                                               DependencyFilter.COMPILE_FILTER );
+                    kieModuleMetaData = metaData;
+                }
+            }
+        }
+        return metaData;
+    }
+
+    public Set<String> getJavaResources() {
+        return javaResources;
+    }
+}
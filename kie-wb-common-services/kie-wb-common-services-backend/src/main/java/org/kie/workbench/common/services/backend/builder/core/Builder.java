@@ -21,12 +21,14 @@ import java.io.InputStream;
 import java.io.Serializable;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 
 import org.drools.compiler.kie.builder.impl.InternalKieModule;
@@ -34,6 +36,7 @@ import org.drools.compiler.kie.builder.impl.KieBuilderImpl;
 import org.drools.compiler.kie.builder.impl.KieContainerImpl;
 import org.drools.compiler.kie.builder.impl.KieFileSystemImpl;
 import org.drools.compiler.kie.builder.impl.KieModuleKieProject;
+import org.drools.compiler.kie.builder.impl.MemoryKieModule;
 import org.drools.compiler.kproject.xml.DependencyFilter;
 import org.drools.compiler.kproject.xml.PomModel;
 import org.drools.workbench.models.datamodel.imports.Import;
@@ -99,7 +102,7 @@ public class Builder implements Serializable {
 
     private final Handles handles = new Handles();
     private final KieProjectService projectService;
-    private KieBuilder kieBuilder;
+    private volatile KieBuilder kieBuilder;
     private final ProjectImportsService importsService;
     private final List<BuildValidationHelper> buildValidationHelpers;
 
@@ -117,6 +120,22 @@ public class Builder implements Serializable {
 
     private final Predicate<String> classFilter;
 
+    //Builds (writers) are serialized on the write lock. Readers use the last published BuildSnapshot without locking.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object publishLock = new Object();
+    private volatile BuildSnapshot snapshot;
+    //Increased by every build, including those that fail and hence publish no snapshot
+    private volatile long buildVersion;
+    //The last build not published yet. Incremental builds, and full builds of clones, are only published when read
+    private volatile long pendingVersion;
+    private boolean pendingFullBuild;
+    private KieModuleMetaData pendingMetaData;
+
+    //Clones record the resources changed since they were taken, so they can be reverted to their origin's state
+    private final Builder origin;
+    private final long originVersion;
+    private final Set<Path> changedResources = new HashSet<Path>();
+
     public Builder( final Project project,
                     final IOService ioService,
                     final KieProjectService projectService,
@@ -144,11 +163,51 @@ public class Builder implements Serializable {
         this.kieFileSystem = kieFileSystem;
         this.dependenciesClassLoaderCache = dependenciesClassLoaderCache;
         this.pomModelCache = pomModelCache;
+        this.origin = null;
+        this.originVersion = 0;
 
         DirectoryStream<org.uberfire.java.nio.file.Path> directoryStream = Files.newDirectoryStream( projectRoot );
         visitPaths( directoryStream );
     }
 
+    /**
+     * Creates a clone of a built Builder from its state, without reading the Project's resources again.
+     * Must be called holding the origin's read lock.
+     */
+    private Builder( final Builder origin,
+                     final KieBuilder kieBuilder,
+                     final KieFileSystem kieFileSystem ) {
+        this.project = origin.project;
+        this.ioService = origin.ioService;
+        this.projectService = origin.projectService;
+        this.importsService = origin.importsService;
+        this.buildValidationHelpers = origin.buildValidationHelpers;
+        this.packageNameWhiteListService = origin.packageNameWhiteListService;
+        this.classFilter = origin.classFilter;
+
+        this.projectGAV = origin.projectGAV;
+        this.projectRoot = origin.projectRoot;
+        this.projectPrefix = origin.projectPrefix;
+        this.kieServices = origin.kieServices;
+        this.kieBuilder = kieBuilder;
+        this.kieFileSystem = kieFileSystem;
+        this.dependenciesClassLoaderCache = origin.dependenciesClassLoaderCache;
+        this.pomModelCache = origin.pomModelCache;
+
+        this.handles.putAll( origin.handles );
+        this.nonKieResourceValidationHelpers.putAll( origin.nonKieResourceValidationHelpers );
+        this.nonKieResourceValidationHelperMessages.putAll( origin.nonKieResourceValidationHelperMessages );
+        this.javaResources.addAll( origin.javaResources );
+
+        this.snapshot = origin.snapshot;
+        this.buildVersion = origin.buildVersion;
+        this.pendingVersion = origin.pendingVersion;
+        this.pendingFullBuild = origin.pendingFullBuild;
+        this.pendingMetaData = origin.pendingMetaData;
+        this.origin = origin;
+        this.originVersion = origin.buildVersion;
+    }
+
     public Builder( final Project project,
                     final IOService ioService,
                     final KieProjectService projectService,
@@ -171,21 +230,42 @@ public class Builder implements Serializable {
               KieServices.Factory.get().newKieFileSystem() );
     }
 
+    /**
+     * Clones this Builder. If it has been built the clone is taken from its in-memory state, only copying the
+     * KieFileSystem index, and records the resources changed afterwards so it can be reverted and re-used.
+     * @see ValidationBuilderPool
+     */
     public Builder clone() {
-        final KieFileSystem kieFileSystemClone = kieFileSystemClone();
-        final KieBuilderImpl kieBuilder = kieBuilderClone( kieFileSystemClone );
-
-        return new Builder( project,
-                            ioService,
-                            projectService,
-                            importsService,
-                            buildValidationHelpers,
-                            dependenciesClassLoaderCache,
-                            pomModelCache,
-                            packageNameWhiteListService,
-                            classFilter,
-                            kieBuilder,
-                            kieFileSystemClone );
+        final KieFileSystem kieFileSystemClone;
+        final KieBuilderImpl kieBuilder;
+        final BuildSnapshot snapshot;
+        lock.readLock().lock();
+        try {
+            kieFileSystemClone = kieFileSystemClone();
+            kieBuilder = kieBuilderClone( kieFileSystemClone );
+            snapshot = this.snapshot;
+            if ( isBuilt() && kieBuilder != null ) {
+                return new Builder( this,
+                                    kieBuilder,
+                                    kieFileSystemClone );
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        final Builder clone = new Builder( project,
+                                           ioService,
+                                           projectService,
+                                           importsService,
+                                           buildValidationHelpers,
+                                           dependenciesClassLoaderCache,
+                                           pomModelCache,
+                                           packageNameWhiteListService,
+                                           classFilter,
+                                           kieBuilder,
+                                           kieFileSystemClone );
+        clone.snapshot = snapshot;
+        return clone;
     }
 
     private KieFileSystem kieFileSystemClone() {
@@ -205,24 +285,28 @@ public class Builder implements Serializable {
     }
 
     public BuildResults build() {
-        synchronized ( kieFileSystem ) {
+        lock.writeLock().lock();
+        try {
             //KieBuilder is not re-usable for successive "full" builds
             kieBuilder = createKieBuilder( kieFileSystem );
 
             //Record RTEs from KieBuilder - that can fail if a rule uses an inaccessible class
             final BuildResults results = new BuildResults( projectGAV );
+            boolean failed = false;
             try {
                 final Results kieResults = ( (InternalKieBuilder) kieBuilder ).buildAll( classFilter ).getResults();
                 results.addAllBuildMessages( convertMessages( kieResults.getMessages(),
                                                               handles ) );
 
             } catch ( LinkageError e ) {
+                failed = true;
                 final String msg = MessageFormat.format( ERROR_CLASS_NOT_FOUND,
                                                          e.getLocalizedMessage() );
                 logger.warn( msg );
                 results.addBuildMessage( makeWarningMessage( msg ) );
 
             } catch ( Throwable e ) {
+                failed = true;
                 final String msg = e.getLocalizedMessage();
                 logger.error( msg,
                               e );
@@ -267,7 +351,8 @@ public class Builder implements Serializable {
             //At the end we are interested to ensure that external .jar files referenced as dependencies don't have
             // referential inconsistencies. We will at least provide a basic algorithm to ensure that if an external class
             // X references another external class Y, Y is also accessible by the class loader.
-            final KieModuleMetaData kieModuleMetaData = getKieModuleMetaDataIgnoringErrors();
+            final KieModuleMetaData kieModuleMetaData = KieModuleMetaData.Factory.newKieModuleMetaData( ( (InternalKieBuilder) kieBuilder ).getKieModuleIgnoringErrors(),
+                                                                                                        DependencyFilter.COMPILE_FILTER );
 
             //store the project dependencies ClassLoader for optimization purposes.
             updateDependenciesClassLoader( project,
@@ -275,25 +360,39 @@ public class Builder implements Serializable {
 
             results.addAllBuildMessages( verifyClasses( kieModuleMetaData ) );
 
+            recordBuild( kieModuleMetaData,
+                         true,
+                         failed );
+            //Validation clones are built for their messages, so only the origin pays for copying its KieModule
+            if ( origin == null ) {
+                publishPendingSnapshot();
+            }
+
             return results;
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
     public BuildResults build( Path resource,
                                InputStream inputStream ) {
-        synchronized ( kieFileSystem ) {
+        lock.writeLock().lock();
+        try {
             final String destinationPath = destinationPath( resource );
             final Resource inputStreamResource = KieServices.Factory.get().getResources().newInputStreamResource( new BufferedInputStream( inputStream ) );
 
             kieFileSystem.write( destinationPath, inputStreamResource );
 
             return build();
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
     private List<BuildMessage> verifyClasses( KieModuleMetaData kieModuleMetaData ) {
         return new ClassVerifier( kieModuleMetaData,
-                                  getTypeSourceResolver( kieModuleMetaData ) ).verify( getWhiteList( kieModuleMetaData ) );
+                                  new TypeSourceResolver( kieModuleMetaData,
+                                                          javaResources ) ).verify( getWhiteList( kieModuleMetaData ) );
     }
 
     private WhiteList getWhiteList( final KieModuleMetaData kieModuleMetaData ) {
@@ -325,7 +424,8 @@ public class Builder implements Serializable {
     }
 
     public IncrementalBuildResults deleteResource( final Path resource ) {
-        synchronized ( kieFileSystem ) {
+        lock.writeLock().lock();
+        try {
             checkNotNull( "resource",
                           resource );
 
@@ -343,17 +443,21 @@ public class Builder implements Serializable {
             buildIncrementally( results, destinationPath( resource ) );
 
             return results;
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
     private void removeResource( final Path resource ) {
         kieFileSystem.delete( destinationPath( resource ) );
         removeJavaClass( resource );
+        recordChange( resource );
     }
 
     private IncrementalBuildResults addResource( final Path resource,
                                                  final InputStream inputStream ) {
-        synchronized ( kieFileSystem ) {
+        lock.writeLock().lock();
+        try {
             checkNotNull( "resource",
                           resource );
 
@@ -383,6 +487,8 @@ public class Builder implements Serializable {
             buildIncrementally( results, destinationPath( resource ) );
 
             return results;
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
@@ -394,6 +500,7 @@ public class Builder implements Serializable {
         kieFileSystem.write( destinationPath, inputStreamResource );
         handles.put( getBaseFileName( destinationPath ), Paths.convert( path ) );
         addJavaClass( path );
+        recordChange( path );
     }
 
     private String destinationPath( final Path resource ) {
@@ -401,20 +508,17 @@ public class Builder implements Serializable {
     }
 
     public IncrementalBuildResults updateResource( final Path resource ) {
-        synchronized ( kieFileSystem ) {
-            return addResource( resource );
-        }
+        return addResource( resource );
     }
 
     public IncrementalBuildResults updateResource( final Path resource,
                                                    InputStream inputStream ) {
-        synchronized ( kieFileSystem ) {
-            return addResource( resource, inputStream );
-        }
+        return addResource( resource, inputStream );
     }
 
     public IncrementalBuildResults applyBatchResourceChanges( final Map<org.uberfire.backend.vfs.Path, Collection<ResourceChange>> changes ) {
-        synchronized ( kieFileSystem ) {
+        lock.writeLock().lock();
+        try {
             checkNotNull( "changes",
                           changes );
 
@@ -470,6 +574,8 @@ public class Builder implements Serializable {
             results.addAllRemovedMessages( convertValidationMessages( nonKieResourceValidatorRemovedMessages ) );
 
             return results;
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
@@ -494,6 +600,7 @@ public class Builder implements Serializable {
         //The file has already been deleted so we can't check if the Path is a file or folder :(
         kieFileSystem.delete( destinationPath );
         removeJavaClass( resource );
+        recordChange( resource );
     }
 
     private void update( final List<ValidationMessage> nonKieResourceValidatorAddedMessages,
@@ -531,10 +638,111 @@ public class Builder implements Serializable {
         addJavaClass( resource );
         handles.put( getBaseFileName( destinationPath ),
                      Paths.convert( resource ) );
+        recordChange( resource );
+    }
+
+    private void recordChange( final Path resource ) {
+        if ( origin != null ) {
+            changedResources.add( resource );
+        }
+    }
+
+    /**
+     * @return true if this Builder is a clone of the given Builder and the origin has not been built since.
+     */
+    boolean isUpToDateCloneOf( final Builder builder ) {
+        return origin == builder && builder.isBuilt() && builder.buildVersion == originVersion;
+    }
+
+    /**
+     * @return true if this Builder is a clone and its origin has not been built since.
+     */
+    boolean isUpToDateClone() {
+        return origin != null && isUpToDateCloneOf( origin );
+    }
+
+    /**
+     * Reverts the resources changed in this clone, other than the given one, to their state in the origin Builder
+     * and incrementally rebuilds them. The given resource is expected to be replaced by the caller.
+     * @return false if the origin has been built since this clone was taken and hence it cannot be reverted.
+     */
+    boolean revertChangesExcept( final Path resource ) {
+        lock.writeLock().lock();
+        try {
+            if ( origin == null ) {
+                return false;
+            }
+            final List<String> revertedPaths = new ArrayList<String>();
+            origin.lock.readLock().lock();
+            try {
+                if ( !isUpToDateCloneOf( origin ) ) {
+                    return false;
+                }
+                for ( final Path changed : new ArrayList<Path>( changedResources ) ) {
+                    if ( changed.equals( resource ) ) {
+                        continue;
+                    }
+                    revertResource( changed );
+                    revertedPaths.add( destinationPath( changed ) );
+                }
+            } finally {
+                origin.lock.readLock().unlock();
+            }
+
+            if ( !revertedPaths.isEmpty() ) {
+                buildIncrementally( new IncrementalBuildResults( projectGAV ),
+                                    toArray( revertedPaths ) );
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void revertResource( final Path resource ) {
+        final String destinationPath = destinationPath( resource );
+        final byte[] originContent = ( (KieFileSystemImpl) origin.kieFileSystem ).read( destinationPath );
+        if ( originContent == null ) {
+            kieFileSystem.delete( destinationPath );
+        } else {
+            kieFileSystem.write( destinationPath,
+                                 originContent );
+            handles.put( getBaseFileName( destinationPath ),
+                         Paths.convert( resource ) );
+        }
+        if ( javaResourceFilter.accept( resource ) ) {
+            final String fullyQualifiedClassName = getFullyQualifiedClassName( resource );
+            if ( origin.javaResources.contains( fullyQualifiedClassName ) ) {
+                javaResources.add( fullyQualifiedClassName );
+            } else {
+                javaResources.remove( fullyQualifiedClassName );
+            }
+        }
+
+        restore( nonKieResourceValidationHelpers,
+                 origin.nonKieResourceValidationHelpers,
+                 resource );
+        restore( nonKieResourceValidationHelperMessages,
+                 origin.nonKieResourceValidationHelperMessages,
+                 resource );
+        changedResources.remove( resource );
+    }
+
+    private static <T> void restore( final Map<Path, T> target,
+                                     final Map<Path, T> source,
+                                     final Path resource ) {
+        final T value = source.get( resource );
+        if ( value == null ) {
+            target.remove( resource );
+        } else {
+            target.put( resource,
+                        value );
+        }
     }
 
     private void buildIncrementally( final IncrementalBuildResults results,
                                      final String... destinationPath ) {
+        boolean failed = false;
         try {
             final IncrementalResults incrementalResults = ( (InternalKieBuilder) kieBuilder ).createFileSet( destinationPath ).build();
             results.addAllAddedMessages( convertMessages( incrementalResults.getAddedMessages(), handles ) );
@@ -546,17 +754,135 @@ public class Builder implements Serializable {
             }
 
         } catch ( LinkageError e ) {
+            failed = true;
             final String msg = MessageFormat.format( ERROR_CLASS_NOT_FOUND,
                                                      e.getLocalizedMessage() );
             logger.warn( msg );
             results.addAddedMessage( makeWarningMessage( msg ) );
 
         } catch ( Throwable e ) {
+            failed = true;
             final String msg = e.getLocalizedMessage();
             logger.error( msg,
                           e );
             results.addAddedMessage( makeErrorMessage( msg ) );
         }
+
+        recordBuild( null,
+                     false,
+                     failed );
+    }
+
+    /**
+     * Records a completed build, to be published when it is next read. Must be called holding the write lock. A
+     * build that failed with an exception does not replace the last published snapshot, and drops any build pending
+     * since then as the KieBuilder's state can no longer be relied on.
+     */
+    private void recordBuild( final KieModuleMetaData kieModuleMetaData,
+                              final boolean fullBuild,
+                              final boolean failed ) {
+        final long version = ++buildVersion;
+        final BuildSnapshot previous = snapshot;
+        if ( failed && previous != null ) {
+            pendingVersion = previous.getVersion();
+            pendingFullBuild = false;
+            pendingMetaData = null;
+            return;
+        }
+        pendingVersion = version;
+        pendingFullBuild |= fullBuild;
+        pendingMetaData = kieModuleMetaData;
+    }
+
+    /**
+     * Publishes the last recorded build for lock-free readers, unless it has been published already. Must be called
+     * holding the read or the write lock. The KieModule is copied, since incremental builds keep changing the
+     * KieBuilder's module in place.
+     */
+    private BuildSnapshot publishPendingSnapshot() {
+        synchronized ( publishLock ) {
+            final BuildSnapshot previous = snapshot;
+            final long version = pendingVersion;
+            if ( version == 0 || ( previous != null && previous.getVersion() >= version ) ) {
+                return previous;
+            }
+            final KieModule kieModule = copyOf( ( (InternalKieBuilder) kieBuilder ).getKieModuleIgnoringErrors() );
+            boolean hasErrors = false;
+            try {
+                kieBuilder.getKieModule();
+            } catch ( RuntimeException e ) {
+                hasErrors = true;
+            }
+
+            //Full builds may change the dependencies; incremental builds only change the classpath if they change classes
+            final boolean sameClassPath = !pendingFullBuild && previous != null && hasSameClasses( previous.getKieModuleIgnoringErrors(),
+                                                                                                   kieModule );
+            final BuildSnapshot published = new BuildSnapshot( version,
+                                                               sameClassPath ? previous : null,
+                                                               projectGAV,
+                                                               kieModule,
+                                                               hasErrors,
+                                                               javaResources,
+                                                               pendingMetaData );
+            pendingFullBuild = false;
+            pendingMetaData = null;
+            snapshot = published;
+            return published;
+        }
+    }
+
+    /**
+     * @return the last published snapshot, publishing the last build first unless a build is in progress; or null if
+     * no build has completed yet.
+     */
+    private BuildSnapshot publishedSnapshot() {
+        final BuildSnapshot current = snapshot;
+        if ( ( current == null || current.getVersion() < pendingVersion ) && lock.readLock().tryLock() ) {
+            try {
+                return publishPendingSnapshot();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @return true if a completed build has not been published yet.
+     */
+    boolean hasUnpublishedBuild() {
+        final BuildSnapshot current = snapshot;
+        return pendingVersion > ( current == null ? 0 : current.getVersion() );
+    }
+
+    static KieModule copyOf( final KieModule kieModule ) {
+        if ( !( kieModule instanceof MemoryKieModule ) ) {
+            return kieModule;
+        }
+        final MemoryKieModule memoryKieModule = (MemoryKieModule) kieModule;
+        return memoryKieModule.cloneForIncrementalCompilation( memoryKieModule.getReleaseId(),
+                                                               memoryKieModule.getKieModuleModel(),
+                                                               memoryKieModule.getMemoryFileSystem().clone() );
+    }
+
+    static boolean hasSameClasses( final KieModule previous,
+                                   final KieModule current ) {
+        if ( !( previous instanceof InternalKieModule && current instanceof InternalKieModule ) ) {
+            return false;
+        }
+        final Map<String, byte[]> previousClasses = ( (InternalKieModule) previous ).getClassesMap( true );
+        final Map<String, byte[]> currentClasses = ( (InternalKieModule) current ).getClassesMap( true );
+        if ( !previousClasses.keySet().equals( currentClasses.keySet() ) ) {
+            return false;
+        }
+        for ( Map.Entry<String, byte[]> e : currentClasses.entrySet() ) {
+            final byte[] previousBytes = previousClasses.get( e.getKey() );
+            if ( previousBytes != e.getValue() && !Arrays.equals( previousBytes,
+                                                                  e.getValue() ) ) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private void checkAFullBuildHasBeenPerformed() {
@@ -567,54 +893,66 @@ public class Builder implements Serializable {
 
     public KieModule getKieModule() {
         //Kie classes are only available once built
-        if ( !isBuilt() ) {
-            build();
-        }
-        synchronized ( kieFileSystem ) {
-            return kieBuilder.getKieModule();
-        }
+        return getBuildSnapshot().getKieModule();
     }
 
     public KieModule getKieModuleIgnoringErrors() {
         //Kie classes are only available once built
-        if ( !isBuilt() ) {
-            build();
-        }
-        synchronized ( kieFileSystem ) {
-            return ( (InternalKieBuilder) kieBuilder ).getKieModuleIgnoringErrors();
-        }
+        return getBuildSnapshot().getKieModuleIgnoringErrors();
     }
 
     public KieModuleMetaData getKieModuleMetaDataIgnoringErrors() {
-        return KieModuleMetaData.Factory.newKieModuleMetaData( getKieModuleIgnoringErrors(),
-                                                               DependencyFilter.COMPILE_FILTER );
+        return getBuildSnapshot().getKieModuleMetaDataIgnoringErrors();
+    }
 
+    /**
+     * @return the result of the last completed build, performing a full build if none has been performed yet. While a
+     * build is in progress the result of the one before is returned.
+     */
+    public BuildSnapshot getBuildSnapshot() {
+        BuildSnapshot current = publishedSnapshot();
+        if ( current == null ) {
+            lock.writeLock().lock();
+            try {
+                if ( !isBuilt() ) {
+                    build();
+                }
+                current = publishPendingSnapshot();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return current;
     }
 
     public TypeSourceResolver getTypeSourceResolver( KieModuleMetaData kieModuleMetaData ) {
-        return new TypeSourceResolver( kieModuleMetaData,
-                                       javaResources );
+        final BuildSnapshot current = publishedSnapshot();
+        if ( current != null ) {
+            return new TypeSourceResolver( kieModuleMetaData,
+                                           current.getJavaResources() );
+        }
+        lock.readLock().lock();
+        try {
+            return new TypeSourceResolver( kieModuleMetaData,
+                                           new HashSet<String>( javaResources ) );
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public KieContainer getKieContainer() {
-        BuildResults results = null;
-
         //Kie classes are only available once built
-        if ( !isBuilt() ) {
-            results = build();
-        } else {
-            results = new BuildResults();
-            results.addAllBuildMessages( convertMessages( kieBuilder.getResults().getMessages(), handles ) );
-        }
+        final BuildSnapshot current = getBuildSnapshot();
+
         //It's impossible to retrieve a KieContainer if the KieModule contains errors
-        if ( results.getErrorMessages().isEmpty() ) {
+        if ( !current.hasErrors() ) {
             // Do not retrieve the KieContainer with KieServices.newKieContainer(releaseId) since this looks-up the KieModule to
             // create the KieContainer from KieRepository. This holds the most recent KieModule (for the ReleaseId) that was built with
             // kieBuilder.buildAll() which *may* be a KieModule created during asset validation and hence will lack many assets.
             // See https://bugzilla.redhat.com/show_bug.cgi?id=1202551
-            final KieModule kieModule = kieBuilder.getKieModule();
+            final KieModule kieModule = current.getKieModule();
             final ReleaseId releaseId = kieModule.getReleaseId();
-            final org.drools.compiler.kie.builder.impl.KieProject kieProject = new KieModuleKieProject( (InternalKieModule) kieBuilder.getKieModule(), null );
+            final org.drools.compiler.kie.builder.impl.KieProject kieProject = new KieModuleKieProject( (InternalKieModule) kieModule, null );
             final KieContainer kieContainer = new KieContainerImpl( kieProject,
                                                                     KieServices.Factory.get().getRepository(),
                                                                     releaseId );
@@ -625,9 +963,7 @@ public class Builder implements Serializable {
     }
 
     public boolean isBuilt() {
-        synchronized ( kieFileSystem ) {
-            return kieBuilder != null;
-        }
+        return snapshot != null || pendingVersion > 0;
     }
 
     private void visitPaths( final DirectoryStream<org.uberfire.java.nio.file.Path> directoryStream ) {
@@ -16,7 +16,18 @@
 package org.kie.workbench.common.services.backend.builder.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -27,9 +38,9 @@ import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.inject.Named;
 
-import org.guvnor.common.services.backend.cache.LRUCache;
 import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
 import org.guvnor.common.services.project.builder.service.BuildValidationHelper;
+import org.guvnor.common.services.project.model.GAV;
 import org.guvnor.common.services.project.model.POM;
 import org.guvnor.common.services.project.model.Project;
 import org.kie.workbench.common.services.backend.builder.JavaSourceFilter;
@@ -37,6 +48,8 @@ import org.kie.workbench.common.services.backend.whitelist.PackageNameWhiteListS
 import org.kie.workbench.common.services.shared.project.KieProjectService;
 import org.kie.workbench.common.services.shared.project.ProjectImportsService;
 import org.kie.workbench.common.services.shared.whitelist.PackageNameWhiteListService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.uberfire.commons.validation.PortablePreconditions;
 import org.uberfire.io.IOService;
 
@@ -44,10 +57,20 @@ import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.StreamSupport.stream;
 
 /**
- * A simple LRU cache for Builders
+ * A concurrent LRU cache for Builders.
+ * <p>
+ * Lookups never take a global lock: each Project has its own entry holding a {@link FutureTask} that constructs the
+ * Builder. The first caller for a Project runs the construction while concurrent callers for the same Project wait
+ * on that entry only; callers for other Projects are not affected. A secondary GAV index makes
+ * {@link #assertBuilder(POM)} a constant time lookup. Eviction of the least recently used entries is performed by
+ * whichever thread inserts a new entry, without blocking readers.
  */
 @ApplicationScoped
-public class LRUBuilderCache extends LRUCache<Project, Builder > {
+public class LRUBuilderCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(LRUBuilderCache.class);
+
+    static final int MAX_ENTRIES = 20;
 
     private IOService ioService;
 
@@ -69,6 +92,22 @@ public class LRUBuilderCache extends LRUCache<Project, Builder > {
 
     private final List<Predicate<String>> classFilters = new ArrayList<>();
 
+    private final ConcurrentMap<Project, BuilderEntry> entries = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<GAV, Project> projectsByGAV = new ConcurrentHashMap<>();
+
+    private final AtomicLong accessClock = new AtomicLong();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder buildTimeNanos = new LongAdder();
+
     public LRUBuilderCache() {
         //CDI proxy
     }
@@ -106,7 +145,7 @@ public class LRUBuilderCache extends LRUCache<Project, Builder > {
         classFilters.forEach(filter -> classFilterBeans.destroy(filter));
     }
 
-    public synchronized void invalidateProjectCache(@Observes final InvalidateDMOProjectCacheEvent event) {
+    public void invalidateProjectCache(@Observes final InvalidateDMOProjectCacheEvent event) {
         PortablePreconditions.checkNotNull("event",
                                            event);
         final Project project = event.getProject();
@@ -117,45 +156,233 @@ public class LRUBuilderCache extends LRUCache<Project, Builder > {
         }
     }
 
-    public synchronized Builder assertBuilder(POM pom)
+    public Builder assertBuilder(final POM pom)
             throws NoBuilderFoundException {
-        for (Project project : getKeys()) {
-            if (project.getPom().getGav().equals(pom.getGav())) {
-                return makeBuilder(project);
-            }
+        final Project project = pom.getGav() == null ? null : projectsByGAV.get(pom.getGav());
+        if (project == null) {
+            throw new NoBuilderFoundException();
         }
-        throw new NoBuilderFoundException();
+        return makeBuilder(project);
     }
 
-    public synchronized Builder assertBuilder(final Project project) {
+    public Builder assertBuilder(final Project project) {
         return makeBuilder(project);
     }
 
-    public synchronized Builder getBuilder(final Project project) {
-        return getEntry(project);
+    /**
+     * Returns the cached Builder for the Project, or null if none exists. If the Builder is being constructed by
+     * another thread this waits for the construction to complete.
+     */
+    public Builder getBuilder(final Project project) {
+        final BuilderEntry entry = entries.get(project);
+        if (entry == null) {
+            return null;
+        }
+        entry.touch(accessClock.incrementAndGet());
+        return await(project,
+                     entry);
+    }
+
+    public Builder getEntry(final Project project) {
+        return getBuilder(project);
+    }
+
+    public void setEntry(final Project project,
+                         final Builder builder) {
+        final BuilderEntry entry = new BuilderEntry(gavOf(project),
+                                                    new FutureTask<>(() -> builder));
+        entry.future.run();
+        entry.touch(accessClock.incrementAndGet());
+        final BuilderEntry previous = entries.put(project,
+                                                  entry);
+        unindex(project,
+                previous);
+        index(project,
+              entry);
+        evictIfNecessary();
+    }
+
+    public void invalidateCache(final Project project) {
+        final BuilderEntry removed = entries.remove(project);
+        unindex(project,
+                removed);
+    }
+
+    public void invalidateCache() {
+        entries.clear();
+        projectsByGAV.clear();
+    }
+
+    public Set<Project> getKeys() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
     }
 
-    private Builder makeBuilder(Project project) {
-        Builder builder = getEntry(project);
-        if (builder == null) {
-            builder = new Builder(project,
-                                  ioService,
-                                  projectService,
-                                  importsService,
-                                  buildValidationHelpers,
-                                  dependenciesClassLoaderCache,
-                                  pomModelCache,
-                                  packageNameWhiteListService,
-                                  createSingleClassFilterPredicate());
+    /**
+     * Total time spent constructing Builders, i.e. loading Project resources into a new KieFileSystem.
+     */
+    public long getBuilderConstructionTime(final TimeUnit unit) {
+        return unit.convert(buildTimeNanos.sum(),
+                            TimeUnit.NANOSECONDS);
+    }
 
-            setEntry(project,
-                     builder);
+    private Builder makeBuilder(final Project project) {
+        BuilderEntry entry = entries.get(project);
+        if (entry == null) {
+            final BuilderEntry newEntry = new BuilderEntry(gavOf(project),
+                                                           new FutureTask<>(() -> constructBuilder(project)));
+            entry = entries.putIfAbsent(project,
+                                        newEntry);
+            if (entry == null) {
+                //This thread won the race; construct the Builder outside of any shared lock
+                misses.increment();
+                entry = newEntry;
+                entry.touch(accessClock.incrementAndGet());
+                index(project,
+                      entry);
+                entry.future.run();
+                evictIfNecessary();
+                return await(project,
+                             entry);
+            }
         }
-        return builder;
+        hits.increment();
+        entry.touch(accessClock.incrementAndGet());
+        return await(project,
+                     entry);
+    }
+
+    private Builder constructBuilder(final Project project) {
+        final long start = System.nanoTime();
+        try {
+            return newBuilder(project);
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            buildTimeNanos.add(elapsed);
+            logger.debug("Builder for project '{}' constructed in {} ms.",
+                         project.getProjectName(),
+                         TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    protected Builder newBuilder(final Project project) {
+        return new Builder(project,
+                           ioService,
+                           projectService,
+                           importsService,
+                           buildValidationHelpers,
+                           dependenciesClassLoaderCache,
+                           pomModelCache,
+                           packageNameWhiteListService,
+                           createSingleClassFilterPredicate());
+    }
+
+    private Builder await(final Project project,
+                          final BuilderEntry entry) {
+        try {
+            return entry.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Builder of project '" + project.getProjectName() + "'.",
+                                            e);
+        } catch (ExecutionException e) {
+            //Don't cache failures; the next caller will retry the construction
+            if (entries.remove(project,
+                               entry)) {
+                unindex(project,
+                        entry);
+            }
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private void evictIfNecessary() {
+        //Only one thread needs to evict; others carry on without waiting
+        if (entries.size() <= MAX_ENTRIES || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            while (entries.size() > MAX_ENTRIES) {
+                Map.Entry<Project, BuilderEntry> eldest = null;
+                for (Map.Entry<Project, BuilderEntry> e : entries.entrySet()) {
+                    if (eldest == null || e.getValue().lastAccess < eldest.getValue().lastAccess) {
+                        eldest = e;
+                    }
+                }
+                if (eldest == null) {
+                    return;
+                }
+                if (entries.remove(eldest.getKey(),
+                                   eldest.getValue())) {
+                    unindex(eldest.getKey(),
+                            eldest.getValue());
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void index(final Project project,
+                       final BuilderEntry entry) {
+        if (entry.gav != null) {
+            projectsByGAV.put(entry.gav,
+                              project);
+        }
+    }
+
+    private void unindex(final Project project,
+                         final BuilderEntry entry) {
+        if (entry != null && entry.gav != null) {
+            projectsByGAV.remove(entry.gav,
+                                 project);
+        }
+    }
+
+    private GAV gavOf(final Project project) {
+        final POM pom = project.getPom();
+        return pom == null ? null : pom.getGav();
     }
 
     private Predicate<String> createSingleClassFilterPredicate() {
         return classFilters.stream().reduce(o -> true,
                                             (p1, p2) -> p1.and(p2));
     }
+
+    private static class BuilderEntry {
+
+        private final GAV gav;
+
+        private final FutureTask<Builder> future;
+
+        private volatile long lastAccess;
+
+        private BuilderEntry(final GAV gav,
+                             final FutureTask<Builder> future) {
+            this.gav = gav;
+            this.future = future;
+        }
+
+        private void touch(final long tick) {
+            this.lastAccess = tick;
+        }
+    }
 }
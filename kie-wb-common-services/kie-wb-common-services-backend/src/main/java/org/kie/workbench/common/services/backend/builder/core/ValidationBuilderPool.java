@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
+import org.guvnor.common.services.project.model.Project;
+import org.uberfire.commons.validation.PortablePreconditions;
+import org.uberfire.java.nio.file.Path;
+
+/**
+ * A pool of warm Builder clones used to validate single resources. A validation changes only the validated
+ * resource in its clone, so a released clone can be re-used for the next validation of the same Project by
+ * reverting that resource, instead of cloning the Project's Builder again. Clones are discarded once the Builder they
+ * were taken from is built again. Clones are kept for the most recently validated Projects only, since each clone
+ * also holds on to the Builder it was taken from.
+ */
+@ApplicationScoped
+public class ValidationBuilderPool {
+
+    static final int MAX_IDLE_BUILDERS_PER_PROJECT = 2;
+
+    static final int MAX_POOLED_PROJECTS = 10;
+
+    private final Map<Project, Deque<Builder>> idleBuilders = Collections.synchronizedMap(new LinkedHashMap<Project, Deque<Builder>>(MAX_POOLED_PROJECTS + 1,
+                                                                                                                                    0.75f,
+                                                                                                                                    true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Project, Deque<Builder>> eldest) {
+            return size() > MAX_POOLED_PROJECTS;
+        }
+    });
+
+    /**
+     * Gets a Builder, cloned from the given one, that the caller can use exclusively to validate the given resource.
+     * The Builder should be returned with {@link #release(Project, Builder)} once the validation completes.
+     */
+    public Builder borrow(final Project project,
+                          final Builder builder,
+                          final Path resource) {
+        final Deque<Builder> idle = idleBuilders.get(project);
+        if (idle != null) {
+            Builder clone;
+            while ((clone = idle.pollFirst()) != null) {
+                if (clone.isUpToDateCloneOf(builder) && clone.revertChangesExcept(resource)) {
+                    return clone;
+                }
+            }
+        }
+        return builder.clone();
+    }
+
+    public void release(final Project project,
+                        final Builder clone) {
+        //Clones of a Builder that has been built since can no longer be reverted
+        if (!clone.isUpToDateClone()) {
+            return;
+        }
+        final Deque<Builder> idle = idleBuilders.computeIfAbsent(project,
+                                                                 p -> new ConcurrentLinkedDeque<>());
+        idle.removeIf(b -> !b.isUpToDateClone());
+        if (idle.size() < MAX_IDLE_BUILDERS_PER_PROJECT) {
+            idle.offerFirst(clone);
+        }
+    }
+
+    int getPooledProjectsCount() {
+        return idleBuilders.size();
+    }
+
+    public void invalidateProjectCache(@Observes final InvalidateDMOProjectCacheEvent event) {
+        PortablePreconditions.checkNotNull("event",
+                                           event);
+        final Project project = event.getProject();
+
+        //If resource was not within a Project there's nothing to invalidate
+        if (project != null) {
+            idleBuilders.remove(project);
+        }
+    }
+}
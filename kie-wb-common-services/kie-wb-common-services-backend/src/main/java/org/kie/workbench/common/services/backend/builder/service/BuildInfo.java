@@ -21,6 +21,7 @@ import org.kie.api.builder.KieModule;
 import org.kie.api.runtime.KieContainer;
 import org.kie.internal.builder.InternalKieBuilder;
 import org.kie.scanner.KieModuleMetaData;
+import org.kie.workbench.common.services.backend.builder.core.BuildSnapshot;
 import org.kie.workbench.common.services.backend.builder.core.TypeSourceResolver;
 
 /**
@@ -61,4 +62,11 @@ public interface BuildInfo {
      */
     KieContainer getKieContainer();
 
+    /**
+     * @return the result of the last completed build for the underlying project. It can be used without waiting for
+     * builds in progress.
+     * @see BuildSnapshot
+     */
+    BuildSnapshot getBuildSnapshot();
+
 }
\ No newline at end of file
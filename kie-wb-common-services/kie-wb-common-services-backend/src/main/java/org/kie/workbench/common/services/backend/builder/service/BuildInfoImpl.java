@@ -19,6 +19,7 @@ package org.kie.workbench.common.services.backend.builder.service;
 import org.kie.api.builder.KieModule;
 import org.kie.api.runtime.KieContainer;
 import org.kie.scanner.KieModuleMetaData;
+import org.kie.workbench.common.services.backend.builder.core.BuildSnapshot;
 import org.kie.workbench.common.services.backend.builder.core.Builder;
 import org.kie.workbench.common.services.backend.builder.core.TypeSourceResolver;
 
@@ -38,12 +39,12 @@ public class BuildInfoImpl
 
     @Override
     public KieModule getKieModuleIgnoringErrors( ) {
-        return builder.getKieModuleIgnoringErrors();
+        return builder.getBuildSnapshot().getKieModuleIgnoringErrors();
     }
 
     @Override
     public KieModuleMetaData getKieModuleMetaDataIgnoringErrors( ) {
-        return builder.getKieModuleMetaDataIgnoringErrors();
+        return builder.getBuildSnapshot().getKieModuleMetaDataIgnoringErrors();
     }
 
     @Override
@@ -56,6 +57,11 @@ public class BuildInfoImpl
         return builder.getKieContainer();
     }
 
+    @Override
+    public BuildSnapshot getBuildSnapshot( ) {
+        return builder.getBuildSnapshot();
+    }
+
     public Builder getBuilder() {
         return builder;
     }
@@ -14,17 +14,18 @@
 */
 package org.kie.workbench.common.services.backend.dependencies;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
 
 import org.eclipse.aether.artifact.Artifact;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
@@ -33,6 +34,7 @@ import org.guvnor.common.services.project.model.GAV;
 import org.guvnor.common.services.project.model.Repository;
 import org.jboss.errai.bus.server.annotations.Service;
 import org.kie.scanner.MavenRepository;
+import org.kie.workbench.common.services.backend.helpers.ParallelTaskExecutor;
 import org.kie.workbench.common.services.shared.dependencies.DependencyService;
 import org.kie.workbench.common.services.shared.dependencies.EnhancedDependencies;
 import org.kie.workbench.common.services.shared.dependencies.NormalEnhancedDependency;
@@ -45,7 +47,25 @@ import static org.kie.workbench.common.services.backend.dependencies.DependencyT
 public class DependencyServiceImpl
         implements DependencyService {
 
+    private final PackageNamesIndex packageNamesIndex;
+
+    private final ParallelTaskExecutor parallelTaskExecutor;
+
     public DependencyServiceImpl() {
+        this( new PackageNamesIndex(),
+              null );
+    }
+
+    @Inject
+    public DependencyServiceImpl( final ParallelTaskExecutor parallelTaskExecutor ) {
+        this( new PackageNamesIndex(),
+              parallelTaskExecutor );
+    }
+
+    DependencyServiceImpl( final PackageNamesIndex packageNamesIndex,
+                           final ParallelTaskExecutor parallelTaskExecutor ) {
+        this.packageNamesIndex = packageNamesIndex;
+        this.parallelTaskExecutor = parallelTaskExecutor;
     }
 
     @Override
@@ -69,61 +89,91 @@ public class DependencyServiceImpl
         final Artifact artifact = getMavenRepository().resolveArtifact( gav.toString() );
 
         if ( artifact != null ) {
-            return stripPackageNamesFromJar( artifact.getFile() );
+            return packageNamesIndex.getPackageNames( gav.toString(),
+                                                      artifact.getFile() );
         } else {
             return new HashSet<>();
         }
     }
 
+    /**
+     * Resolves the artifacts of the dependencies and of their transitive dependencies, in parallel when there is a
+     * {@link ParallelTaskExecutor}. Each distinct GAV is resolved only once, so two threads never resolve, or download,
+     * the same artifact at the same time.
+     */
     @Override
-    public EnhancedDependencies loadEnhancedDependencies( final Collection<Dependency> dependencies) {
-        EnhancedDependencies result = new EnhancedDependencies();
+    public EnhancedDependencies loadEnhancedDependencies( final Collection<Dependency> dependencies ) {
+        final Map<String, Dependency> uniqueDependencies = unique( dependencies,
+                                                                   new LinkedHashMap<String, Dependency>() );
+        final Map<String, Collection<Dependency>> transitiveDependencies = inParallel( uniqueDependencies,
+                                                                                       this::loadDependencies );
+
+        final Map<String, Dependency> allDependencies = new LinkedHashMap<String, Dependency>( uniqueDependencies );
+        for ( final Collection<Dependency> dependencyTransitiveDependencies : transitiveDependencies.values() ) {
+            unique( dependencyTransitiveDependencies,
+                    allDependencies );
+        }
+        final Map<String, Set<String>> packageNames = inParallel( allDependencies,
+                                                                  this::loadPackageNames );
 
+        final EnhancedDependencies result = new EnhancedDependencies();
         for ( final Dependency dependency : dependencies ) {
-            result.add( getEnhancedDependency( dependency ) );
+            final NormalEnhancedDependency enhancedDependency = new NormalEnhancedDependency( dependency,
+                                                                                              new HashSet<String>( packageNames.get( dependency.toString() ) ) );
+            for ( final Dependency transitiveDependency : transitiveDependencies.get( dependency.toString() ) ) {
+                enhancedDependency.addTransitiveDependency( new TransitiveEnhancedDependency( transitiveDependency,
+                                                                                              new HashSet<String>( packageNames.get( transitiveDependency.toString() ) ) ) );
+            }
+            result.add( enhancedDependency );
         }
 
         return result;
     }
 
-    private NormalEnhancedDependency getEnhancedDependency( final Dependency dependency ) {
-        final NormalEnhancedDependency enhancedDependency = new NormalEnhancedDependency( dependency,
-                                                                                          loadPackageNames( dependency ) );
-
-        for ( Dependency transitiveDependency : loadDependencies( dependency ) ) {
-            enhancedDependency.addTransitiveDependency( new TransitiveEnhancedDependency( transitiveDependency,
-                                                                                          loadPackageNames( transitiveDependency ) ) );
+    /**
+     * Adds the dependencies to the map, keyed by their GAV, unless the map already holds a dependency with that GAV.
+     */
+    private static Map<String, Dependency> unique( final Collection<Dependency> dependencies,
+                                                   final Map<String, Dependency> uniqueDependencies ) {
+        for ( final Dependency dependency : dependencies ) {
+            uniqueDependencies.putIfAbsent( dependency.toString(),
+                                            dependency );
         }
-
-        return enhancedDependency;
+        return uniqueDependencies;
     }
 
-    private Set<String> stripPackageNamesFromJar( final File file ) {
-        final Set<String> packageNames = new HashSet<String>();
-        ZipFile zipFile = null;
-        try {
-            zipFile = new ZipFile( file );
-            final Enumeration<? extends ZipEntry> entries = zipFile.entries();
-            while (entries.hasMoreElements()) {
-                String pathName = entries.nextElement().getName();
-
-                if ( pathName.endsWith( ".class" ) ) {
-                    String fqcn = pathName.replace( '/', '.' ).substring( 0, pathName.lastIndexOf( '.' ) );
-                    packageNames.add( fqcn.substring( 0, fqcn.lastIndexOf( '.' ) ) );
-                }
-            }
-        } catch (IOException e) {
-            throw ExceptionUtilities.handleException( e );
-        } finally {
-            if ( zipFile != null ) {
-                try {
-                    zipFile.close();
-                } catch (IOException e) {
-                    throw ExceptionUtilities.handleException( e );
+    /**
+     * Applies the function to each dependency on the parallel task executor, if any.
+     * @return The results, keyed as the dependencies.
+     */
+    private <R> Map<String, R> inParallel( final Map<String, Dependency> dependencies,
+                                           final Function<Dependency, R> function ) {
+        final List<Dependency> items = new ArrayList<Dependency>( dependencies.values() );
+        final List<R> results;
+        if ( parallelTaskExecutor == null ) {
+            results = items.stream().map( function ).collect( Collectors.toList() );
+        } else {
+            try {
+                results = parallelTaskExecutor.map( items,
+                                                    function );
+            } catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                throw ExceptionUtilities.handleException( e );
+            } catch ( ExecutionException e ) {
+                if ( e.getCause() instanceof RuntimeException ) {
+                    throw (RuntimeException) e.getCause();
                 }
+                throw ExceptionUtilities.handleException( e );
             }
         }
-        return packageNames;
+
+        final Map<String, R> resultsByGav = new LinkedHashMap<String, R>();
+        int i = 0;
+        for ( final String gav : dependencies.keySet() ) {
+            resultsByGav.put( gav,
+                              results.get( i++ ) );
+        }
+        return resultsByGav;
     }
 
     protected MavenRepository getMavenRepository() {
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.dependencies;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the package names contained in artifact jars. Entries are keyed by the artifact's GAV and checksum, so
+ * they never need invalidating: a changed jar simply gets a new key. The checksum is read from the ".sha1" file Maven
+ * stores next to the jar, falling back to the jar's size and modification time. Package names are kept on disk, in
+ * one file per entry, and the most recently used entries are held in memory.
+ * <p>
+ * The index files are kept, by default, in a ".package-names-index" folder next to the workbench's ".niogit" folder,
+ * i.e. in the folder set by the "org.uberfire.nio.git.dir" system property or the working directory.
+ */
+public class PackageNamesIndex {
+
+    public static final String INDEX_DIR_PROPERTY = "org.kie.workbench.dependencies.index.dir";
+
+    static final String GIT_DIR_PROPERTY = "org.uberfire.nio.git.dir";
+
+    static final String DEFAULT_INDEX_DIR_NAME = ".package-names-index";
+
+    static final int MAX_CACHED_ARTIFACTS = 500;
+
+    private static final Logger logger = LoggerFactory.getLogger( PackageNamesIndex.class );
+
+    private static final String INDEX_FILE_SUFFIX = ".packages";
+
+    private final File indexDir;
+
+    private final Map<String, Set<String>> cache = Collections.synchronizedMap( new LinkedHashMap<String, Set<String>>( 16,
+                                                                                                                         0.75f,
+                                                                                                                         true ) {
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String, Set<String>> eldest ) {
+            return size() > MAX_CACHED_ARTIFACTS;
+        }
+    } );
+
+    public PackageNamesIndex() {
+        this( getDefaultIndexDir() );
+    }
+
+    public PackageNamesIndex( final File indexDir ) {
+        this.indexDir = indexDir;
+    }
+
+    /**
+     * @param gav The artifact's GAV.
+     * @param jar The resolved artifact jar.
+     * @return The names of the packages with at least one class in the jar.
+     */
+    public Set<String> getPackageNames( final String gav,
+                                        final File jar ) {
+        final String key = key( gav,
+                                jar );
+        Set<String> packageNames = cache.get( key );
+        if ( packageNames == null ) {
+            packageNames = readIndexFile( key );
+            if ( packageNames == null ) {
+                packageNames = stripPackageNamesFromJar( jar );
+                writeIndexFile( key,
+                                packageNames );
+            }
+            cache.put( key,
+                       packageNames );
+        }
+        return new HashSet<String>( packageNames );
+    }
+
+    static File getDefaultIndexDir() {
+        final String indexDir = System.getProperty( INDEX_DIR_PROPERTY );
+        if ( indexDir != null ) {
+            return new File( indexDir );
+        }
+        return new File( System.getProperty( GIT_DIR_PROPERTY,
+                                             System.getProperty( "user.dir" ) ),
+                         DEFAULT_INDEX_DIR_NAME );
+    }
+
+    int getCachedArtifacts() {
+        return cache.size();
+    }
+
+    static String key( final String gav,
+                       final File jar ) {
+        String checksum = readChecksum( jar );
+        if ( checksum == null ) {
+            checksum = jar.length() + "-" + jar.lastModified();
+        }
+        return sha1( gav + "|" + checksum );
+    }
+
+    private static String readChecksum( final File jar ) {
+        final File checksumFile = new File( jar.getPath() + ".sha1" );
+        if ( !checksumFile.isFile() ) {
+            return null;
+        }
+        try {
+            // Some tools append the file name after the checksum
+            final String[] content = new String( Files.readAllBytes( checksumFile.toPath() ),
+                                                 StandardCharsets.UTF_8 ).trim().split( "\\s+" );
+            return content[ 0 ].matches( "[0-9a-fA-F]{40}" ) ? content[ 0 ].toLowerCase() : null;
+        } catch ( IOException e ) {
+            return null;
+        }
+    }
+
+    private Set<String> readIndexFile( final String key ) {
+        final File indexFile = new File( indexDir,
+                                         key + INDEX_FILE_SUFFIX );
+        if ( !indexFile.isFile() ) {
+            return null;
+        }
+        try {
+            final List<String> lines = Files.readAllLines( indexFile.toPath(),
+                                                           StandardCharsets.UTF_8 );
+            final Set<String> packageNames = new HashSet<String>();
+            for ( String line : lines ) {
+                if ( !line.isEmpty() ) {
+                    packageNames.add( line );
+                }
+            }
+            return packageNames;
+        } catch ( IOException e ) {
+            logger.warn( "Unable to read package names index file '" + indexFile + "'.",
+                         e );
+            return null;
+        }
+    }
+
+    private void writeIndexFile( final String key,
+                                 final Set<String> packageNames ) {
+        File tempFile = null;
+        try {
+            Files.createDirectories( indexDir.toPath() );
+            // Write to a temporary file first, so concurrent readers never see a partial entry
+            tempFile = File.createTempFile( key,
+                                            ".tmp",
+                                            indexDir );
+            Files.write( tempFile.toPath(),
+                         packageNames,
+                         StandardCharsets.UTF_8 );
+            final File indexFile = new File( indexDir,
+                                             key + INDEX_FILE_SUFFIX );
+            try {
+                Files.move( tempFile.toPath(),
+                            indexFile.toPath(),
+                            StandardCopyOption.ATOMIC_MOVE );
+            } catch ( AtomicMoveNotSupportedException e ) {
+                Files.move( tempFile.toPath(),
+                            indexFile.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING );
+            }
+        } catch ( IOException e ) {
+            if ( tempFile != null ) {
+                tempFile.delete();
+            }
+            // The index is only an optimization, the package names are extracted again next time
+            logger.warn( "Unable to write package names index in '" + indexDir + "'.",
+                         e );
+        }
+    }
+
+    private static Set<String> stripPackageNamesFromJar( final File file ) {
+        final Set<String> packageNames = new HashSet<String>();
+        ZipFile zipFile = null;
+        try {
+            zipFile = new ZipFile( file );
+            final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while ( entries.hasMoreElements() ) {
+                String pathName = entries.nextElement().getName();
+
+                if ( pathName.endsWith( ".class" ) ) {
+                    String fqcn = pathName.replace( '/', '.' ).substring( 0, pathName.lastIndexOf( '.' ) );
+                    packageNames.add( fqcn.substring( 0, fqcn.lastIndexOf( '.' ) ) );
+                }
+            }
+        } catch ( IOException e ) {
+            throw ExceptionUtilities.handleException( e );
+        } finally {
+            if ( zipFile != null ) {
+                try {
+                    zipFile.close();
+                } catch ( IOException e ) {
+                    throw ExceptionUtilities.handleException( e );
+                }
+            }
+        }
+        return packageNames;
+    }
+
+    private static String sha1( final String value ) {
+        try {
+            final byte[] digest = MessageDigest.getInstance( "SHA-1" ).digest( value.getBytes( StandardCharsets.UTF_8 ) );
+            final StringBuilder hex = new StringBuilder( digest.length * 2 );
+            for ( byte b : digest ) {
+                hex.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+            }
+            return hex.toString();
+        } catch ( NoSuchAlgorithmException e ) {
+            throw ExceptionUtilities.handleException( e );
+        }
+    }
+}
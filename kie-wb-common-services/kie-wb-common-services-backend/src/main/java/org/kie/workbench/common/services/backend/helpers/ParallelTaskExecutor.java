@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.helpers;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Runs independent tasks, like resolving artifacts or parsing source files, on a bounded pool shared by the whole
+ * application. The pool is created with the bean and shut down when the application stops, so its threads don't
+ * outlive (and keep referencing) the web application. When no pool is available the tasks run on the calling thread.
+ */
+@ApplicationScoped
+public class ParallelTaskExecutor {
+
+    /**
+     * System property to set the number of threads used to run the tasks.
+     */
+    public static final String PARALLELISM_PROPERTY = "org.kie.workbench.parallel.tasks.parallelism";
+
+    private static final int MAX_PARALLELISM = 4;
+
+    private volatile ForkJoinPool pool;
+
+    @PostConstruct
+    public void init() {
+        pool = new ForkJoinPool( Integer.getInteger( PARALLELISM_PROPERTY,
+                                                     Math.min( Runtime.getRuntime().availableProcessors(), MAX_PARALLELISM ) ) );
+    }
+
+    @PreDestroy
+    public void destroy() {
+        final ForkJoinPool pool = this.pool;
+        this.pool = null;
+        if ( pool != null ) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Applies the function to each item, in parallel when there is more than one item. Calls made from a task that is
+     * already running in a fork join pool join the stream of that task rather than waiting on the pool they run in.
+     * @return The results, in the order of the items.
+     * @throws ExecutionException If the function failed for any of the items, with the failure as its cause.
+     */
+    public <T, R> List<R> map( final List<T> items,
+                               final Function<? super T, ? extends R> function ) throws InterruptedException, ExecutionException {
+        final ForkJoinPool pool = this.pool;
+        if ( items.size() < 2 || pool == null ) {
+            return items.stream().<R>map( function ).collect( Collectors.toList() );
+        }
+        if ( ForkJoinTask.inForkJoinPool() ) {
+            return items.parallelStream().<R>map( function ).collect( Collectors.toList() );
+        }
+        return pool.submit( () -> items.parallelStream().<R>map( function ).collect( Collectors.toList() ) ).get();
+    }
+
+}
@@ -44,6 +44,8 @@ public class KieResourceResolver
 
     private KModuleService kModuleService;
 
+    private ProjectResolutionCache resolutionCache;
+
     public KieResourceResolver() {
 
     }
@@ -55,7 +57,8 @@ public class KieResourceResolver
                                 final CommentedOptionFactory commentedOptionFactory,
                                 final BackwardCompatibleUtil backward,
                                 final KModuleService kModuleService,
-                                final Instance<ProjectResourcePathResolver> resourcePathResolversInstance ) {
+                                final Instance<ProjectResourcePathResolver> resourcePathResolversInstance,
+                                final ProjectResolutionCache resolutionCache ) {
         super( ioService,
                pomService,
                configurationService,
@@ -63,6 +66,7 @@ public class KieResourceResolver
                backward,
                resourcePathResolversInstance );
         this.kModuleService = kModuleService;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
@@ -76,15 +80,20 @@ public class KieResourceResolver
             //Check if resource is the project root
             org.uberfire.java.nio.file.Path path = Paths.convert( resource ).normalize();
 
-            //A project root is the folder containing the pom.xml file. This will be the parent of the "src" folder
+            //A project root is the folder containing the pom.xml file. This will be the parent of the "src" folder.
+            //The resource itself is always probed, as it may be a Project root that has just been created.
+            boolean useCache = false;
             if ( Files.isRegularFile( path ) ) {
                 path = path.getParent();
+                useCache = true;
             }
             while ( path.getNameCount() > 0 && !path.getFileName().toString().equals( SOURCE_FILENAME ) ) {
-                if ( hasPom( path ) && hasKModule( path ) ) {
+                if ( isProjectRoot( path,
+                                    useCache ) ) {
                     return makeProject( path );
                 }
                 path = path.getParent();
+                useCache = true;
             }
             if ( path.getNameCount() == 0 ) {
                 return null;
@@ -93,10 +102,8 @@ public class KieResourceResolver
             if ( path.getNameCount() == 0 || path == null ) {
                 return null;
             }
-            if ( !hasPom( path ) ) {
-                return null;
-            }
-            if ( !hasKModule( path ) ) {
+            if ( !isProjectRoot( path,
+                                 true ) ) {
                 return null;
             }
             return makeProject( path );
@@ -106,10 +113,29 @@ public class KieResourceResolver
         }
     }
 
+    private boolean isProjectRoot( final org.uberfire.java.nio.file.Path path,
+                                   final boolean useCache ) {
+        if ( useCache ) {
+            final Boolean projectRoot = resolutionCache.isProjectRoot( path );
+            if ( projectRoot != null ) {
+                return projectRoot;
+            }
+        }
+        final boolean projectRoot = hasPom( path ) && hasKModule( path );
+        resolutionCache.setProjectRoot( path,
+                                        projectRoot );
+        return projectRoot;
+    }
+
     @Override
     protected KieProject makeProject( final org.uberfire.java.nio.file.Path nioProjectRootPath ) {
         final KieProject project = simpleProjectInstance( nioProjectRootPath );
-        final POM pom = pomService.load( project.getPomXMLPath() );
+        POM pom = resolutionCache.getPom( nioProjectRootPath );
+        if ( pom == null ) {
+            pom = pomService.load( project.getPomXMLPath() );
+            resolutionCache.setPom( nioProjectRootPath,
+                                    pom );
+        }
         project.setPom( pom );
 
         addSecurityGroups( project );
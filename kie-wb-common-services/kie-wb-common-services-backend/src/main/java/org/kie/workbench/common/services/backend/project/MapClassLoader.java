@@ -23,9 +23,12 @@ import java.net.URL;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Class taken from drools utility classes. (ClassUtils)
@@ -35,6 +38,9 @@ public class MapClassLoader extends ClassLoader {
     private static final ProtectionDomain PROTECTION_DOMAIN;
 
     static {
+        //Instances are cached and shared between threads, see ProjectClassLoaderHelper
+        registerAsParallelCapable();
+
         PROTECTION_DOMAIN = (ProtectionDomain) AccessController.doPrivileged( new PrivilegedAction() {
 
             public Object run() {
@@ -46,6 +52,8 @@ public class MapClassLoader extends ClassLoader {
 
     private Map<String, byte[]> map;
 
+    private final AtomicInteger definedClasses = new AtomicInteger();
+
     public MapClassLoader( Map<String, byte[]> map, ClassLoader parent ) {
         super( parent );
         this.map = map;
@@ -53,17 +61,19 @@ public class MapClassLoader extends ClassLoader {
 
     public Class<?> loadClass( final String name,
             final boolean resolve ) throws ClassNotFoundException {
-        Class<?> cls = fastFindClass( name );
+        synchronized ( getClassLoadingLock( name ) ) {
+            Class<?> cls = fastFindClass( name );
 
-        if ( cls == null ) {
-            cls = super.loadClass( name, resolve );
-        }
+            if ( cls == null ) {
+                cls = super.loadClass( name, resolve );
+            }
 
-        if ( cls == null ) {
-            throw new ClassNotFoundException( "Unable to load class: " + name );
-        }
+            if ( cls == null ) {
+                throw new ClassNotFoundException( "Unable to load class: " + name );
+            }
 
-        return cls;
+            return cls;
+        }
     }
 
     public Class<?> fastFindClass( final String name ) {
@@ -91,6 +101,7 @@ public class MapClassLoader extends ClassLoader {
                         0,
                         clazzBytes.length,
                         PROTECTION_DOMAIN );
+                definedClasses.incrementAndGet();
             }
 
             if ( cls != null ) {
@@ -126,6 +137,20 @@ public class MapClassLoader extends ClassLoader {
         };
     }
 
+    /**
+     * @return the number of classes defined by this class loader so far.
+     */
+    public int getDefinedClassesCount() {
+        return definedClasses.get();
+    }
+
+    /**
+     * @return the resource paths (e.g. "org/test/Pojo.class") of the classes this class loader can define.
+     */
+    public Set<String> getResourcePaths() {
+        return Collections.unmodifiableSet( map.keySet() );
+    }
+
     public static String convertClassToResourcePath(final String pName) {
         return pName.replace( '.',
                 '/' ) + ".class";
@@ -15,23 +15,39 @@
  */
 package org.kie.workbench.common.services.backend.project;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
+import org.guvnor.common.services.project.model.Project;
 import org.kie.api.builder.KieModule;
 import org.kie.scanner.KieModuleMetaData;
+import org.kie.workbench.common.services.backend.builder.core.BuildSnapshot;
 import org.kie.workbench.common.services.backend.builder.service.BuildInfoService;
 import org.kie.workbench.common.services.backend.builder.core.LRUProjectDependenciesClassLoaderCache;
 import org.kie.workbench.common.services.shared.project.KieProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.commons.validation.PortablePreconditions;
 
 /**
- *
+ * Provides the ClassLoader for a Project's own classes. ClassLoaders are cached per Project and class path, so the
+ * Project classes are only defined again once a build has changed them.
  */
 @ApplicationScoped
 public class ProjectClassLoaderHelper {
 
+    private static final Logger logger = LoggerFactory.getLogger( ProjectClassLoaderHelper.class );
+
+    static final int MAX_CACHED_CLASS_LOADERS = 20;
+
     @Inject
     private BuildInfoService buildInfoService;
 
@@ -39,9 +55,61 @@ public class ProjectClassLoaderHelper {
     @Named("LRUProjectDependenciesClassLoaderCache")
     private LRUProjectDependenciesClassLoaderCache dependenciesClassLoaderCache;
 
+    private final Map<Path, CachedClassLoader> classLoaders = new LinkedHashMap<Path, CachedClassLoader>( MAX_CACHED_CLASS_LOADERS + 1,
+                                                                                                          0.75f,
+                                                                                                          true ) {
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<Path, CachedClassLoader> eldest ) {
+            if ( size() > MAX_CACHED_CLASS_LOADERS ) {
+                release( eldest.getValue() );
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder releasedDefinedClasses = new LongAdder();
+
     public ClassLoader getProjectClassLoader( KieProject project ) {
+        final BuildSnapshot snapshot = buildInfoService.getBuildInfo( project ).getBuildSnapshot();
+        final Path rootPath = project.getRootPath();
+
+        synchronized ( classLoaders ) {
+            final CachedClassLoader cached = classLoaders.get( rootPath );
+            if ( cached != null && cached.snapshot == snapshot ) {
+                hits.increment();
+                return cached.classLoader;
+            }
+            if ( cached != null && cached.snapshot.hasSameClassPath( snapshot ) ) {
+                //Keep the ClassLoader, but let go of the older snapshot
+                hits.increment();
+                classLoaders.put( rootPath,
+                                  new CachedClassLoader( snapshot,
+                                                         cached.classLoader ) );
+                return cached.classLoader;
+            }
+        }
+
+        //Build outside of the lock; the Project classes map can be large
+        misses.increment();
+        final ClassLoader projectClassLoader = buildProjectClassLoader( project,
+                                                                        snapshot.getKieModuleIgnoringErrors() );
+        logger.debug( "Project ClassLoader for '{}' created for build version {}.",
+                      project.getProjectName(),
+                      snapshot.getVersion() );
 
-        final KieModule module = buildInfoService.getBuildInfo( project ).getKieModuleIgnoringErrors();
+        synchronized ( classLoaders ) {
+            release( classLoaders.put( rootPath,
+                                       new CachedClassLoader( snapshot,
+                                                              projectClassLoader ) ) );
+        }
+        return projectClassLoader;
+    }
+
+    private ClassLoader buildProjectClassLoader( final KieProject project,
+                                                 final KieModule module ) {
         ClassLoader dependenciesClassLoader = dependenciesClassLoaderCache.assertDependenciesClassLoader( project );
         ClassLoader projectClassLoader;
         if ( module instanceof InternalKieModule ) {
@@ -54,4 +122,59 @@ public class ProjectClassLoaderHelper {
         return projectClassLoader;
     }
 
-}
\ No newline at end of file
+    public void invalidateProjectCache( @Observes final InvalidateDMOProjectCacheEvent event ) {
+        PortablePreconditions.checkNotNull( "event",
+                                            event );
+        final Project project = event.getProject();
+
+        //If resource was not within a Project there's nothing to invalidate
+        if ( project != null ) {
+            synchronized ( classLoaders ) {
+                release( classLoaders.remove( project.getRootPath() ) );
+            }
+        }
+    }
+
+    public long getClassLoaderCacheHits() {
+        return hits.sum();
+    }
+
+    public long getClassLoaderCacheMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of Project classes defined by the ClassLoaders created so far.
+     */
+    public long getDefinedClassesCount() {
+        long count = releasedDefinedClasses.sum();
+        synchronized ( classLoaders ) {
+            for ( CachedClassLoader cached : classLoaders.values() ) {
+                count += definedClasses( cached );
+            }
+        }
+        return count;
+    }
+
+    private void release( final CachedClassLoader cached ) {
+        if ( cached != null ) {
+            releasedDefinedClasses.add( definedClasses( cached ) );
+        }
+    }
+
+    private static int definedClasses( final CachedClassLoader cached ) {
+        return cached.classLoader instanceof MapClassLoader ? ( (MapClassLoader) cached.classLoader ).getDefinedClassesCount() : 0;
+    }
+
+    private static class CachedClassLoader {
+
+        private final BuildSnapshot snapshot;
+        private final ClassLoader classLoader;
+
+        private CachedClassLoader( final BuildSnapshot snapshot,
+                                   final ClassLoader classLoader ) {
+            this.snapshot = snapshot;
+            this.classLoader = classLoader;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.project;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.guvnor.common.services.project.model.POM;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceCopiedEvent;
+import org.uberfire.workbench.events.ResourceDeleted;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.guvnor.common.services.project.utils.ProjectResourcePaths.*;
+import static org.kie.workbench.common.services.backend.project.KieProjectResourcePaths.*;
+
+/**
+ * Caches the outcome of the VFS probes made by {@link KieResourceResolver} to find Project roots, together with the
+ * parsed pom.xml of each Project root. Folders are held in a trie keyed by URI segments, so the folders of a deleted
+ * or renamed sub-tree can be dropped at once. Entries are invalidated by resource change events on pom.xml and
+ * kmodule.xml files. The cache is cleared once more than {@link #MAX_CACHED_FOLDERS} folders have been probed.
+ */
+@ApplicationScoped
+public class ProjectResolutionCache {
+
+    static final int MAX_CACHED_FOLDERS = 10000;
+
+    private final Node root = new Node();
+
+    //Counts probes recorded since the cache was last cleared; invalidations do not decrease it
+    private final AtomicInteger cachedFolders = new AtomicInteger();
+
+    /**
+     * @return true if the folder is known to be a Project root, false if it is known not to be one or null if the
+     * folder has not been probed yet.
+     */
+    public Boolean isProjectRoot( final org.uberfire.java.nio.file.Path folder ) {
+        final Node node = find( segments( folder.toUri().toString() ) );
+        return node == null ? null : node.projectRoot;
+    }
+
+    public void setProjectRoot( final org.uberfire.java.nio.file.Path folder,
+                                final boolean projectRoot ) {
+        if ( cachedFolders.incrementAndGet() > MAX_CACHED_FOLDERS ) {
+            invalidateAll();
+            cachedFolders.incrementAndGet();
+        }
+        final Node node = findOrCreate( segments( folder.toUri().toString() ) );
+        node.projectRoot = projectRoot;
+        if ( !projectRoot ) {
+            node.pom = null;
+        }
+    }
+
+    /**
+     * @return the cached POM. It is shared by every Project resolved from the root, so it must not be changed; the
+     * POM editor loads its own copy through {@link org.guvnor.common.services.project.service.POMService}.
+     */
+    public POM getPom( final org.uberfire.java.nio.file.Path projectRoot ) {
+        final Node node = find( segments( projectRoot.toUri().toString() ) );
+        return node == null ? null : node.pom;
+    }
+
+    public void setPom( final org.uberfire.java.nio.file.Path projectRoot,
+                        final POM pom ) {
+        findOrCreate( segments( projectRoot.toUri().toString() ) ).pom = pom;
+    }
+
+    public void invalidateAll() {
+        root.children.clear();
+        cachedFolders.set( 0 );
+    }
+
+    int getCachedFolders() {
+        return cachedFolders.get();
+    }
+
+    public void onResourceAdded( @Observes final ResourceAddedEvent event ) {
+        onChange( event.getPath() );
+    }
+
+    public void onResourceUpdated( @Observes final ResourceUpdatedEvent event ) {
+        onChange( event.getPath() );
+    }
+
+    public void onResourceDeleted( @Observes final ResourceDeletedEvent event ) {
+        onDelete( event.getPath() );
+    }
+
+    public void onResourceRenamed( @Observes final ResourceRenamedEvent event ) {
+        onDelete( event.getPath() );
+        onChange( event.getDestinationPath() );
+    }
+
+    public void onResourceCopied( @Observes final ResourceCopiedEvent event ) {
+        onChange( event.getDestinationPath() );
+    }
+
+    public void onBatchResourceChanges( @Observes final ResourceBatchChangesEvent event ) {
+        for ( final Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet() ) {
+            for ( final ResourceChange change : entry.getValue() ) {
+                if ( change instanceof ResourceRenamed ) {
+                    onDelete( entry.getKey() );
+                    onChange( ( (ResourceRenamed) change ).getDestinationPath() );
+                } else if ( change instanceof ResourceDeleted ) {
+                    onDelete( entry.getKey() );
+                } else {
+                    onChange( entry.getKey() );
+                }
+            }
+        }
+    }
+
+    private void onChange( final Path path ) {
+        if ( path == null ) {
+            return;
+        }
+        final String projectRootUri = projectRootUri( path.toURI() );
+        if ( projectRootUri != null ) {
+            remove( segments( projectRootUri ),
+                    false );
+        }
+    }
+
+    private void onDelete( final Path path ) {
+        if ( path == null ) {
+            return;
+        }
+        onChange( path );
+        //The deleted Path may have been a folder; drop anything cached below it
+        remove( segments( path.toURI() ),
+                true );
+    }
+
+    /**
+     * @return the URI of the Project root affected by a change of the given pom.xml or kmodule.xml, or null if the
+     * URI does not refer to either.
+     */
+    static String projectRootUri( final String uri ) {
+        if ( uri.endsWith( "/" + KMODULE_PATH ) ) {
+            return uri.substring( 0,
+                                  uri.length() - KMODULE_PATH.length() - 1 );
+        }
+        if ( uri.endsWith( "/" + POM_PATH ) ) {
+            return uri.substring( 0,
+                                  uri.length() - POM_PATH.length() - 1 );
+        }
+        return null;
+    }
+
+    static String[] segments( final String uri ) {
+        final String trimmed = uri.endsWith( "/" ) ? uri.substring( 0,
+                                                                    uri.length() - 1 ) : uri;
+        return trimmed.split( "/" );
+    }
+
+    private Node find( final String[] segments ) {
+        Node node = root;
+        for ( String segment : segments ) {
+            node = node.children.get( segment );
+            if ( node == null ) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private Node findOrCreate( final String[] segments ) {
+        Node node = root;
+        for ( String segment : segments ) {
+            node = node.children.computeIfAbsent( segment,
+                                                  s -> new Node() );
+        }
+        return node;
+    }
+
+    private void remove( final String[] segments,
+                         final boolean subTree ) {
+        final Node node = find( segments );
+        if ( node == null ) {
+            return;
+        }
+        node.projectRoot = null;
+        node.pom = null;
+        if ( subTree ) {
+            node.children.clear();
+        }
+    }
+
+    private static class Node {
+
+        private final ConcurrentMap<String, Node> children = new ConcurrentHashMap<>();
+
+        private volatile Boolean projectRoot;
+
+        private volatile POM pom;
+    }
+}
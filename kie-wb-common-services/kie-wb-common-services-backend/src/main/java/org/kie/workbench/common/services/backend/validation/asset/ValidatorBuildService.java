@@ -36,6 +36,7 @@ import org.kie.workbench.common.services.backend.builder.service.BuildInfoImpl;
 import org.kie.workbench.common.services.backend.builder.service.BuildInfoService;
 import org.kie.workbench.common.services.backend.builder.core.Builder;
 import org.kie.workbench.common.services.backend.builder.core.LRUBuilderCache;
+import org.kie.workbench.common.services.backend.builder.core.ValidationBuilderPool;
 import org.kie.workbench.common.services.shared.project.KieProjectService;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
@@ -50,6 +51,7 @@ public class ValidatorBuildService {
     private LRUBuilderCache builderCache;
     private KieProjectService projectService;
     private BuildInfoService buildInfoService;
+    private ValidationBuilderPool validationBuilderPool;
 
     public ValidatorBuildService() {
         //CDI proxies
@@ -59,11 +61,13 @@ public class ValidatorBuildService {
     public ValidatorBuildService( final @Named("ioStrategy") IOService ioService,
                                   final LRUBuilderCache builderCache,
                                   final KieProjectService projectService,
-                                  final BuildInfoService buildInfoService ) {
+                                  final BuildInfoService buildInfoService,
+                                  final ValidationBuilderPool validationBuilderPool ) {
         this.ioService = ioService;
         this.builderCache = builderCache;
         this.projectService = projectService;
         this.buildInfoService = buildInfoService;
+        this.validationBuilderPool = validationBuilderPool;
     }
 
     public List<ValidationMessage> validate( final Path resourcePath,
@@ -127,7 +131,10 @@ public class ValidatorBuildService {
         if ( isIncrementalBuildPossible( resourcePath ) ) {
             //Build the Builder from the cache so it's "built" state can be preserved for re-use
             BuildInfo buildInfo = buildInfoService.getBuildInfo( project );
-            final Builder clone = ( ( BuildInfoImpl ) buildInfo ).getBuilder().clone();
+            //Re-use a warm clone when available; it only differs from the Builder in previously validated resources
+            final Builder clone = validationBuilderPool.borrow( project,
+                                                                ( ( BuildInfoImpl ) buildInfo ).getBuilder(),
+                                                                nioResourcePath );
             //First delete resource otherwise if the resource already had errors following builder.build()
             //the incremental compilation will not report any additional errors and the resource will be
             //considered valid.
@@ -137,6 +144,9 @@ public class ValidatorBuildService {
                                                                                           inputStream );
             resultBuilder.add( incrementalBuildResults.getAddedMessages() );
 
+            validationBuilderPool.release( project,
+                                           clone );
+
         } else {
             Builder builder = builderCache.assertBuilder( project( resourcePath ) );
             final Builder clone = builder.clone();
@@ -20,13 +20,17 @@ import java.io.File;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import com.google.common.io.Resources;
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
 import org.drools.core.rule.TypeMetaInfo;
 import org.guvnor.common.services.project.builder.model.BuildMessage;
 import org.guvnor.common.services.project.builder.model.BuildResults;
@@ -345,6 +349,164 @@ public class BuilderTest
                                new ArrayList<String>() );
     }
 
+    @Test
+    public void testBuildSnapshotIsPublishedForEachBuild() throws Exception {
+        SimpleFileSystemProvider provider = new SimpleFileSystemProvider();
+        org.uberfire.java.nio.file.Path path = provider.getPath( this.getClass().getResource( "/BuilderExampleBrokenSyntax" ).toURI() );
+
+        final Project project = projectService.resolveProject( Paths.convert( path ) );
+
+        final Builder builder = new Builder( project,
+                                             ioService,
+                                             projectService,
+                                             importsService,
+                                             new ArrayList<>(),
+                                             dependenciesClassLoaderCache,
+                                             pomModelCache,
+                                             mock( PackageNameWhiteListService.class ),
+                                             alwaysTrue );
+
+        assertFalse( builder.isBuilt() );
+
+        final BuildSnapshot fullBuildSnapshot = builder.getBuildSnapshot();
+        assertTrue( builder.isBuilt() );
+        assertTrue( fullBuildSnapshot.hasErrors() );
+        assertNotNull( fullBuildSnapshot.getKieModuleIgnoringErrors() );
+        assertSame( fullBuildSnapshot,
+                    builder.getBuildSnapshot() );
+
+        builder.deleteResource( provider.getPath( this.getClass().getResource( File.separatorChar + "BuilderExampleBrokenSyntax" +
+                                                                                       File.separatorChar + "src" +
+                                                                                       File.separatorChar + "main" +
+                                                                                       File.separatorChar + "resources" +
+                                                                                       File.separatorChar + "rule1.drl"
+                                                                             ).toURI() ) );
+
+        final BuildSnapshot incrementalBuildSnapshot = builder.getBuildSnapshot();
+        assertTrue( incrementalBuildSnapshot.getVersion() > fullBuildSnapshot.getVersion() );
+        assertFalse( incrementalBuildSnapshot.hasErrors() );
+        assertNotNull( incrementalBuildSnapshot.getKieModule() );
+
+        //Each snapshot holds its own copy of the KieModule, but removing a rule does not change the class path
+        assertTrue( fullBuildSnapshot.hasErrors() );
+        assertNotSame( fullBuildSnapshot.getKieModuleIgnoringErrors(),
+                       incrementalBuildSnapshot.getKieModuleIgnoringErrors() );
+        assertTrue( incrementalBuildSnapshot.hasSameClassPath( fullBuildSnapshot ) );
+    }
+
+    @Test
+    public void testCloneChangesAreRevertedUntilTheOriginIsBuilt() throws Exception {
+        SimpleFileSystemProvider provider = new SimpleFileSystemProvider();
+        org.uberfire.java.nio.file.Path path = provider.getPath( this.getClass().getResource( "/BuilderExampleBrokenSyntax" ).toURI() );
+        org.uberfire.java.nio.file.Path brokenRule = provider.getPath( this.getClass().getResource( File.separatorChar + "BuilderExampleBrokenSyntax" +
+                                                                                                            File.separatorChar + "src" +
+                                                                                                            File.separatorChar + "main" +
+                                                                                                            File.separatorChar + "resources" +
+                                                                                                            File.separatorChar + "rule1.drl"
+                                                                                  ).toURI() );
+
+        final Project project = projectService.resolveProject( Paths.convert( path ) );
+
+        final Builder builder = new Builder( project,
+                                             ioService,
+                                             projectService,
+                                             importsService,
+                                             new ArrayList<>(),
+                                             dependenciesClassLoaderCache,
+                                             pomModelCache,
+                                             mock( PackageNameWhiteListService.class ),
+                                             alwaysTrue );
+        builder.build();
+
+        final Builder clone = builder.clone();
+        clone.deleteResource( brokenRule );
+        assertFalse( clone.getBuildSnapshot().hasErrors() );
+        assertTrue( clone.isUpToDateCloneOf( builder ) );
+
+        //Reverting brings back the deleted rule, with its errors
+        assertTrue( clone.revertChangesExcept( path.resolve( "src/main/resources/other.drl" ) ) );
+        assertTrue( clone.getBuildSnapshot().hasErrors() );
+
+        //Changes to the excepted resource are kept
+        clone.deleteResource( brokenRule );
+        assertTrue( clone.revertChangesExcept( brokenRule ) );
+        assertFalse( clone.getBuildSnapshot().hasErrors() );
+
+        builder.build();
+        assertFalse( clone.isUpToDateCloneOf( builder ) );
+        assertFalse( clone.isUpToDateClone() );
+        assertFalse( clone.revertChangesExcept( brokenRule ) );
+    }
+
+    @Test
+    public void testIncrementalBuildsArePublishedWhenRead() throws Exception {
+        SimpleFileSystemProvider provider = new SimpleFileSystemProvider();
+        org.uberfire.java.nio.file.Path path = provider.getPath( this.getClass().getResource( "/BuilderExampleBrokenSyntax" ).toURI() );
+        org.uberfire.java.nio.file.Path brokenRule = provider.getPath( this.getClass().getResource( File.separatorChar + "BuilderExampleBrokenSyntax" +
+                                                                                                            File.separatorChar + "src" +
+                                                                                                            File.separatorChar + "main" +
+                                                                                                            File.separatorChar + "resources" +
+                                                                                                            File.separatorChar + "rule1.drl"
+                                                                                  ).toURI() );
+
+        final Project project = projectService.resolveProject( Paths.convert( path ) );
+
+        final Builder builder = new Builder( project,
+                                             ioService,
+                                             projectService,
+                                             importsService,
+                                             new ArrayList<>(),
+                                             dependenciesClassLoaderCache,
+                                             pomModelCache,
+                                             mock( PackageNameWhiteListService.class ),
+                                             alwaysTrue );
+        builder.build();
+        assertFalse( builder.hasUnpublishedBuild() );
+        final BuildSnapshot fullBuildSnapshot = builder.getBuildSnapshot();
+
+        //Validation clones do not copy their KieModule unless it is read
+        final Builder clone = builder.clone();
+        clone.deleteResource( brokenRule );
+        assertTrue( clone.hasUnpublishedBuild() );
+        assertSame( fullBuildSnapshot,
+                    builder.getBuildSnapshot() );
+
+        final BuildSnapshot cloneSnapshot = clone.getBuildSnapshot();
+        assertFalse( clone.hasUnpublishedBuild() );
+        assertFalse( cloneSnapshot.hasErrors() );
+        assertTrue( cloneSnapshot.getVersion() > fullBuildSnapshot.getVersion() );
+        assertSame( cloneSnapshot,
+                    clone.getBuildSnapshot() );
+    }
+
+    @Test
+    public void testHasSameClasses() {
+        final byte[] bytes = new byte[]{ 1, 2, 3 };
+        final InternalKieModule previous = mock( InternalKieModule.class );
+        when( previous.getClassesMap( true ) ).thenReturn( Collections.singletonMap( "org/test/A.class",
+                                                                                      bytes ) );
+        final InternalKieModule same = mock( InternalKieModule.class );
+        when( same.getClassesMap( true ) ).thenReturn( Collections.singletonMap( "org/test/A.class",
+                                                                                  bytes.clone() ) );
+        final InternalKieModule changed = mock( InternalKieModule.class );
+        when( changed.getClassesMap( true ) ).thenReturn( Collections.singletonMap( "org/test/A.class",
+                                                                                     new byte[]{ 1, 2 } ) );
+        final InternalKieModule added = mock( InternalKieModule.class );
+        final Map<String, byte[]> addedClasses = new HashMap<>();
+        addedClasses.put( "org/test/A.class",
+                          bytes );
+        addedClasses.put( "org/test/B.class",
+                          bytes );
+        when( added.getClassesMap( true ) ).thenReturn( addedClasses );
+
+        assertTrue( Builder.hasSameClasses( previous,
+                                            same ) );
+        assertFalse( Builder.hasSameClasses( previous,
+                                             changed ) );
+        assertFalse( Builder.hasSameClasses( previous,
+                                             added ) );
+    }
+
     private PackageNameWhiteListService getPackageNameWhiteListService() {
         return new PackageNameWhiteListServiceImpl( ioService,
                                                     mock( KieProjectService.class ),
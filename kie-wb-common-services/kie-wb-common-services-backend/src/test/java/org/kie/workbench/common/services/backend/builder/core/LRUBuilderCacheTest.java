@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.guvnor.common.services.project.model.GAV;
+import org.guvnor.common.services.project.model.POM;
+import org.guvnor.common.services.project.model.Project;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class LRUBuilderCacheTest {
+
+    private final AtomicInteger constructions = new AtomicInteger();
+
+    private CountDownLatch constructionLatch;
+
+    private LRUBuilderCache cache;
+
+    @Before
+    public void setUp() {
+        constructionLatch = new CountDownLatch(0);
+        cache = new LRUBuilderCache() {
+            @Override
+            protected Builder newBuilder(final Project project) {
+                constructions.incrementAndGet();
+                try {
+                    constructionLatch.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return mock(Builder.class);
+            }
+        };
+    }
+
+    @Test
+    public void testAssertBuilderIsConstructedOnce() {
+        final Project project = mockProject("p1");
+
+        final Builder builder1 = cache.assertBuilder(project);
+        final Builder builder2 = cache.assertBuilder(project);
+
+        assertSame(builder1,
+                   builder2);
+        assertEquals(1,
+                     constructions.get());
+        assertEquals(1,
+                     cache.getMissCount());
+        assertEquals(1,
+                     cache.getHitCount());
+    }
+
+    @Test
+    public void testConcurrentAssertBuilderIsSingleFlight() throws Exception {
+        final Project project = mockProject("p1");
+        constructionLatch = new CountDownLatch(1);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Builder>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> cache.assertBuilder(project)));
+            }
+            constructionLatch.countDown();
+
+            final Builder builder = futures.get(0).get();
+            for (Future<Builder> future : futures) {
+                assertSame(builder,
+                           future.get());
+            }
+            assertEquals(1,
+                         constructions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAssertBuilderByPOM() throws Exception {
+        final Project project = mockProject("p1");
+        final Builder builder = cache.assertBuilder(project);
+
+        assertSame(builder,
+                   cache.assertBuilder(project.getPom()));
+    }
+
+    @Test(expected = NoBuilderFoundException.class)
+    public void testAssertBuilderByUnknownPOM() throws Exception {
+        cache.assertBuilder(mockProject("unknown").getPom());
+    }
+
+    @Test(expected = NoBuilderFoundException.class)
+    public void testInvalidateCacheRemovesGAVIndex() throws Exception {
+        final Project project = mockProject("p1");
+        cache.assertBuilder(project);
+
+        cache.invalidateCache(project);
+
+        assertNull(cache.getBuilder(project));
+        cache.assertBuilder(project.getPom());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() {
+        final Project first = mockProject("p0");
+        cache.assertBuilder(first);
+        for (int i = 1; i <= LRUBuilderCache.MAX_ENTRIES; i++) {
+            cache.assertBuilder(mockProject("p" + i));
+        }
+
+        assertEquals(LRUBuilderCache.MAX_ENTRIES,
+                     cache.getKeys().size());
+        assertFalse(cache.getKeys().contains(first));
+        assertEquals(1,
+                     cache.getEvictionCount());
+    }
+
+    private Project mockProject(final String artifactId) {
+        final Project project = mock(Project.class);
+        final POM pom = mock(POM.class);
+        when(project.getPom()).thenReturn(pom);
+        when(project.getProjectName()).thenReturn(artifactId);
+        when(pom.getGav()).thenReturn(new GAV("org.kie",
+                                              artifactId,
+                                              "1.0"));
+        return project;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.builder.core;
+
+import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
+import org.guvnor.common.services.project.model.Project;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.java.nio.file.Path;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ValidationBuilderPoolTest {
+
+    @Mock
+    private Project project;
+
+    @Mock
+    private Builder builder;
+
+    @Mock
+    private Path resource;
+
+    private ValidationBuilderPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ValidationBuilderPool();
+    }
+
+    @Test
+    public void testReleasedCloneIsReused() {
+        final Builder clone = upToDateClone();
+        when(clone.isUpToDateCloneOf(builder)).thenReturn(true);
+        when(clone.revertChangesExcept(resource)).thenReturn(true);
+
+        pool.release(project,
+                     clone);
+
+        assertSame(clone,
+                   pool.borrow(project,
+                               builder,
+                               resource));
+        verify(builder,
+               never()).clone();
+    }
+
+    @Test
+    public void testCloneIsTakenWhenNoneIsPooled() {
+        final Builder clone = upToDateClone();
+        when(builder.clone()).thenReturn(clone);
+
+        assertSame(clone,
+                   pool.borrow(project,
+                               builder,
+                               resource));
+    }
+
+    @Test
+    public void testStaleCloneIsNotPooled() {
+        final Builder stale = mock(Builder.class);
+        when(stale.isUpToDateClone()).thenReturn(false);
+        final Builder clone = upToDateClone();
+        when(builder.clone()).thenReturn(clone);
+
+        pool.release(project,
+                     stale);
+
+        assertSame(clone,
+                   pool.borrow(project,
+                               builder,
+                               resource));
+        assertEquals(0,
+                     pool.getPooledProjectsCount());
+    }
+
+    @Test
+    public void testCloneThatCannotBeRevertedIsDiscarded() {
+        final Builder pooled = upToDateClone();
+        when(pooled.isUpToDateCloneOf(builder)).thenReturn(true);
+        when(pooled.revertChangesExcept(resource)).thenReturn(false);
+        final Builder clone = upToDateClone();
+        when(builder.clone()).thenReturn(clone);
+
+        pool.release(project,
+                     pooled);
+
+        assertSame(clone,
+                   pool.borrow(project,
+                               builder,
+                               resource));
+    }
+
+    @Test
+    public void testIdleClonesPerProjectAreBounded() {
+        for (int i = 0; i < ValidationBuilderPool.MAX_IDLE_BUILDERS_PER_PROJECT + 1; i++) {
+            final Builder clone = upToDateClone();
+            when(clone.isUpToDateCloneOf(builder)).thenReturn(true);
+            when(clone.revertChangesExcept(resource)).thenReturn(true);
+            pool.release(project,
+                         clone);
+        }
+        final Builder clone = upToDateClone();
+        when(builder.clone()).thenReturn(clone);
+
+        for (int i = 0; i < ValidationBuilderPool.MAX_IDLE_BUILDERS_PER_PROJECT; i++) {
+            assertNotSame(clone,
+                          pool.borrow(project,
+                                      builder,
+                                      resource));
+        }
+        assertSame(clone,
+                   pool.borrow(project,
+                               builder,
+                               resource));
+    }
+
+    @Test
+    public void testPooledProjectsAreBounded() {
+        for (int i = 0; i < ValidationBuilderPool.MAX_POOLED_PROJECTS + 5; i++) {
+            pool.release(mock(Project.class),
+                         upToDateClone());
+        }
+
+        assertEquals(ValidationBuilderPool.MAX_POOLED_PROJECTS,
+                     pool.getPooledProjectsCount());
+    }
+
+    @Test
+    public void testClonesAreDroppedOnInvalidation() {
+        pool.release(project,
+                     upToDateClone());
+
+        final InvalidateDMOProjectCacheEvent event = mock(InvalidateDMOProjectCacheEvent.class);
+        when(event.getProject()).thenReturn(project);
+        pool.invalidateProjectCache(event);
+
+        assertEquals(0,
+                     pool.getPooledProjectsCount());
+    }
+
+    private Builder upToDateClone() {
+        final Builder clone = mock(Builder.class);
+        when(clone.isUpToDateClone()).thenReturn(true);
+        return clone;
+    }
+}
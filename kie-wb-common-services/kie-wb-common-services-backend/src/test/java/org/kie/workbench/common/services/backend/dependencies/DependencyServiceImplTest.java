@@ -16,6 +16,7 @@ package org.kie.workbench.common.services.backend.dependencies;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -32,6 +33,10 @@ import org.junit.runner.RunWith;
 import org.kie.api.builder.ReleaseId;
 import org.kie.scanner.DependencyDescriptor;
 import org.kie.scanner.MavenRepository;
+import org.kie.workbench.common.services.backend.helpers.ParallelTaskExecutor;
+import org.kie.workbench.common.services.shared.dependencies.EnhancedDependencies;
+import org.kie.workbench.common.services.shared.dependencies.EnhancedDependency;
+import org.kie.workbench.common.services.shared.dependencies.NormalEnhancedDependency;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -49,6 +54,10 @@ public class DependencyServiceImplTest {
 
     private TempFiles tempFiles;
 
+    private File indexDir;
+
+    private ParallelTaskExecutor parallelTaskExecutor;
+
     private DependencyServiceImpl service;
 
     @Before
@@ -85,7 +94,11 @@ public class DependencyServiceImplTest {
                 .addFile( "org/hamcrest/core/SomeClass.class" )
                 .close();
 
-        service = new DependencyServiceImpl() {
+        indexDir = Files.createTempDirectory( "package-names-index" ).toFile();
+        parallelTaskExecutor = new ParallelTaskExecutor();
+        parallelTaskExecutor.init();
+        service = new DependencyServiceImpl( new PackageNamesIndex( indexDir ),
+                                             parallelTaskExecutor ) {
             @Override protected MavenRepository getMavenRepository() {
                 return mavenRepository;
             }
@@ -105,7 +118,9 @@ public class DependencyServiceImplTest {
 
     @After
     public void tearDown() throws Exception {
+        parallelTaskExecutor.destroy();
         tempFiles.deleteFiles();
+        PackageNamesIndexTest.deleteRecursively( indexDir );
     }
 
     @Test
@@ -196,6 +211,68 @@ public class DependencyServiceImplTest {
 
     }
 
+    @Test
+    public void testLoadEnhancedDependencies() throws Exception {
+        final Collection<Dependency> dependencies = new ArrayList<Dependency>();
+        dependencies.add( new Dependency( new GAV( "junit",
+                                                   "junit",
+                                                   "4.11" ) ) );
+        dependencies.add( new Dependency( new GAV( "org.guvnor",
+                                                   "guvnor-web-app",
+                                                   "5.0" ) ) );
+
+        final EnhancedDependencies enhancedDependencies = service.loadEnhancedDependencies( dependencies );
+
+        assertEquals( 2, enhancedDependencies.size() );
+
+        final NormalEnhancedDependency junit = ( NormalEnhancedDependency ) enhancedDependencies.get( new GAV( "junit",
+                                                                                                                "junit",
+                                                                                                                "4.11" ) );
+        assertEquals( 2, junit.getPackages().size() );
+        assertTrue( junit.getPackages().contains( "org.junit.rules" ) );
+
+        final EnhancedDependency hamcrest = junit.getTransitiveDependencies().get( new GAV( "org.hamcrest",
+                                                                                           "hamcrest-core",
+                                                                                           "1.3" ) );
+        assertTrue( hamcrest.getPackages().contains( "org.hamcrest" ) );
+        assertTrue( hamcrest.getPackages().contains( "org.hamcrest.core" ) );
+
+        final NormalEnhancedDependency guvnor = ( NormalEnhancedDependency ) enhancedDependencies.get( new GAV( "org.guvnor",
+                                                                                                                 "guvnor-web-app",
+                                                                                                                 "5.0" ) );
+        assertTrue( guvnor.getPackages().isEmpty() );
+        assertEquals( 1, guvnor.getTransitiveDependencies().size() );
+    }
+
+    @Test
+    public void testEachArtifactIsResolvedOnce() throws Exception {
+        final Collection<Dependency> dependencies = new ArrayList<Dependency>();
+        dependencies.add( new Dependency( new GAV( "junit",
+                                                   "junit",
+                                                   "4.11" ) ) );
+        dependencies.add( new Dependency( new GAV( "junit",
+                                                   "junit",
+                                                   "4.11" ) ) );
+        dependencies.add( new Dependency( new GAV( "org.hamcrest",
+                                                   "hamcrest-core",
+                                                   "1.3" ) ) );
+
+        final EnhancedDependencies enhancedDependencies = service.loadEnhancedDependencies( dependencies );
+
+        assertEquals( 2, enhancedDependencies.size() );
+        final NormalEnhancedDependency junit = ( NormalEnhancedDependency ) enhancedDependencies.get( new GAV( "junit",
+                                                                                                                "junit",
+                                                                                                                "4.11" ) );
+        final EnhancedDependency hamcrest = junit.getTransitiveDependencies().get( new GAV( "org.hamcrest",
+                                                                                           "hamcrest-core",
+                                                                                           "1.3" ) );
+        assertTrue( hamcrest.getPackages().contains( "org.hamcrest" ) );
+
+        verify( mavenRepository, times( 1 ) ).getArtifactDependecies( "junit:junit:4.11" );
+        verify( mavenRepository, times( 1 ) ).resolveArtifact( "junit:junit:4.11" );
+        verify( mavenRepository, times( 1 ) ).resolveArtifact( "org.hamcrest:hamcrest-core:1.3" );
+    }
+
     private DependencyDescriptor makeDependencyDescriptor( final String groupId,
                                                            final String artifactId,
                                                            final String version ) {
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.dependencies;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Set;
+
+import org.guvnor.test.TempFiles;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PackageNamesIndexTest {
+
+    private static final String GAV = "junit:junit:4.11";
+
+    private TempFiles tempFiles;
+
+    private File indexDir;
+
+    private File jar;
+
+    @Before
+    public void setUp() throws Exception {
+        tempFiles = new TempFiles();
+        indexDir = Files.createTempDirectory( "package-names-index" ).toFile();
+        jar = tempFiles.createTempFile( "junit-4.11.jar" );
+        new TestJarWriter( jar,
+                           tempFiles )
+                .addFile( "org/junit/rules/SomeClass.class" )
+                .addFile( "org/junit/matchers/SomeClass.class" )
+                .addFile( "org/junit/doNotAddMe/SomeClass.txt" )
+                .close();
+        writeChecksum( "4e031bb61df09069aeb2bffb4019e7a5034a4ee0" );
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        new File( jar.getPath() + ".sha1" ).delete();
+        tempFiles.deleteFiles();
+        deleteRecursively( indexDir );
+    }
+
+    @Test
+    public void testPackageNames() throws Exception {
+        final Set<String> packageNames = new PackageNamesIndex( indexDir ).getPackageNames( GAV,
+                                                                                            jar );
+
+        assertEquals( 2, packageNames.size() );
+        assertTrue( packageNames.contains( "org.junit.rules" ) );
+        assertTrue( packageNames.contains( "org.junit.matchers" ) );
+    }
+
+    @Test
+    public void testPackageNamesAreReadFromDisk() throws Exception {
+        new PackageNamesIndex( indexDir ).getPackageNames( GAV,
+                                                           jar );
+
+        //The jar is not opened again while its checksum is unchanged
+        corruptJar();
+        final Set<String> packageNames = new PackageNamesIndex( indexDir ).getPackageNames( GAV,
+                                                                                            jar );
+
+        assertEquals( 2, packageNames.size() );
+        assertTrue( packageNames.contains( "org.junit.rules" ) );
+    }
+
+    @Test
+    public void testPackageNamesAreCachedInMemory() throws Exception {
+        final PackageNamesIndex index = new PackageNamesIndex( indexDir );
+        index.getPackageNames( GAV,
+                               jar );
+
+        corruptJar();
+        for ( File indexFile : indexDir.listFiles() ) {
+            assertTrue( indexFile.delete() );
+        }
+
+        assertEquals( 2, index.getPackageNames( GAV,
+                                                jar ).size() );
+        assertEquals( 1, index.getCachedArtifacts() );
+    }
+
+    @Test
+    public void testChangedChecksumIsIndexedAgain() throws Exception {
+        final PackageNamesIndex index = new PackageNamesIndex( indexDir );
+        index.getPackageNames( GAV,
+                               jar );
+
+        new TestJarWriter( jar,
+                           tempFiles )
+                .addFile( "org/junit/SomeClass.class" )
+                .close();
+        writeChecksum( "a6c7d2ac2e1c6ab5e8bbb0eb4b4a8ae3a38dbe02" );
+
+        final Set<String> packageNames = index.getPackageNames( GAV,
+                                                                jar );
+
+        assertEquals( 1, packageNames.size() );
+        assertTrue( packageNames.contains( "org.junit" ) );
+    }
+
+    @Test
+    public void testTemporaryFileIsDeletedWhenTheIndexFileCannotBeWritten() throws Exception {
+        //A non empty folder in place of the index file makes moving the temporary file fail
+        final File indexFile = new File( indexDir,
+                                         PackageNamesIndex.key( GAV,
+                                                                jar ) + ".packages" );
+        assertTrue( new File( indexFile,
+                              "blocker" ).mkdirs() );
+
+        final Set<String> packageNames = new PackageNamesIndex( indexDir ).getPackageNames( GAV,
+                                                                                            jar );
+
+        assertEquals( 2, packageNames.size() );
+        assertEquals( 1, indexDir.listFiles().length );
+        assertTrue( indexFile.isDirectory() );
+    }
+
+    @Test
+    public void testDefaultIndexDirIsNextToTheGitDir() throws Exception {
+        final String indexDirProperty = System.getProperty( PackageNamesIndex.INDEX_DIR_PROPERTY );
+        final String gitDirProperty = System.getProperty( PackageNamesIndex.GIT_DIR_PROPERTY );
+        try {
+            System.clearProperty( PackageNamesIndex.INDEX_DIR_PROPERTY );
+            System.setProperty( PackageNamesIndex.GIT_DIR_PROPERTY,
+                                indexDir.getPath() );
+
+            assertEquals( new File( indexDir,
+                                    PackageNamesIndex.DEFAULT_INDEX_DIR_NAME ),
+                          PackageNamesIndex.getDefaultIndexDir() );
+        } finally {
+            restoreProperty( PackageNamesIndex.INDEX_DIR_PROPERTY,
+                             indexDirProperty );
+            restoreProperty( PackageNamesIndex.GIT_DIR_PROPERTY,
+                             gitDirProperty );
+        }
+    }
+
+    @Test
+    public void testKeyFallsBackToJarAttributes() throws Exception {
+        final String key = PackageNamesIndex.key( GAV,
+                                                  jar );
+        assertTrue( new File( jar.getPath() + ".sha1" ).delete() );
+
+        assertNotEquals( key,
+                         PackageNamesIndex.key( GAV,
+                                                jar ) );
+        assertEquals( PackageNamesIndex.key( GAV,
+                                             jar ),
+                      PackageNamesIndex.key( GAV,
+                                             jar ) );
+    }
+
+    private void writeChecksum( final String checksum ) throws Exception {
+        Files.write( new File( jar.getPath() + ".sha1" ).toPath(),
+                     checksum.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    private void corruptJar() throws Exception {
+        Files.write( jar.toPath(),
+                     "not a jar".getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    private static void restoreProperty( final String name,
+                                         final String value ) {
+        if ( value == null ) {
+            System.clearProperty( name );
+        } else {
+            System.setProperty( name,
+                                value );
+        }
+    }
+
+    static void deleteRecursively( final File file ) {
+        final File[] children = file.listFiles();
+        if ( children != null ) {
+            for ( File child : children ) {
+                deleteRecursively( child );
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ParallelTaskExecutorTest {
+
+    private ParallelTaskExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new ParallelTaskExecutor();
+        executor.init();
+    }
+
+    @After
+    public void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    public void testResultsAreInTheOrderOfTheItems() throws Exception {
+        final List<Integer> items = new ArrayList<Integer>();
+        for ( int i = 0; i < 100; i++ ) {
+            items.add( i );
+        }
+
+        final List<String> results = executor.map( items,
+                                                   String::valueOf );
+
+        assertEquals( 100,
+                      results.size() );
+        for ( int i = 0; i < 100; i++ ) {
+            assertEquals( String.valueOf( i ),
+                          results.get( i ) );
+        }
+    }
+
+    @Test
+    public void testNestedCallsComplete() throws Exception {
+        final List<List<Integer>> results = executor.map( Arrays.asList( 1, 2, 3 ),
+                                                          i -> {
+                                                              try {
+                                                                  return executor.map( Arrays.asList( i, i * 10 ),
+                                                                                       j -> j + 1 );
+                                                              } catch ( Exception e ) {
+                                                                  throw new IllegalStateException( e );
+                                                              }
+                                                          } );
+
+        assertEquals( Arrays.asList( Arrays.asList( 2, 11 ),
+                                     Arrays.asList( 3, 21 ),
+                                     Arrays.asList( 4, 31 ) ),
+                      results );
+    }
+
+    @Test
+    public void testFailuresAreReportedAsTheCause() throws Exception {
+        try {
+            executor.map( Arrays.asList( 1, 2 ),
+                          i -> {
+                              throw new IllegalArgumentException();
+                          } );
+            fail( "ExecutionException expected" );
+        } catch ( ExecutionException e ) {
+            assertTrue( e.getCause() instanceof IllegalArgumentException );
+        }
+    }
+
+    @Test
+    public void testItemsAreMappedOnTheCallingThreadOnceDestroyed() throws Exception {
+        executor.destroy();
+        final Thread caller = Thread.currentThread();
+
+        final List<Boolean> results = executor.map( Arrays.asList( 1, 2 ),
+                                                    i -> Thread.currentThread() == caller );
+
+        assertEquals( Arrays.asList( true, true ),
+                      results );
+    }
+
+}
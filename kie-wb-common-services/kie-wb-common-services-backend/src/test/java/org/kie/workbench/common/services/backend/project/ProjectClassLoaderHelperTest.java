@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.project;
+
+import java.util.HashMap;
+
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOProjectCacheEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.backend.builder.core.BuildSnapshot;
+import org.kie.workbench.common.services.backend.builder.core.LRUProjectDependenciesClassLoaderCache;
+import org.kie.workbench.common.services.backend.builder.service.BuildInfo;
+import org.kie.workbench.common.services.backend.builder.service.BuildInfoService;
+import org.kie.workbench.common.services.shared.project.KieProject;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProjectClassLoaderHelperTest {
+
+    @Mock
+    private BuildInfoService buildInfoService;
+
+    @Mock
+    private LRUProjectDependenciesClassLoaderCache dependenciesClassLoaderCache;
+
+    @InjectMocks
+    private ProjectClassLoaderHelper helper;
+
+    @Mock
+    private KieProject project;
+
+    @Mock
+    private Path rootPath;
+
+    @Mock
+    private BuildInfo buildInfo;
+
+    @Before
+    public void setUp() {
+        when( project.getRootPath() ).thenReturn( rootPath );
+        when( buildInfoService.getBuildInfo( project ) ).thenReturn( buildInfo );
+        when( dependenciesClassLoaderCache.assertDependenciesClassLoader( project ) ).thenReturn( getClass().getClassLoader() );
+    }
+
+    @Test
+    public void testClassLoaderIsCachedForTheSameBuild() {
+        when( buildInfo.getBuildSnapshot() ).thenReturn( snapshot() );
+
+        final ClassLoader classLoader = helper.getProjectClassLoader( project );
+
+        assertSame( classLoader,
+                    helper.getProjectClassLoader( project ) );
+        assertEquals( 1,
+                      helper.getClassLoaderCacheMisses() );
+        assertEquals( 1,
+                      helper.getClassLoaderCacheHits() );
+    }
+
+    @Test
+    public void testClassLoaderIsRecreatedForANewBuild() {
+        when( buildInfo.getBuildSnapshot() ).thenReturn( snapshot() );
+        final ClassLoader classLoader = helper.getProjectClassLoader( project );
+
+        when( buildInfo.getBuildSnapshot() ).thenReturn( snapshot() );
+
+        assertNotSame( classLoader,
+                       helper.getProjectClassLoader( project ) );
+    }
+
+    @Test
+    public void testClassLoaderIsKeptForABuildWithTheSameClassPath() {
+        final BuildSnapshot first = snapshot();
+        when( buildInfo.getBuildSnapshot() ).thenReturn( first );
+        final ClassLoader classLoader = helper.getProjectClassLoader( project );
+
+        final BuildSnapshot second = snapshot();
+        when( first.hasSameClassPath( second ) ).thenReturn( true );
+        when( buildInfo.getBuildSnapshot() ).thenReturn( second );
+
+        assertSame( classLoader,
+                    helper.getProjectClassLoader( project ) );
+        assertEquals( 1,
+                      helper.getClassLoaderCacheMisses() );
+    }
+
+    @Test
+    public void testClassLoaderIsReleasedOnInvalidation() {
+        when( buildInfo.getBuildSnapshot() ).thenReturn( snapshot() );
+        final ClassLoader classLoader = helper.getProjectClassLoader( project );
+
+        final InvalidateDMOProjectCacheEvent event = mock( InvalidateDMOProjectCacheEvent.class );
+        when( event.getProject() ).thenReturn( project );
+        helper.invalidateProjectCache( event );
+
+        assertNotSame( classLoader,
+                       helper.getProjectClassLoader( project ) );
+        assertEquals( 2,
+                      helper.getClassLoaderCacheMisses() );
+    }
+
+    private BuildSnapshot snapshot() {
+        final InternalKieModule kieModule = mock( InternalKieModule.class );
+        when( kieModule.getClassesMap( true ) ).thenReturn( new HashMap<>() );
+        final BuildSnapshot snapshot = mock( BuildSnapshot.class );
+        when( snapshot.getKieModuleIgnoringErrors() ).thenReturn( kieModule );
+        return snapshot;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.project;
+
+import java.net.URI;
+
+import org.guvnor.common.services.project.model.POM;
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ProjectResolutionCacheTest {
+
+    private static final String ROOT_URI = "default://master@repo/project";
+
+    private ProjectResolutionCache cache;
+
+    private org.uberfire.java.nio.file.Path projectRoot;
+
+    private org.uberfire.java.nio.file.Path packageFolder;
+
+    @Before
+    public void setUp() {
+        cache = new ProjectResolutionCache();
+        projectRoot = nioPath( ROOT_URI );
+        packageFolder = nioPath( ROOT_URI + "/src/main/resources/org/test" );
+    }
+
+    @Test
+    public void testProbesAreCached() {
+        assertNull( cache.isProjectRoot( projectRoot ) );
+
+        cache.setProjectRoot( projectRoot,
+                              true );
+        cache.setProjectRoot( packageFolder,
+                              false );
+
+        assertTrue( cache.isProjectRoot( projectRoot ) );
+        assertFalse( cache.isProjectRoot( packageFolder ) );
+    }
+
+    @Test
+    public void testPomUpdateInvalidatesProjectRoot() {
+        final POM pom = new POM();
+        cache.setProjectRoot( projectRoot,
+                              true );
+        cache.setPom( projectRoot,
+                      pom );
+        cache.setProjectRoot( packageFolder,
+                              false );
+
+        cache.onResourceUpdated( updated( ROOT_URI + "/pom.xml" ) );
+
+        assertNull( cache.isProjectRoot( projectRoot ) );
+        assertNull( cache.getPom( projectRoot ) );
+        assertFalse( cache.isProjectRoot( packageFolder ) );
+    }
+
+    @Test
+    public void testCachedPomIsReturnedWithoutCopying() {
+        final POM pom = new POM();
+        cache.setPom( projectRoot,
+                      pom );
+
+        assertSame( pom,
+                    cache.getPom( projectRoot ) );
+        assertSame( pom,
+                    cache.getPom( projectRoot ) );
+    }
+
+    @Test
+    public void testCacheIsClearedWhenTooManyFoldersAreProbed() {
+        cache.setProjectRoot( projectRoot,
+                              true );
+        for ( int i = 0; i < ProjectResolutionCache.MAX_CACHED_FOLDERS; i++ ) {
+            cache.setProjectRoot( nioPath( ROOT_URI + "/src/main/resources/folder" + i ),
+                                  false );
+        }
+
+        assertNull( cache.isProjectRoot( projectRoot ) );
+        assertEquals( 1,
+                      cache.getCachedFolders() );
+    }
+
+    @Test
+    public void testKModuleUpdateInvalidatesProjectRoot() {
+        cache.setProjectRoot( projectRoot,
+                              true );
+
+        cache.onResourceUpdated( updated( ROOT_URI + "/src/main/resources/META-INF/kmodule.xml" ) );
+
+        assertNull( cache.isProjectRoot( projectRoot ) );
+    }
+
+    @Test
+    public void testOtherUpdatesDoNotInvalidate() {
+        cache.setProjectRoot( projectRoot,
+                              true );
+
+        cache.onResourceUpdated( updated( ROOT_URI + "/src/main/resources/org/test/rule.drl" ) );
+
+        assertTrue( cache.isProjectRoot( projectRoot ) );
+    }
+
+    @Test
+    public void testFolderDeletionInvalidatesSubTree() {
+        cache.setProjectRoot( projectRoot,
+                              true );
+        cache.setProjectRoot( packageFolder,
+                              false );
+
+        final ResourceDeletedEvent event = mock( ResourceDeletedEvent.class );
+        final Path path = vfsPath( ROOT_URI + "/src" );
+        when( event.getPath() ).thenReturn( path );
+        cache.onResourceDeleted( event );
+
+        assertTrue( cache.isProjectRoot( projectRoot ) );
+        assertNull( cache.isProjectRoot( packageFolder ) );
+    }
+
+    @Test
+    public void testProjectRootUri() {
+        assertEquals( ROOT_URI,
+                      ProjectResolutionCache.projectRootUri( ROOT_URI + "/pom.xml" ) );
+        assertEquals( ROOT_URI,
+                      ProjectResolutionCache.projectRootUri( ROOT_URI + "/src/main/resources/META-INF/kmodule.xml" ) );
+        assertNull( ProjectResolutionCache.projectRootUri( ROOT_URI + "/src/main/resources/rule.drl" ) );
+    }
+
+    private ResourceUpdatedEvent updated( final String uri ) {
+        final ResourceUpdatedEvent event = mock( ResourceUpdatedEvent.class );
+        final Path path = vfsPath( uri );
+        when( event.getPath() ).thenReturn( path );
+        return event;
+    }
+
+    private Path vfsPath( final String uri ) {
+        final Path path = mock( Path.class );
+        when( path.toURI() ).thenReturn( uri );
+        return path;
+    }
+
+    private org.uberfire.java.nio.file.Path nioPath( final String uri ) {
+        final org.uberfire.java.nio.file.Path path = mock( org.uberfire.java.nio.file.Path.class );
+        when( path.toUri() ).thenReturn( URI.create( uri ) );
+        return path;
+    }
+}
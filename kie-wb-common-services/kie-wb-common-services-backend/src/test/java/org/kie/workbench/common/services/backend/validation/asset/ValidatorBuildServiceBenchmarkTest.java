@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.services.backend.validation.asset;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.guvnor.common.services.shared.validation.model.ValidationMessage;
+import org.guvnor.test.TestFileSystem;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.backend.vfs.Path;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+/**
+ * Measures single asset validation latency for generated Projects of increasing size. With warm validation Builders
+ * the latency should stay roughly flat as the number of assets grows.
+ * <p>
+ * Run with <code>mvn test -Dtest=ValidatorBuildServiceBenchmarkTest -Dkie.wb.benchmark=true</code>
+ */
+public class ValidatorBuildServiceBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger( ValidatorBuildServiceBenchmarkTest.class );
+
+    private static final int[] PROJECT_SIZES = { 50, 200, 800 };
+    private static final int WARM_UP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    private TestFileSystem testFileSystem;
+    private ValidatorBuildService validatorBuildService;
+
+    @Before
+    public void setUp() throws Exception {
+        assumeTrue( Boolean.getBoolean( "kie.wb.benchmark" ) );
+        testFileSystem = new TestFileSystem();
+        validatorBuildService = testFileSystem.getReference( ValidatorBuildService.class );
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if ( testFileSystem != null ) {
+            testFileSystem.tearDown();
+        }
+    }
+
+    @Test
+    public void testValidationLatencyAgainstProjectSize() throws Exception {
+        for ( int size : PROJECT_SIZES ) {
+            final File projectRoot = generateProject( size );
+            final Path path = Paths.convert( testFileSystem.fileSystemProvider.getPath( new File( projectRoot,
+                                                                                                  "src/main/resources/org/test/rule0.drl" ).toURI() ) );
+
+            for ( int i = 0; i < WARM_UP_ITERATIONS; i++ ) {
+                validatorBuildService.validate( path,
+                                                rule( 0,
+                                                      i ) );
+            }
+
+            final long start = System.nanoTime();
+            for ( int i = 0; i < MEASURED_ITERATIONS; i++ ) {
+                final List<ValidationMessage> messages = validatorBuildService.validate( path,
+                                                                                         rule( 0,
+                                                                                               i ) );
+                assertTrue( messages.isEmpty() );
+            }
+            final long averageMicros = TimeUnit.NANOSECONDS.toMicros( System.nanoTime() - start ) / MEASURED_ITERATIONS;
+
+            logger.info( "Project with {} assets: average validation latency {} us",
+                         size,
+                         averageMicros );
+        }
+    }
+
+    private File generateProject( final int size ) throws Exception {
+        final File root = Files.createTempDirectory( "validation-benchmark-" + size ).toFile();
+        write( new File( root,
+                         "pom.xml" ),
+               "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n" +
+                       "  <modelVersion>4.0.0</modelVersion>\n" +
+                       "  <groupId>org.test</groupId>\n" +
+                       "  <artifactId>validation-benchmark-" + size + "</artifactId>\n" +
+                       "  <version>1.0</version>\n" +
+                       "</project>" );
+        write( new File( root,
+                         "src/main/resources/META-INF/kmodule.xml" ),
+               "<kmodule xmlns=\"http://jboss.org/kie/6.0.0/kmodule\"/>" );
+        for ( int i = 0; i < size; i++ ) {
+            write( new File( root,
+                             "src/main/resources/org/test/rule" + i + ".drl" ),
+                   rule( i,
+                         0 ) );
+        }
+        return root;
+    }
+
+    private String rule( final int index,
+                         final int revision ) {
+        return "package org.test\n" +
+                "\n" +
+                "rule R" + index + "\n" +
+                "when\n" +
+                "  $s : String( length > " + revision + " )\n" +
+                "then\n" +
+                "end";
+    }
+
+    private void write( final File file,
+                        final String content ) throws Exception {
+        file.getParentFile().mkdirs();
+        Files.write( file.toPath(),
+                     content.getBytes( StandardCharsets.UTF_8 ) );
+    }
+}
@@ -36,8 +36,12 @@ import org.slf4j.LoggerFactory;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.io.IOService;
 
+/**
+ * Looks up the diagrams in the VFS. Only the diagrams' metadata is loaded, so looking up diagrams does not require
+ * unmarshalling their graphs.
+ */
 public abstract class AbstractDiagramLookupService<M extends Metadata, D extends Diagram<Graph, M>>
-        extends AbstractVFSLookupManager<D, DiagramRepresentation, DiagramLookupRequest>
+        extends AbstractVFSLookupManager<DiagramRepresentation, DiagramRepresentation, DiagramLookupRequest>
         implements DiagramLookupManager,
                    DiagramLookupService {
 
@@ -57,25 +61,40 @@ public abstract class AbstractDiagramLookupService<M extends Metadata, D extends
     }
 
     @Override
-    protected D getItemByPath(final Path path) {
-        return diagramService.getDiagramByPath(path);
+    protected DiagramRepresentation getItemByPath(final Path path) {
+        final M metadata = diagramService.getMetadataByPath(path);
+        if (null == metadata) {
+            return null;
+        }
+        return new DiagramRepresentationImpl.DiagramRepresentationBuilder(getDiagramName(path),
+                                                                          metadata).build();
     }
 
     @Override
-    protected List<D> getItems(final DiagramLookupRequest request) {
+    protected List<DiagramRepresentation> getItems(final DiagramLookupRequest request) {
         org.uberfire.java.nio.file.Path root = parseCriteriaPath(request);
         return getItemsByPath(root);
     }
 
     @Override
     protected boolean matches(final String criteria,
-                              final Diagram item) {
+                              final DiagramRepresentation item) {
         return true;
     }
 
     @Override
-    protected DiagramRepresentation buildResult(final Diagram item) {
-        return new DiagramRepresentationImpl.DiagramRepresentationBuilder(item).build();
+    protected DiagramRepresentation buildResult(final DiagramRepresentation item) {
+        return item;
+    }
+
+    /**
+     * The diagram's name is the file name without its extension, as for the diagrams loaded by the diagram service.
+     */
+    protected static String getDiagramName(final Path path) {
+        final String fileName = path.getFileName();
+        final int extension = fileName.lastIndexOf('.');
+        return extension > 0 ? fileName.substring(0,
+                                                  extension) : fileName;
     }
 
     protected org.uberfire.java.nio.file.Path parseCriteriaPath(final DiagramLookupRequest request) {
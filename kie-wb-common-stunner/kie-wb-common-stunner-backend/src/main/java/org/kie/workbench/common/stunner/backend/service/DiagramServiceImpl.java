@@ -16,6 +16,7 @@
 
 package org.kie.workbench.common.stunner.backend.service;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.InputStream;
@@ -138,7 +139,7 @@ public class DiagramServiceImpl
 
     @Override
     protected Metadata doSave(final Diagram diagram,
-                              final String raw,
+                              final ByteArrayOutputStream raw,
                               final String metadata) {
         try {
             getIoService().startBatch(fileSystem);
@@ -146,10 +147,8 @@ public class DiagramServiceImpl
             final String name = null != _path ? _path.getFileName() : getNewFileName(diagram);
             final org.uberfire.java.nio.file.Path path =
                     null != _path ? Paths.convert(_path) : getDiagramsPath().resolve(name);
-            // Serialize the diagram's raw data.
-            LOG.debug("Serializing raw data: " + raw);
-            getIoService().write(path,
-                                 raw);
+            write(path,
+                  raw);
             final String metadataFileName = getMetadataFileName(name);
             final org.uberfire.java.nio.file.Path metadataPath =
                     getDiagramsPath().resolve(metadataFileName);
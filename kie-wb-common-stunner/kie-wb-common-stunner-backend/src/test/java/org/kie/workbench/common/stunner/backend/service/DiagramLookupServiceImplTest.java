@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.stunner.backend.service;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.diagram.MetadataImpl;
+import org.kie.workbench.common.stunner.core.lookup.diagram.DiagramRepresentation;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.io.IOService;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DiagramLookupServiceImplTest {
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private DiagramServiceImpl diagramService;
+
+    @Mock
+    private Path path;
+
+    private DiagramLookupServiceImpl tested;
+
+    @Before
+    public void setup() throws Exception {
+        when(path.getFileName()).thenReturn("diagram1.bpmn");
+        final MetadataImpl metadata = new MetadataImpl.MetadataImplBuilder("defSet1").build();
+        metadata.setTitle("title1");
+        metadata.setShapeSetId("ss1");
+        metadata.setThumbData("thumbData1");
+        metadata.setPath(path);
+        when(diagramService.getMetadataByPath(path)).thenReturn(metadata);
+        tested = new DiagramLookupServiceImpl(ioService,
+                                              diagramService);
+    }
+
+    @Test
+    public void testGetItemByPathDoesNotLoadTheDiagram() {
+        final DiagramRepresentation representation = tested.getItemByPath(path);
+        assertNotNull(representation);
+        assertEquals("diagram1",
+                     representation.getName());
+        assertEquals("title1",
+                     representation.getTitle());
+        assertEquals("defSet1",
+                     representation.getDefinitionSetId());
+        assertEquals("ss1",
+                     representation.getShapeSetId());
+        assertEquals("thumbData1",
+                     representation.getThumbImageData());
+        assertEquals(path,
+                     representation.getPath());
+        verify(diagramService,
+               never()).getDiagramByPath(any(Path.class));
+    }
+
+    @Test
+    public void testGetDiagramName() {
+        assertEquals("diagram1",
+                     AbstractDiagramLookupService.getDiagramName(path));
+        when(path.getFileName()).thenReturn("diagram1");
+        assertEquals("diagram1",
+                     AbstractDiagramLookupService.getDiagramName(path));
+    }
+}
@@ -17,6 +17,8 @@ package org.kie.workbench.common.stunner.core.definition.service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
@@ -48,6 +50,18 @@ public interface DiagramMarshaller<G extends Graph, M extends Metadata, D extend
      */
     String marshall(final D diagram) throws IOException;
 
+    /**
+     * Serializes a diagram instance of type <code>D</code> into the given stream, encoded as UTF-8. The stream is not
+     * closed. Marshallers should override it to avoid holding the whole serialized diagram in memory.
+     * @param diagram The diagram instance to serialize.
+     * @param output The stream where the serialized diagram's raw value is written.
+     * @throws IOException System I/O error.
+     */
+    default void marshall(final D diagram,
+                          final OutputStream output) throws IOException {
+        output.write(marshall(diagram).getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Provides a un/marshaller instance for the Diagram's metadata.
      * @return The diagram's metadata marshaller.
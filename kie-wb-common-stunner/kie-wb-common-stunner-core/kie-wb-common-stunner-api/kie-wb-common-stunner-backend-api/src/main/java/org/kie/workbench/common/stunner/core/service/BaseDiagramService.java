@@ -33,6 +33,12 @@ public interface BaseDiagramService<M extends Metadata, D extends Diagram<Graph,
      */
     D getDiagramByPath(final Path path);
 
+    /**
+     * Returns the Metadata for the Diagram in the given path in the service, without loading the Diagram's graph.
+     * Implementations can throw unchecked exceptions.
+     */
+    M getMetadataByPath(final Path path);
+
     /**
      * Checks if this service accepts a given Diagram by its path.
      */
@@ -17,7 +17,9 @@
 package org.kie.workbench.common.stunner.core.backend.service;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
@@ -104,9 +106,8 @@ public abstract class AbstractVFSDiagramService<M extends Metadata, D extends Di
             final D diagram = factoryManager.newDiagram(name,
                                                         defSetId,
                                                         metadata);
-            final String[] raw = serizalize(diagram);
-            ioService.write(kiePath,
-                            raw[0]);
+            write(kiePath,
+                  serialize(diagram));
             return Paths.convert(kiePath);
         } catch (final Exception e) {
             LOG.error("Cannot create diagram in path [" + kiePath + "]",
@@ -133,26 +134,11 @@ public abstract class AbstractVFSDiagramService<M extends Metadata, D extends Di
         if (accepts(file)) {
             DefinitionSetService services = getServiceByPath(file);
             if (null != services) {
-                final String defSetId = getDefinitionSetId(services);
                 final String name = parseFileName(file,
                                                   services);
-                // Check if any metadata definition exist.
-                M metadata = null;
-                InputStream metaDataStream = loadMetadataForPath(file);
-                if (null != metaDataStream) {
-                    try {
-                        metadata = (M) services.getDiagramMarshaller().getMetadataMarshaller().unmarshall(metaDataStream);
-                    } catch (java.io.IOException e) {
-                        LOG.error("Cannot unmarshall metadata for diagram's path [" + file + "]",
-                                  e);
-                    }
-                }
-                if (null == metadata) {
-                    metadata = (M) buildMetadataInstance(file,
-                                                         defSetId,
-                                                         name);
-                }
-                metadata.setPath(file);
+                final M metadata = buildMetadata(file,
+                                                 services,
+                                                 name);
                 // Parse and load the diagram raw data.
                 final InputStream is = loadPath(file);
                 try {
@@ -173,6 +159,47 @@ public abstract class AbstractVFSDiagramService<M extends Metadata, D extends Di
         throw new UnsupportedOperationException("Diagram format not supported [" + file + "]");
     }
 
+    /**
+     * Only the diagram's metadata is loaded, the diagram's raw data is neither read nor unmarshalled.
+     */
+    public M getMetadataByPath(final org.uberfire.backend.vfs.Path file) {
+        if (accepts(file)) {
+            DefinitionSetService services = getServiceByPath(file);
+            if (null != services) {
+                return buildMetadata(file,
+                                     services,
+                                     parseFileName(file,
+                                                   services));
+            }
+        }
+        throw new UnsupportedOperationException("Diagram format not supported [" + file + "]");
+    }
+
+    @SuppressWarnings("unchecked")
+    private M buildMetadata(final org.uberfire.backend.vfs.Path file,
+                            final DefinitionSetService services,
+                            final String name) {
+        final String defSetId = getDefinitionSetId(services);
+        // Check if any metadata definition exist.
+        M metadata = null;
+        InputStream metaDataStream = loadMetadataForPath(file);
+        if (null != metaDataStream) {
+            try {
+                metadata = (M) services.getDiagramMarshaller().getMetadataMarshaller().unmarshall(metaDataStream);
+            } catch (java.io.IOException e) {
+                LOG.error("Cannot unmarshall metadata for diagram's path [" + file + "]",
+                          e);
+            }
+        }
+        if (null == metadata) {
+            metadata = (M) buildMetadataInstance(file,
+                                                 defSetId,
+                                                 name);
+        }
+        metadata.setPath(file);
+        return metadata;
+    }
+
     private String parseFileName(final org.uberfire.backend.vfs.Path file,
                                  final DefinitionSetService services) {
         final String n = file.getFileName();
@@ -195,17 +222,25 @@ public abstract class AbstractVFSDiagramService<M extends Metadata, D extends Di
 
     protected abstract boolean doDelete(final Path path);
 
+    /**
+     * Persists the diagram.
+     * @param diagram The diagram to save.
+     * @param raw The diagram's marshalled raw data, to be written with {@link #write}.
+     * @param metadata The serialized diagram's metadata.
+     */
     protected abstract M doSave(final D diagram,
-                                final String raw,
+                                final ByteArrayOutputStream raw,
                                 final String metadata);
 
     @SuppressWarnings("unchecked")
     private M register(final D diagram) {
         try {
-            String[] raw = serizalize(diagram);
+            // Marshalling the diagram updates its metadata (eg: the canvas root uuid), so the metadata goes last.
+            final ByteArrayOutputStream raw = serialize(diagram);
+            final String metadata = serializeMetadata(diagram);
             return doSave(diagram,
-                          raw[0],
-                          raw[1]);
+                          raw,
+                          metadata);
         } catch (Exception e) {
             LOG.error("Error while saving diagram with UUID [" + diagram.getName() + "].",
                       e);
@@ -213,16 +248,47 @@ public abstract class AbstractVFSDiagramService<M extends Metadata, D extends Di
         }
     }
 
+    /**
+     * Writes the diagram's raw data into the given stream, without closing it.
+     */
+    @SuppressWarnings("unchecked")
+    protected void serialize(final D diagram,
+                             final OutputStream output) throws java.io.IOException {
+        // Serialize using the concrete marshalling service.
+        getDiagramMarshaller(diagram).marshall((Diagram<Graph, Metadata>) diagram,
+                                               output);
+    }
+
+    /**
+     * Marshalls the diagram's raw data into memory. The target file is only opened once marshalling succeeded, so a
+     * failure does not leave a truncated file behind.
+     */
+    protected ByteArrayOutputStream serialize(final D diagram) throws java.io.IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        serialize(diagram,
+                  output);
+        return output;
+    }
+
+    /**
+     * Writes the diagram's marshalled raw data into the given file, straight from the buffer.
+     */
+    protected void write(final org.uberfire.java.nio.file.Path path,
+                         final ByteArrayOutputStream raw) throws java.io.IOException {
+        try (OutputStream output = ioService.newOutputStream(path)) {
+            raw.writeTo(output);
+        }
+    }
+
+    protected String serializeMetadata(final D diagram) throws java.io.IOException {
+        return getDiagramMarshaller(diagram).getMetadataMarshaller().marshall(diagram.getMetadata());
+    }
+
     @SuppressWarnings("unchecked")
-    protected String[] serizalize(final D diagram) throws java.io.IOException {
+    private DiagramMarshaller<Graph, Metadata, Diagram<Graph, Metadata>> getDiagramMarshaller(final D diagram) {
         final String defSetId = diagram.getMetadata().getDefinitionSetId();
         final DefinitionSetService services = getServiceById(defSetId);
-        // Serialize using the concrete marshalling service.
-        DiagramMarshaller<Graph, Metadata, Diagram<Graph, Metadata>> marshaller = services.getDiagramMarshaller();
-        final String rawData = marshaller.marshall((Diagram<Graph, Metadata>) diagram);
-        final Metadata metadata = diagram.getMetadata();
-        final String metadataRaw = marshaller.getMetadataMarshaller().marshall(metadata);
-        return new String[]{rawData, metadataRaw};
+        return services.getDiagramMarshaller();
     }
 
     public boolean contains(final D item) {
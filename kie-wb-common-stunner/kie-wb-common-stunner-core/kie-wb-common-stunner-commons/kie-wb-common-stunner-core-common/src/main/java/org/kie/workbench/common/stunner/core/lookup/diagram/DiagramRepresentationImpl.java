@@ -20,6 +20,7 @@ import org.jboss.errai.common.client.api.annotations.MapsTo;
 import org.jboss.errai.common.client.api.annotations.NonPortable;
 import org.jboss.errai.common.client.api.annotations.Portable;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.uberfire.backend.vfs.Path;
 
 @Portable
@@ -81,16 +82,33 @@ public final class DiagramRepresentationImpl implements DiagramRepresentation {
 
         private final Diagram diagram;
         private final DiagramRepresentation representation;
+        private final String name;
+        private final Metadata metadata;
         private String shapeSetId;
 
         public DiagramRepresentationBuilder(final Diagram diagram) {
             this.diagram = diagram;
             this.representation = null;
+            this.name = null;
+            this.metadata = null;
         }
 
         public DiagramRepresentationBuilder(final DiagramRepresentation representation) {
             this.representation = representation;
             this.diagram = null;
+            this.name = null;
+            this.metadata = null;
+        }
+
+        /**
+         * Builds the representation for a diagram from its name and metadata, so the diagram's graph is not required.
+         */
+        public DiagramRepresentationBuilder(final String name,
+                                            final Metadata metadata) {
+            this.name = name;
+            this.metadata = metadata;
+            this.diagram = null;
+            this.representation = null;
         }
 
         public DiagramRepresentationBuilder setShapeSetId(final String shapeSetId) {
@@ -107,6 +125,14 @@ public final class DiagramRepresentationImpl implements DiagramRepresentation {
                                                      diagram.getMetadata().getPath(),
                                                      diagram.getMetadata().getThumbData());
             }
+            if (null != metadata) {
+                return new DiagramRepresentationImpl(name,
+                                                     metadata.getTitle(),
+                                                     metadata.getDefinitionSetId(),
+                                                     null != shapeSetId ? shapeSetId : metadata.getShapeSetId(),
+                                                     metadata.getPath(),
+                                                     metadata.getThumbData());
+            }
             return new DiagramRepresentationImpl(representation.getName(),
                                                  representation.getTitle(),
                                                  representation.getDefinitionSetId(),
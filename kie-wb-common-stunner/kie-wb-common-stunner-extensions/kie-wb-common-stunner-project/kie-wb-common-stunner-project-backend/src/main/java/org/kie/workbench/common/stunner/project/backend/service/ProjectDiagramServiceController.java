@@ -16,6 +16,7 @@
 
 package org.kie.workbench.common.stunner.project.backend.service;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.util.Map;
 import javax.enterprise.inject.Instance;
@@ -128,9 +129,9 @@ class ProjectDiagramServiceController extends AbstractVFSDiagramService<ProjectM
                      final Map<String, ?> attributes,
                      final OpenOption... comment) {
         try {
-            String[] raw = serizalize(diagram);
+            // The attributes are written together with the content, which can only be given as a byte array.
             getIoService().write(Paths.convert(path),
-                                 raw[0],
+                                 serialize(diagram).toByteArray(),
                                  attributes,
                                  comment);
         } catch (Exception e) {
@@ -143,7 +144,7 @@ class ProjectDiagramServiceController extends AbstractVFSDiagramService<ProjectM
 
     @Override
     protected ProjectMetadata doSave(final ProjectDiagram diagram,
-                                     final String raw,
+                                     final ByteArrayOutputStream raw,
                                      final String metadata) {
         try {
             Path _path = diagram.getMetadata().getPath();
@@ -153,8 +154,8 @@ class ProjectDiagramServiceController extends AbstractVFSDiagramService<ProjectM
                 final String fileName = path.getFileName().toString();
                 path = parent.resolve(fileName);
             }
-            getIoService().write(path,
-                                 raw);
+            write(path,
+                  raw);
         } catch (Exception e) {
             LOG.error("Error while saving diagram with UUID [" + diagram.getName() + "].",
                       e);
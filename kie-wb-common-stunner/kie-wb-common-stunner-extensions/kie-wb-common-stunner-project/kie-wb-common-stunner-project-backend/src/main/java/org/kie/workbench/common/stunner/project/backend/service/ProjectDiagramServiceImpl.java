@@ -108,6 +108,11 @@ public class ProjectDiagramServiceImpl extends KieService<ProjectDiagram>
         return controller.getDiagramByPath(path);
     }
 
+    @Override
+    public ProjectMetadata getMetadataByPath(final Path path) {
+        return controller.getMetadataByPath(path);
+    }
+
     @Override
     public boolean accepts(final Path path) {
         return controller.accepts(path);
@@ -16,25 +16,15 @@
 
 package org.kie.workbench.common.stunner.bpmn.backend;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.OutputStream;
 
-import bpsim.impl.BpsimPackageImpl;
-import org.eclipse.bpmn2.Bpmn2Package;
 import org.eclipse.bpmn2.Definitions;
-import org.eclipse.bpmn2.DocumentRoot;
-import org.eclipse.emf.common.util.URI;
-import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
-import org.jboss.drools.DroolsPackage;
-import org.jboss.drools.impl.DroolsPackageImpl;
 import org.kie.workbench.common.stunner.backend.service.XMLEncoderDiagramMetadataMarshaller;
 import org.kie.workbench.common.stunner.bpmn.backend.legacy.profile.impl.DefaultProfileImpl;
-import org.kie.workbench.common.stunner.bpmn.backend.legacy.resource.JBPMBpmn2ResourceFactoryImpl;
-import org.kie.workbench.common.stunner.bpmn.backend.legacy.resource.JBPMBpmn2ResourceImpl;
+import org.kie.workbench.common.stunner.bpmn.backend.marshall.Bpmn2DefinitionsParser;
 import org.kie.workbench.common.stunner.bpmn.backend.marshall.json.Bpmn2Marshaller;
 import org.kie.workbench.common.stunner.bpmn.backend.marshall.json.Bpmn2UnMarshaller;
 import org.kie.workbench.common.stunner.bpmn.backend.marshall.json.builder.GraphObjectBuilderFactory;
@@ -95,25 +85,35 @@ public abstract class BaseDiagramMarshaller<D> implements DiagramMarshaller<Grap
     @Override
     @SuppressWarnings("unchecked")
     public String marshall(final Diagram diagram) throws IOException {
-        LOG.debug("Starting diagram marshalling...");
-
-        final Bpmn2Marshaller marshaller = new Bpmn2Marshaller(definitionManager,
-                                                               oryxManager);
-        String result = null;
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         try {
-            // Marshall the diagram definition
-            result = marshaller.marshall(diagram);
-
-            // Update diagram's settings.
-            updateRootUUID(diagram.getMetadata(),
-                           diagram.getGraph());
+            marshall(diagram,
+                     outputStream);
         } catch (IOException e) {
             LOG.error("Error marshalling file.",
                       e);
+            return null;
         }
+        return outputStream.toString("UTF-8");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void marshall(final Diagram diagram,
+                         final OutputStream outputStream) throws IOException {
+        LOG.debug("Starting diagram marshalling...");
+
+        final Bpmn2Marshaller marshaller = new Bpmn2Marshaller(definitionManager,
+                                                               oryxManager);
+        // Marshall the diagram definition
+        marshaller.marshall(diagram,
+                            outputStream);
+
+        // Update diagram's settings.
+        updateRootUUID(diagram.getMetadata(),
+                       diagram.getGraph());
 
         LOG.debug("Diagram marshalling finished successfully.");
-        return result;
     }
 
     @Override
@@ -195,39 +195,10 @@ public abstract class BaseDiagramMarshaller<D> implements DiagramMarshaller<Grap
 
     private Definitions parseDefinitions(final InputStream inputStream) throws IOException {
         try {
-            DroolsPackageImpl.init();
-            BpsimPackageImpl.init();
-
-            final ResourceSet resourceSet = new ResourceSetImpl();
-            resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(Resource.Factory.Registry.DEFAULT_EXTENSION,
-                                                                                    new JBPMBpmn2ResourceFactoryImpl());
-            resourceSet.getPackageRegistry().put("http://www.omg.org/spec/BPMN/20100524/MODEL",
-                                                 Bpmn2Package.eINSTANCE);
-            resourceSet.getPackageRegistry().put("http://www.jboss.org/drools",
-                                                 DroolsPackage.eINSTANCE);
-
-            final JBPMBpmn2ResourceImpl resource = (JBPMBpmn2ResourceImpl) resourceSet.createResource(URI.createURI("inputStream://dummyUriWithValidSuffix.xml"));
-            resource.getDefaultLoadOptions().put(JBPMBpmn2ResourceImpl.OPTION_ENCODING,
-                                                 "UTF-8");
-            resource.setEncoding("UTF-8");
-
-            final Map<String, Object> options = new HashMap<String, Object>();
-            options.put(JBPMBpmn2ResourceImpl.OPTION_ENCODING,
-                        "UTF-8");
-            options.put(JBPMBpmn2ResourceImpl.OPTION_DEFER_IDREF_RESOLUTION,
-                        true);
-            options.put(JBPMBpmn2ResourceImpl.OPTION_DISABLE_NOTIFY,
-                        true);
-            options.put(JBPMBpmn2ResourceImpl.OPTION_PROCESS_DANGLING_HREF,
-                        JBPMBpmn2ResourceImpl.OPTION_PROCESS_DANGLING_HREF_RECORD);
-
-            resource.load(inputStream,
-                          options);
-
-            final DocumentRoot root = (DocumentRoot) resource.getContents().get(0);
-            return root.getDefinitions();
+            return Bpmn2DefinitionsParser.getInstance().parse(inputStream);
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.error("Error parsing BPMN2 definitions.",
+                      e);
         } finally {
             if (inputStream != null) {
                 inputStream.close();
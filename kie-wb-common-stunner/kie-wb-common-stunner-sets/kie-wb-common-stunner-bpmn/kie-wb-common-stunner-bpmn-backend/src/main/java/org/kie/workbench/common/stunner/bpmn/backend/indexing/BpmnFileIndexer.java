@@ -24,24 +24,18 @@ import javax.inject.Inject;
 
 import org.apache.commons.lang3.StringUtils;
 import org.drools.compiler.builder.impl.KnowledgeBuilderConfigurationImpl;
+import org.drools.compiler.builder.impl.KnowledgeBuilderImpl;
 import org.drools.core.io.impl.ByteArrayResource;
-import org.drools.core.io.impl.ReaderResource;
 import org.drools.core.xml.SemanticModules;
 import org.guvnor.common.services.project.model.Package;
 import org.guvnor.common.services.project.model.Project;
 import org.jbpm.bpmn2.xml.BPMNDISemanticModule;
 import org.jbpm.bpmn2.xml.BPMNExtensionsSemanticModule;
 import org.jbpm.bpmn2.xml.BPMNSemanticModule;
+import org.jbpm.compiler.ProcessBuilderImpl;
 import org.jbpm.compiler.xml.XmlProcessReader;
-import org.jbpm.process.core.validation.ProcessValidationError;
-import org.jbpm.process.core.validation.ProcessValidator;
-import org.jbpm.process.core.validation.ProcessValidatorRegistry;
 import org.kie.api.definition.process.Process;
 import org.kie.api.io.Resource;
-import org.kie.api.io.ResourceType;
-import org.kie.internal.builder.KnowledgeBuilder;
-import org.kie.internal.builder.KnowledgeBuilderError;
-import org.kie.internal.builder.KnowledgeBuilderFactory;
 import org.kie.workbench.common.services.backend.project.ProjectClassLoaderHelper;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.AbstractFileIndexer;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.DefaultIndexBuilder;
@@ -90,78 +84,20 @@ public class BpmnFileIndexer extends AbstractFileIndexer {
         // responsible for basic index info: project name, branch, etc
         final DefaultIndexBuilder builder = getIndexBuilder(path,
                                                             project);
-        String bpmnStr = ioService.readAllString(path);
-        ClassLoader projectClassLoader = getProjectClassLoader(project);
+        final String bpmnStr = ioService.readAllString(path);
+        final ClassLoader projectClassLoader = getProjectClassLoader(project);
 
-        try {
-            List<BpmnProcessDataEventListener> processDataList = buildProcessDefinition(bpmnStr,
-                                                                                        projectClassLoader);
-            if (processDataList != null) {
-                for (BpmnProcessDataEventListener processData : processDataList) {
-                    addReferencedResourcesToIndexBuilder(builder,
-                                                         processData);
-                    builder.setPackageName(processData.getProcess().getPackageName());
-                }
-            }
-        } catch (Exception e) {
-            // log and ignore
-            logger.info("Indexing hampered because BPMN2 compilation failed [" + path.toString() + "]: " + e.getMessage());
-        }
-
-        /**
-         * IMPORTANT: sometimes the build of the BPMN2 might fail for minor reasons, including things like
-         * a bad script in a script task
-         *
-         * When this happens, we (re)parse the process definition, but do not completely "build" it
-         * (as in, what org.jbpm.compiler.ProcessBuilderImpl.buildProcess(Process, Resource) does).
-         *
-         *
-         * It *would* be more efficient to basically copy/paste the
-         * jbpm-flow-builder org.jbpm.compiler.ProcessBuilderImpl.addProcessFromXml(Resource) logic here,
-         * so that we do something like:
-         *
-         * 1. Use the XmlProcessReader to create a process
-         * 2. *try* to build the rest of the process (and fail safely if not)
-         * 3. do XmlProcessReader.getProcessBuildData().onBuildComplete(process)
-         *    to complete collecting the information
-         *
-         * But... that's a high maintenance cost for this piece of software
-         *
-         * So until we can refactor the ProcessBuilderImpl logic (using functional logic for conditional handling?)
-         * to be used here, let's keep it simple (as in, parsing the BPMN2 a second time when the build fails..)
-         */
-
-        // parse process definitions
-        XmlProcessReader processReader = new XmlProcessReader(modules,
-                                                              projectClassLoader);
-        List<Process> processes = Collections.emptyList();
-        try {
-            processes = processReader.read(new StringReader(bpmnStr));
-        } catch (Exception e) {
-            logger.info("Unable to index because BPMN2 parsing failed [" + path.toString() + "]: " + e.getMessage());
-        }
-
-        // complete process definition processing
-        if (processes != null) {
-            for (Process process : processes) {
-                Resource resource = new ReaderResource(new StringReader(bpmnStr));
-                ProcessValidationError[] errors;
-
-                ProcessValidator validator = ProcessValidatorRegistry.getInstance().getValidator(process,
-                                                                                                 resource);
-                errors = validator.validateProcess(process);
-                if (errors.length > 0) {
-                    logger.error("Trying to finish indexing process '" + process.getId() + "/" + process.getName() + "' despite " + errors.length + " validation errors.");
-                }
-                processReader.getProcessBuildData().onBuildComplete(process);
-
-                BpmnProcessDataEventListener helper = (BpmnProcessDataEventListener) process.getMetaData().get(BpmnProcessDataEventListener.NAME);
-                addReferencedResourcesToIndexBuilder(builder,
-                                                     helper);
-            }
-        } else {
+        final List<BpmnProcessDataEventListener> processDataList = readProcessData(bpmnStr,
+                                                                                   projectClassLoader,
+                                                                                   path.toUri().toString());
+        if (processDataList.isEmpty()) {
             logger.warn("No process was found in file: " + path.toUri());
         }
+        for (BpmnProcessDataEventListener processData : processDataList) {
+            addReferencedResourcesToIndexBuilder(builder,
+                                                 processData);
+            builder.setPackageName(processData.getProcess().getPackageName());
+        }
 
         return builder;
     }
@@ -171,48 +107,70 @@ public class BpmnFileIndexer extends AbstractFileIndexer {
         return classLoaderHelper.getProjectClassLoader(project);
     }
 
-    private List<BpmnProcessDataEventListener> buildProcessDefinition(String bpmn2Content,
-                                                                      ClassLoader projectClassLoader) throws IllegalArgumentException {
+    /**
+     * Collects the indexing information of the processes defined in a BPMN2 file, parsing the file only once. This
+     * does what org.jbpm.compiler.ProcessBuilderImpl.addProcessFromXml(Resource) does, except that:
+     * 1. a process that fails to build (e.g. because of a bad script in a script task) is still indexed with the
+     * information collected while parsing it
+     * 2. the generated rules and actions are not compiled, as compiling them adds nothing to the index
+     */
+    protected List<BpmnProcessDataEventListener> readProcessData(final String bpmn2Content,
+                                                                 final ClassLoader projectClassLoader,
+                                                                 final String uri) {
         if (StringUtils.isEmpty(bpmn2Content)) {
-            return Collections.<BpmnProcessDataEventListener>emptyList();
+            return Collections.emptyList();
         }
 
-        // Set class loader
-        KnowledgeBuilder kbuilder = null;
-        if (projectClassLoader != null) {
-            KnowledgeBuilderConfigurationImpl pconf = new KnowledgeBuilderConfigurationImpl(projectClassLoader);
-            kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder(pconf);
-        } else {
-            kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        // parse process definitions
+        final XmlProcessReader processReader = new XmlProcessReader(modules,
+                                                                    projectClassLoader);
+        final List<Process> processes;
+        try {
+            processes = processReader.read(new StringReader(bpmn2Content));
+        } catch (Exception e) {
+            logger.info("Unable to index because BPMN2 parsing failed [" + uri + "]: " + e.getMessage());
+            return Collections.emptyList();
+        }
+        if (processes == null || processes.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        // Build
-        kbuilder.add(new ByteArrayResource(bpmn2Content.getBytes()),
-                     ResourceType.BPMN2);
-        if (kbuilder.hasErrors()) {
-            for (KnowledgeBuilderError error : kbuilder.getErrors()) {
-                logger.error("Error: {}",
-                             error.getMessage());
+        // build the process definitions, collecting the types referenced by the scripts and constraints
+        final ProcessBuilderImpl processBuilder = new ProcessBuilderImpl(newKnowledgeBuilder(projectClassLoader));
+        final Resource resource = new ByteArrayResource(bpmn2Content.getBytes());
+        final List<BpmnProcessDataEventListener> processDataList = new ArrayList<>(processes.size());
+        for (Process process : processes) {
+            final int previousErrors = processBuilder.getErrors().size();
+            try {
+                processBuilder.buildProcess(process,
+                                            resource);
+            } catch (Exception e) {
+                // log and ignore: the information collected while parsing is still indexed
+                logger.info("Indexing hampered because BPMN2 compilation failed [" + uri + "]: " + e.getMessage());
+            }
+            final int errors = processBuilder.getErrors().size() - previousErrors;
+            if (errors > 0) {
+                logger.error("Trying to finish indexing process '" + process.getId() + "/" + process.getName() + "' despite " + errors + " validation errors.");
             }
-            logger.debug("Process Cannot be Parsed! \n {} \n",
-                         bpmn2Content);
-            return Collections.<BpmnProcessDataEventListener>emptyList();
-        }
 
-        // Retrieve ProcessInfoHolder
-        List<BpmnProcessDataEventListener> processDataList = new ArrayList<>();
-        kbuilder.getKnowledgePackages().forEach(
-                pkg ->
-                        pkg.getProcesses().forEach(
-                                p -> {
-                                    BpmnProcessDataEventListener processData
-                                            = (BpmnProcessDataEventListener) p.getMetaData().get(BpmnProcessDataEventListener.NAME);
-                                    processDataList.add(processData);
-                                })
-        );
+            // complete process definition processing
+            processReader.getProcessBuildData().onBuildComplete(process);
+
+            final BpmnProcessDataEventListener processData = (BpmnProcessDataEventListener) process.getMetaData().get(BpmnProcessDataEventListener.NAME);
+            if (processData != null) {
+                processDataList.add(processData);
+            }
+        }
         return processDataList;
     }
 
+    private KnowledgeBuilderImpl newKnowledgeBuilder(final ClassLoader projectClassLoader) {
+        if (projectClassLoader != null) {
+            return new KnowledgeBuilderImpl(new KnowledgeBuilderConfigurationImpl(projectClassLoader));
+        }
+        return new KnowledgeBuilderImpl();
+    }
+
     protected DefaultIndexBuilder getIndexBuilder(Path path,
                                                   Project project) {
         final Package pkg = projectService.resolvePackage(Paths.convert(path));
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.marshall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import bpsim.impl.BpsimPackageImpl;
+import org.eclipse.bpmn2.Bpmn2Package;
+import org.eclipse.bpmn2.Definitions;
+import org.eclipse.bpmn2.DocumentRoot;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
+import org.jboss.drools.DroolsPackage;
+import org.jboss.drools.impl.DroolsPackageImpl;
+import org.kie.workbench.common.stunner.bpmn.backend.legacy.resource.JBPMBpmn2ResourceFactoryImpl;
+
+/**
+ * Parses BPMN2 XML into its EMF {@link Definitions}. The EMF packages are initialized once, and the configured
+ * ResourceSets are pooled and re-used: each parsed resource is removed from its ResourceSet once loaded, so pooled
+ * ResourceSets don't retain previously parsed models. The returned Definitions stay fully loaded, they're just no
+ * longer attached to a ResourceSet.
+ */
+public class Bpmn2DefinitionsParser {
+
+    public static final int DEFAULT_POOL_SIZE = 4;
+
+    private static final String BPMN2_URI = "http://www.omg.org/spec/BPMN/20100524/MODEL";
+
+    private static final String RESOURCE_URI = "inputStream://dummyUriWithValidSuffix.xml";
+
+    private static final Bpmn2DefinitionsParser INSTANCE = new Bpmn2DefinitionsParser(DEFAULT_POOL_SIZE);
+
+    // The SAX parsers are costly to create and the pool is thread safe, so it's shared by all the ResourceSets
+    private static final XMLParserPoolImpl PARSER_POOL = new XMLParserPoolImpl(true);
+
+    static {
+        DroolsPackageImpl.init();
+        BpsimPackageImpl.init();
+    }
+
+    private final BlockingQueue<PooledResourceSet> idle;
+
+    public Bpmn2DefinitionsParser(final int poolSize) {
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    public static Bpmn2DefinitionsParser getInstance() {
+        return INSTANCE;
+    }
+
+    public Definitions parse(final InputStream inputStream) throws IOException {
+        final PooledResourceSet pooled = borrow();
+        final Resource resource = pooled.resourceSet.createResource(URI.createURI(RESOURCE_URI));
+        try {
+            ((XMLResource) resource).setEncoding("UTF-8");
+            resource.load(inputStream,
+                          pooled.loadOptions);
+            final DocumentRoot root = (DocumentRoot) resource.getContents().get(0);
+            return root.getDefinitions();
+        } finally {
+            pooled.resourceSet.getResources().remove(resource);
+            idle.offer(pooled);
+        }
+    }
+
+    /**
+     * @return The number of configured ResourceSets currently available for re-use.
+     */
+    public int getIdleResourceSets() {
+        return idle.size();
+    }
+
+    private PooledResourceSet borrow() {
+        final PooledResourceSet pooled = idle.poll();
+        return pooled != null ? pooled : new PooledResourceSet();
+    }
+
+    private static class PooledResourceSet {
+
+        private final ResourceSet resourceSet = new ResourceSetImpl();
+
+        // The name to feature cache only depends on the BPMN2 schema, but it is not thread safe
+        private final Map<Object, Object> nameToFeatureMap = new HashMap<>();
+
+        private final Map<String, Object> loadOptions = new HashMap<>();
+
+        private PooledResourceSet() {
+            resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(Resource.Factory.Registry.DEFAULT_EXTENSION,
+                                                                                    new JBPMBpmn2ResourceFactoryImpl());
+            resourceSet.getPackageRegistry().put(BPMN2_URI,
+                                                 Bpmn2Package.eINSTANCE);
+            resourceSet.getPackageRegistry().put(DroolsPackage.eNS_URI,
+                                                 DroolsPackage.eINSTANCE);
+
+            loadOptions.put(XMLResource.OPTION_ENCODING,
+                            "UTF-8");
+            loadOptions.put(XMLResource.OPTION_DEFER_IDREF_RESOLUTION,
+                            true);
+            loadOptions.put(XMLResource.OPTION_DISABLE_NOTIFY,
+                            true);
+            loadOptions.put(XMLResource.OPTION_PROCESS_DANGLING_HREF,
+                            XMLResource.OPTION_PROCESS_DANGLING_HREF_RECORD);
+            loadOptions.put(XMLResource.OPTION_USE_PARSER_POOL,
+                            PARSER_POOL);
+            loadOptions.put(XMLResource.OPTION_USE_XML_NAME_TO_FEATURE_MAP,
+                            nameToFeatureMap);
+            loadOptions.put(XMLResource.OPTION_USE_DEPRECATED_METHODS,
+                            false);
+        }
+    }
+}
@@ -18,10 +18,12 @@ package org.kie.workbench.common.stunner.bpmn.backend.marshall.json;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
 import bpsim.impl.BpsimFactoryImpl;
-import org.apache.commons.lang3.StringEscapeUtils;
 import org.jboss.drools.impl.DroolsFactoryImpl;
 import org.kie.workbench.common.stunner.bpmn.backend.legacy.Bpmn2JsonUnmarshaller;
 import org.kie.workbench.common.stunner.bpmn.backend.legacy.resource.JBPMBpmn2ResourceImpl;
@@ -45,15 +47,27 @@ public class Bpmn2Marshaller extends Bpmn2JsonUnmarshaller {
     }
 
     public String marshall(final Diagram<Graph, Metadata> diagram) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        marshall(diagram,
+                 outputStream);
+        return outputStream.toString("UTF-8");
+    }
+
+    /**
+     * Writes the BPMN2 XML for the diagram into the given stream, without closing it.
+     */
+    public void marshall(final Diagram<Graph, Metadata> diagram,
+                         final OutputStream outputStream) throws IOException {
         DroolsFactoryImpl.init();
         BpsimFactoryImpl.init();
         BPMN2JsonParser parser = createParser(diagram);
         JBPMBpmn2ResourceImpl res = (JBPMBpmn2ResourceImpl) super.unmarshall(parser,
                                                                              null);
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        res.save(outputStream,
+        UnescapeHtml4Writer writer = new UnescapeHtml4Writer(new OutputStreamWriter(outputStream,
+                                                                                    StandardCharsets.UTF_8));
+        res.save(writer,
                  new HashMap<>());
-        return StringEscapeUtils.unescapeHtml4(outputStream.toString("UTF-8"));
+        writer.finish();
     }
 
     private BPMN2JsonParser createParser(final Diagram<Graph, Metadata> diagram) {
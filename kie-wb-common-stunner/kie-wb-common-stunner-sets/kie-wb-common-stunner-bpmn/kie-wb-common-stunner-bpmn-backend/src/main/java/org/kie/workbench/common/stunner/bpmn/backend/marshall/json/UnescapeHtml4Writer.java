@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.marshall.json;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.apache.commons.lang3.StringEscapeUtils;
+
+/**
+ * Unescapes the HTML 4 entities of the written characters, as {@link StringEscapeUtils#unescapeHtml4(String)} does
+ * for a whole String. The characters from the last '&amp;' on are held back while they could still be the start of
+ * an entity, so the entities split across two writes are unescaped as well.
+ */
+class UnescapeHtml4Writer extends Writer {
+
+    // "&thetasym;" and "&#x10FFFF;" are the longest entities.
+    private static final int MAX_ENTITY_LENGTH = 10;
+
+    private final Writer out;
+    private final StringBuilder pending = new StringBuilder();
+
+    UnescapeHtml4Writer(final Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(final char[] chars,
+                      final int offset,
+                      final int length) throws IOException {
+        pending.append(chars,
+                       offset,
+                       length);
+        int end = pending.length();
+        final int ampersand = pending.lastIndexOf("&");
+        if (ampersand >= 0 && end - ampersand <= MAX_ENTITY_LENGTH && pending.indexOf(";",
+                                                                                   ampersand) < 0) {
+            end = ampersand;
+        }
+        translate(end);
+    }
+
+    /**
+     * Writes the held back characters and flushes the underlying Writer, without closing it.
+     */
+    public void finish() throws IOException {
+        translate(pending.length());
+        out.flush();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        out.close();
+    }
+
+    private void translate(final int end) throws IOException {
+        if (end > 0) {
+            StringEscapeUtils.UNESCAPE_HTML4.translate(pending.subSequence(0,
+                                                                           end),
+                                                       out);
+            pending.delete(0,
+                           end);
+        }
+    }
+}
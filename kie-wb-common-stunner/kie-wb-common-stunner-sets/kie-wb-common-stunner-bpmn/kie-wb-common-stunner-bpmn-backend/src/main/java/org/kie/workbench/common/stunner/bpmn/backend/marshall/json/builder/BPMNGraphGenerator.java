@@ -20,7 +20,9 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Stack;
 
 import org.codehaus.jackson.Base64Variant;
@@ -55,12 +57,16 @@ import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
 import org.kie.workbench.common.stunner.core.rule.RuleManager;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.kie.workbench.common.stunner.core.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Support for a basic single process hierarchy
  */
 public class BPMNGraphGenerator extends JsonGenerator {
 
+    private static final Logger LOG = LoggerFactory.getLogger(BPMNGraphGenerator.class);
+
     private final GraphObjectBuilderFactory bpmnGraphBuilderFactory;
     private final DefinitionManager definitionManager;
     private final FactoryManager factoryManager;
@@ -74,6 +80,8 @@ public class BPMNGraphGenerator extends JsonGenerator {
     private final Stack<GraphObjectBuilder> nodeBuilders = new Stack<>();
     private final Stack<GraphObjectParser> parsers = new Stack<GraphObjectParser>();
     private final Collection<GraphObjectBuilder<?, ?>> builders = new LinkedList<GraphObjectBuilder<?, ?>>();
+    // Builders are looked up by node id for every outgoing and child reference, so keep them indexed.
+    private final Map<String, GraphObjectBuilder<?, ?>> buildersById = new HashMap<>();
     Graph<DefinitionSet, Node> graph;
     boolean isClosed;
 
@@ -193,11 +201,17 @@ public class BPMNGraphGenerator extends JsonGenerator {
 
         Graph<DefinitionSet, Node> graph;
         Index<?, ?> index;
+        GraphCommandExecutionContext executionContext;
 
         @Override
         public GraphObjectBuilder.BuilderContext init(final Graph<DefinitionSet, Node> graph) {
             this.graph = graph;
             this.index = indexBuilder.build(graph);
+            // No rules are checked while building the graph, so a single context is shared by all the commands.
+            this.executionContext = new EmptyRulesCommandExecutionContext(definitionManager,
+                                                                          factoryManager,
+                                                                          ruleManager,
+                                                                          index);
             return this;
         }
 
@@ -211,6 +225,11 @@ public class BPMNGraphGenerator extends JsonGenerator {
             return builders;
         }
 
+        @Override
+        public GraphObjectBuilder<?, ?> getBuilder(final String nodeId) {
+            return buildersById.get(nodeId);
+        }
+
         @Override
         public DefinitionManager getDefinitionManager() {
             return definitionManager;
@@ -228,11 +247,6 @@ public class BPMNGraphGenerator extends JsonGenerator {
 
         @SuppressWarnings("unchecked")
         public CommandResult<RuleViolation> execute(final Command<GraphCommandExecutionContext, RuleViolation> command) {
-            GraphCommandExecutionContext executionContext =
-                    new EmptyRulesCommandExecutionContext(definitionManager,
-                                                          factoryManager,
-                                                          ruleManager,
-                                                          index);
             return commandManager.execute(executionContext,
                                           command);
         }
@@ -244,9 +258,11 @@ public class BPMNGraphGenerator extends JsonGenerator {
 
     // For local testing...
     private void logBuilders() {
-        log("Logging builders at close time...");
-        for (GraphObjectBuilder<?, ?> builder : builders) {
-            log(builder.toString());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Logging builders at close time...");
+            for (GraphObjectBuilder<?, ?> builder : builders) {
+                LOG.debug(builder.toString());
+            }
         }
     }
 
@@ -311,6 +327,11 @@ public class BPMNGraphGenerator extends JsonGenerator {
         public void writeEndObject() {
             GraphObjectBuilder builder = nodeBuilders.pop();
             builders.add(builder);
+            String nodeId = ((AbstractObjectBuilder) builder).nodeId;
+            if (null != nodeId) {
+                buildersById.putIfAbsent(nodeId,
+                                         builder);
+            }
             parsers.pop();
         }
 
@@ -587,10 +608,6 @@ public class BPMNGraphGenerator extends JsonGenerator {
         }
     }
 
-    private void log(final String message) {
-        System.out.println(message);
-    }
-
     /***********************************************************************************
      * NOT IMPLEMENTED METHODS.
      ***********************************************************************************/
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.marshall;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+/**
+ * Measures the BPMN2 parsing throughput, in files per second, and the heap retained once the parsed Definitions are
+ * discarded. The retained heap should not grow with the number of parsed files.
+ * <p>
+ * Run with <code>mvn test -Dtest=Bpmn2DefinitionsParserBenchmarkTest -Dkie.wb.benchmark=true</code>
+ */
+public class Bpmn2DefinitionsParserBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(Bpmn2DefinitionsParserBenchmarkTest.class);
+
+    private static final String DIAGRAMS = "/org/kie/workbench/common/stunner/bpmn/backend/service/diagram/";
+
+    private static final String[] CORPUS = {
+            DIAGRAMS + "basic.bpmn",
+            DIAGRAMS + "businessRuleTask.bpmn",
+            DIAGRAMS + "evaluation.bpmn",
+            DIAGRAMS + "lanes.bpmn",
+            DIAGRAMS + "processVariables.bpmn",
+            DIAGRAMS + "userTaskAssignments.bpmn",
+            DIAGRAMS + "xorGateway.bpmn"
+    };
+
+    private static final int WARM_UP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    private final List<byte[]> corpus = new ArrayList<>();
+    private final Bpmn2DefinitionsParser parser = Bpmn2DefinitionsParser.getInstance();
+
+    @Before
+    public void setUp() throws Exception {
+        assumeTrue(Boolean.getBoolean("kie.wb.benchmark"));
+        for (String file : CORPUS) {
+            try (InputStream is = getClass().getResourceAsStream(file);
+                 Scanner scanner = new Scanner(is,
+                                               "UTF-8")) {
+                corpus.add(scanner.useDelimiter("\\A").next().getBytes("UTF-8"));
+            }
+        }
+    }
+
+    @Test
+    public void testParsingThroughput() throws Exception {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            parseCorpus();
+        }
+        final long heapBefore = usedHeap();
+
+        int definitions = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            definitions += parseCorpus();
+        }
+        final long elapsedMillis = Math.max(1,
+                                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        final long heapAfter = usedHeap();
+        final long files = (long) corpus.size() * MEASURED_ITERATIONS;
+
+        assertEquals(files,
+                     definitions);
+        logger.info("Parsed {} BPMN2 files in {} ms: {} files/second",
+                    files,
+                    elapsedMillis,
+                    files * 1000 / elapsedMillis);
+        logger.info("Used heap before {} KB, after {} KB",
+                    heapBefore / 1024,
+                    heapAfter / 1024);
+    }
+
+    private int parseCorpus() throws Exception {
+        int definitions = 0;
+        for (byte[] content : corpus) {
+            if (parser.parse(new ByteArrayInputStream(content)) != null) {
+                definitions++;
+            }
+        }
+        return definitions;
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
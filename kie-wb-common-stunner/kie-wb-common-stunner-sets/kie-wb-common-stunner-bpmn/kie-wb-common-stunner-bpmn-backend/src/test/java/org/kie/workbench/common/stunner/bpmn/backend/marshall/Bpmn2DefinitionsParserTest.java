@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.marshall;
+
+import java.io.InputStream;
+
+import org.eclipse.bpmn2.Definitions;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class Bpmn2DefinitionsParserTest {
+
+    private static final String BPMN = "/org/kie/workbench/common/stunner/bpmn/backend/service/diagram/evaluation.bpmn";
+
+    @Test
+    public void testParseReleasesResourceSet() throws Exception {
+        final Bpmn2DefinitionsParser parser = new Bpmn2DefinitionsParser(2);
+
+        final Definitions first = parse(parser);
+        final Definitions second = parse(parser);
+
+        assertNotNull(first);
+        assertFalse(first.getRootElements().isEmpty());
+        assertNotSame(first,
+                      second);
+        //The Definitions are still contained in their Resource, which is no longer in the pooled ResourceSet
+        assertNotNull(first.eResource());
+        assertNull(first.eResource().getResourceSet());
+        assertEquals(1,
+                     parser.getIdleResourceSets());
+    }
+
+    private Definitions parse(final Bpmn2DefinitionsParser parser) throws Exception {
+        try (InputStream is = getClass().getResourceAsStream(BPMN)) {
+            return parser.parse(is);
+        }
+    }
+}
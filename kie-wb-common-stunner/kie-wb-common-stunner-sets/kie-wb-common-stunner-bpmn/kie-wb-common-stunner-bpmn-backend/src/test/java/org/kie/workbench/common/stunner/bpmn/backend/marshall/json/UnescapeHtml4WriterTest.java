@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.backend.marshall.json;
+
+import java.io.StringWriter;
+
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class UnescapeHtml4WriterTest {
+
+    private static final String ESCAPED = "<script>if (a &lt; b &amp;&amp; c &gt; d) { s = &quot;&#8364; &eacute;&quot;; }</script> & done";
+
+    @Test
+    public void testUnescapeAsAWhole() throws Exception {
+        assertEquals(StringEscapeUtils.unescapeHtml4(ESCAPED),
+                     write(ESCAPED.length()));
+    }
+
+    @Test
+    public void testUnescapeEntitiesSplitAcrossWrites() throws Exception {
+        for (int chunk = 1; chunk < 12; chunk++) {
+            assertEquals(StringEscapeUtils.unescapeHtml4(ESCAPED),
+                         write(chunk));
+        }
+    }
+
+    private static String write(final int chunk) throws Exception {
+        final StringWriter out = new StringWriter();
+        final UnescapeHtml4Writer writer = new UnescapeHtml4Writer(out);
+        for (int i = 0; i < ESCAPED.length(); i += chunk) {
+            writer.write(ESCAPED,
+                         i,
+                         Math.min(chunk,
+                                  ESCAPED.length() - i));
+        }
+        writer.finish();
+        return out.toString();
+    }
+}
@@ -17,12 +17,15 @@
 package org.kie.workbench.common.stunner.bpmn.backend.service.diagram;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.enterprise.inject.spi.BeanManager;
 
 import org.junit.Before;
@@ -33,6 +36,7 @@ import org.kie.workbench.common.stunner.backend.definition.factory.TestScopeMode
 import org.kie.workbench.common.stunner.backend.service.XMLEncoderDiagramMetadataMarshaller;
 import org.kie.workbench.common.stunner.bpmn.BPMNDefinitionSet;
 import org.kie.workbench.common.stunner.bpmn.backend.BPMNDiagramMarshaller;
+import org.kie.workbench.common.stunner.bpmn.backend.marshall.Bpmn2DefinitionsParser;
 import org.kie.workbench.common.stunner.bpmn.backend.marshall.json.builder.BPMNGraphObjectBuilderFactory;
 import org.kie.workbench.common.stunner.bpmn.backend.marshall.json.oryx.Bpmn2OryxIdMappings;
 import org.kie.workbench.common.stunner.bpmn.backend.marshall.json.oryx.Bpmn2OryxManager;
@@ -118,8 +122,11 @@ import org.kie.workbench.common.stunner.core.rule.violations.DefaultRuleViolatio
 import org.kie.workbench.common.stunner.core.util.DefinitionUtils;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.junit.Assert.*;
+import static org.junit.Assume.*;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -129,6 +136,8 @@ import static org.mockito.Mockito.*;
 @RunWith(MockitoJUnitRunner.class)
 public class BPMNDiagramMarshallerTest {
 
+    private static final Logger LOG = LoggerFactory.getLogger(BPMNDiagramMarshallerTest.class);
+
     private static final String BPMN_DEF_SET_ID = BindableAdapterUtils.getDefinitionSetId(BPMNDefinitionSet.class);
 
     private static final String BPMN_BASIC = "org/kie/workbench/common/stunner/bpmn/backend/service/diagram/basic.bpmn";
@@ -1775,6 +1784,139 @@ public class BPMNDiagramMarshallerTest {
         testMagnetsInLane(diagram2);
     }
 
+    @Test
+    public void testUnmarshallLargeProcess() throws Exception {
+        final int tasks = 300;
+        Diagram<Graph, Metadata> diagram = unmarshall(new ByteArrayInputStream(largeProcess(tasks)));
+        assertDiagram(diagram,
+                      tasks + 3);
+        Node<? extends View, ?> lastTask = diagram.getGraph().getNode("task" + (tasks - 1));
+        assertTrue(lastTask.getContent().getDefinition() instanceof NoneTask);
+        assertEquals(1,
+                     lastTask.getInEdges().size());
+        assertEquals(1,
+                     lastTask.getOutEdges().size());
+    }
+
+    @Test
+    public void testMarshallLargeProcessToStream() throws Exception {
+        final int tasks = 300;
+        Diagram<Graph, Metadata> diagram = unmarshall(new ByteArrayInputStream(largeProcess(tasks)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        tested.marshall(diagram,
+                        outputStream);
+        String result = outputStream.toString("UTF-8");
+        assertTrue(result.startsWith("<?xml"));
+        assertDiagram(result,
+                      1,
+                      tasks + 2,
+                      tasks + 1);
+    }
+
+    /**
+     * Measures the unmarshalling time for generated processes of increasing size, against the time spent just parsing
+     * the same processes into their EMF model. The difference is the cost of building the graph, which should stay a
+     * similar multiple of the parse time as the processes grow.
+     * <p>
+     * Run with <code>mvn test -Dtest=BPMNDiagramMarshallerTest#testUnmarshallLargeProcessBenchmark -Dkie.wb.benchmark=true</code>
+     */
+    @Test
+    public void testUnmarshallLargeProcessBenchmark() throws Exception {
+        assumeTrue(Boolean.getBoolean("kie.wb.benchmark"));
+        final int[] sizes = {250, 1000, 2000};
+        final int iterations = 5;
+        // Warm up.
+        for (int i = 0; i < iterations; i++) {
+            Bpmn2DefinitionsParser.getInstance().parse(new ByteArrayInputStream(largeProcess(sizes[0])));
+            unmarshall(new ByteArrayInputStream(largeProcess(sizes[0])));
+        }
+        for (int size : sizes) {
+            final byte[] process = largeProcess(size);
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                assertNotNull(Bpmn2DefinitionsParser.getInstance().parse(new ByteArrayInputStream(process)));
+            }
+            final long parseMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / iterations;
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                assertDiagram(unmarshall(new ByteArrayInputStream(process)),
+                              size + 3);
+            }
+            final long unmarshallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / iterations;
+            LOG.info("Process with {} tasks: parsed in {} ms, unmarshalled in {} ms ({} ms building the graph)",
+                     size,
+                     parseMillis,
+                     unmarshallMillis,
+                     unmarshallMillis - parseMillis);
+        }
+    }
+
+    // A start event, a chain of tasks connected by sequence flows and an end event.
+    private static byte[] largeProcess(final int tasks) {
+        final StringBuilder process = new StringBuilder();
+        final StringBuilder shapes = new StringBuilder();
+        process.append("<bpmn2:startEvent id=\"start\" name=\"start\">")
+                .append("<bpmn2:outgoing>flow0</bpmn2:outgoing></bpmn2:startEvent>");
+        shape(shapes,
+              "start",
+              0,
+              30,
+              30);
+        for (int i = 0; i < tasks; i++) {
+            process.append("<bpmn2:task id=\"task").append(i).append("\" name=\"task").append(i).append("\">")
+                    .append("<bpmn2:incoming>flow").append(i).append("</bpmn2:incoming>")
+                    .append("<bpmn2:outgoing>flow").append(i + 1).append("</bpmn2:outgoing></bpmn2:task>");
+            shape(shapes,
+                  "task" + i,
+                  100 + i * 200,
+                  136,
+                  48);
+        }
+        process.append("<bpmn2:endEvent id=\"end\" name=\"end\">")
+                .append("<bpmn2:incoming>flow").append(tasks).append("</bpmn2:incoming></bpmn2:endEvent>");
+        shape(shapes,
+              "end",
+              100 + tasks * 200,
+              28,
+              28);
+        for (int i = 0; i <= tasks; i++) {
+            final String source = i == 0 ? "start" : "task" + (i - 1);
+            final String target = i == tasks ? "end" : "task" + i;
+            process.append("<bpmn2:sequenceFlow id=\"flow").append(i).append("\" sourceRef=\"").append(source)
+                    .append("\" targetRef=\"").append(target).append("\"/>");
+            shapes.append("<bpmndi:BPMNEdge id=\"_flow").append(i).append("\" bpmnElement=\"flow").append(i).append("\">")
+                    .append("<di:waypoint xsi:type=\"dc:Point\" x=\"").append(i * 200 + 50).append("\" y=\"24.0\"/>")
+                    .append("<di:waypoint xsi:type=\"dc:Point\" x=\"").append(i * 200 + 100).append("\" y=\"24.0\"/>")
+                    .append("</bpmndi:BPMNEdge>");
+        }
+        final String bpmn = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                "<bpmn2:definitions xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" " +
+                "xmlns:bpmn2=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" " +
+                "xmlns:bpmndi=\"http://www.omg.org/spec/BPMN/20100524/DI\" " +
+                "xmlns:dc=\"http://www.omg.org/spec/DD/20100524/DC\" " +
+                "xmlns:di=\"http://www.omg.org/spec/DD/20100524/DI\" " +
+                "xmlns:drools=\"http://www.jboss.org/drools\" id=\"_large\" targetNamespace=\"http://www.omg.org/bpmn20\">" +
+                "<bpmn2:process id=\"large\" drools:packageName=\"org.test\" name=\"Large process\" isExecutable=\"true\">" +
+                process +
+                "</bpmn2:process>" +
+                "<bpmndi:BPMNDiagram id=\"_largeDiagram\"><bpmndi:BPMNPlane id=\"_largePlane\" bpmnElement=\"large\">" +
+                shapes +
+                "</bpmndi:BPMNPlane></bpmndi:BPMNDiagram>" +
+                "</bpmn2:definitions>";
+        return bpmn.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void shape(final StringBuilder shapes,
+                              final String element,
+                              final int x,
+                              final int width,
+                              final int height) {
+        shapes.append("<bpmndi:BPMNShape id=\"_").append(element).append("\" bpmnElement=\"").append(element).append("\">")
+                .append("<dc:Bounds height=\"").append(height).append(".0\" width=\"").append(width)
+                .append(".0\" x=\"").append(x).append(".0\" y=\"0.0\"/>")
+                .append("</bpmndi:BPMNShape>");
+    }
+
     private void assertDiagram(String result,
                                int diagramCount,
                                int nodeCount,
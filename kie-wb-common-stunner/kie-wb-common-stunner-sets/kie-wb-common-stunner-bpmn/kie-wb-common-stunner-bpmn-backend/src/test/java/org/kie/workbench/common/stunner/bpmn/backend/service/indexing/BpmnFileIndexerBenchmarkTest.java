@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.stunner.bpmn.backend.service.indexing;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.bpmn.backend.indexing.BpmnFileIndexer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+/**
+ * Measures the BPMN2 indexing throughput, in files per second, over the BPMN2 files used by the tests of this module.
+ * <p>
+ * Run with <code>mvn test -Dtest=BpmnFileIndexerBenchmarkTest -Dkie.wb.benchmark=true</code>
+ */
+public class BpmnFileIndexerBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BpmnFileIndexerBenchmarkTest.class);
+
+    private static final String INDEXING = "/org/kie/workbench/common/stunner/bpmn/backend/service/indexing/";
+    private static final String DIAGRAMS = "/org/kie/workbench/common/stunner/bpmn/backend/service/diagram/";
+
+    private static final String[] CORPUS = {
+            INDEXING + "callActivity.bpmn",
+            INDEXING + "callActivityByName.bpmn",
+            INDEXING + "callActivityCalledSubProcess.bpmn",
+            INDEXING + "hiring.bpmn",
+            INDEXING + "multipleRuleTasksWithDataInput.bpmn",
+            INDEXING + "signal.bpmn",
+            INDEXING + "brokenSignal.bpmn",
+            DIAGRAMS + "basic.bpmn",
+            DIAGRAMS + "businessRuleTask.bpmn",
+            DIAGRAMS + "evaluation.bpmn",
+            DIAGRAMS + "lanes.bpmn",
+            DIAGRAMS + "processVariables.bpmn",
+            DIAGRAMS + "reusableSubprocessCalledElement.bpmn",
+            DIAGRAMS + "scriptTask.bpmn",
+            DIAGRAMS + "userTaskAssignments.bpmn",
+            DIAGRAMS + "xorGateway.bpmn"
+    };
+
+    private static final int WARM_UP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    private final List<String> corpus = new ArrayList<>();
+    private final BenchmarkBpmnFileIndexer indexer = new BenchmarkBpmnFileIndexer();
+
+    @Before
+    public void setUp() throws Exception {
+        assumeTrue(Boolean.getBoolean("kie.wb.benchmark"));
+        for (String file : CORPUS) {
+            try (InputStream is = getClass().getResourceAsStream(file);
+                 Scanner scanner = new Scanner(is,
+                                               "UTF-8")) {
+                corpus.add(scanner.useDelimiter("\\A").next());
+            }
+        }
+    }
+
+    @Test
+    public void testIndexingThroughput() {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            indexCorpus();
+        }
+
+        int processes = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            processes += indexCorpus();
+        }
+        final long elapsedMillis = Math.max(1,
+                                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        final long files = (long) corpus.size() * MEASURED_ITERATIONS;
+
+        assertTrue(processes > 0);
+        logger.info("Indexed {} BPMN2 files in {} ms: {} files/second",
+                    files,
+                    elapsedMillis,
+                    files * 1000 / elapsedMillis);
+    }
+
+    private int indexCorpus() {
+        int processes = 0;
+        for (int i = 0; i < corpus.size(); i++) {
+            processes += indexer.index(corpus.get(i),
+                                       CORPUS[i]);
+        }
+        return processes;
+    }
+
+    private static class BenchmarkBpmnFileIndexer extends BpmnFileIndexer {
+
+        int index(final String bpmn2Content,
+                  final String uri) {
+            return readProcessData(bpmn2Content,
+                                   getClass().getClassLoader(),
+                                   uri).size();
+        }
+    }
+}